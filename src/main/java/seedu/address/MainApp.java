@@ -3,9 +3,12 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -22,6 +25,8 @@ import seedu.address.model.ReadOnlyPersonnelDatabase;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonHistorySpill;
+import seedu.address.storage.JsonPersonnelDatabaseJournal;
 import seedu.address.storage.JsonPersonnelDatabaseStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.PersonnelDatabaseStorage;
@@ -46,6 +51,23 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Where versions of the personnel database kept for undo are written once there are too many to keep in memory
+    private final JsonHistorySpill historySpill = new JsonHistorySpill();
+
+    // Single daemon thread that duty schedules are made on, away from the JavaFX thread
+    private final ExecutorService scheduleExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Single daemon thread that changes to the personnel database are saved on, away from the JavaFX thread
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing PersonnelDatabase ]===========================");
@@ -56,15 +78,20 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        PersonnelDatabaseStorage personnelDatabaseStorage =
-                new JsonPersonnelDatabaseStorage(userPrefs.getPersonnelDatabaseFilePath());
+        Path personnelDatabaseFilePath = userPrefs.getPersonnelDatabaseFilePath();
+        Path journalFilePath = personnelDatabaseFilePath.resolveSibling(personnelDatabaseFilePath.getFileName()
+                + ".journal");
+        PersonnelDatabaseStorage personnelDatabaseStorage = new JsonPersonnelDatabaseStorage(personnelDatabaseFilePath,
+                new JsonPersonnelDatabaseJournal(journalFilePath));
         storage = new StorageManager(personnelDatabaseStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        logicManager.setSaveExecutors(saveExecutor, Platform::runLater);
+        logic = logicManager;
 
         ui = new UiManager(logic);
     }
@@ -93,7 +120,10 @@ public class MainApp extends Application {
             initialData = new PersonnelDatabase();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        modelManager.setScheduleExecutors(scheduleExecutor, Platform::runLater);
+        modelManager.setHistorySpill(historySpill);
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -178,11 +208,28 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        model.cancelScheduling();
+        scheduleExecutor.shutdownNow();
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save changes to the personnel database " + StringUtil.getDetails(e));
+        }
+        saveExecutor.shutdown();
+        // The saver writes the preferences too, so they are only saved here once it has nothing left to write
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (storage.hasJournaledPersonnelDatabaseEdits()) {
+            try {
+                storage.savePersonnelDatabase(model.getPersonnelDatabase());
+            } catch (IOException e) {
+                logger.severe("Failed to save data file, edits are kept in the journal " + StringUtil.getDetails(e));
+            }
+        }
+        historySpill.close();
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,33 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Pool of shared instances of an immutable value class wrapping a string, so that equal values share one instance.
+ * Instances are looked up by their string, so a value already in the pool is neither built nor validated again.
+ * Each instance must keep the very string it was built from, which keeps its entry alive; the pool holds both
+ * weakly, so values no longer used anywhere else drop out of it.
+ */
+public class Interner<T> {
+
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the shared instance of {@code value}, building it with {@code create} if there is none.
+     */
+    public synchronized T intern(String value, Function<String, T> create) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T shared = reference == null ? null : reference.get();
+        if (shared == null) {
+            shared = create.apply(value);
+            pool.put(value, new WeakReference<>(shared));
+        }
+        return shared;
+    }
+}
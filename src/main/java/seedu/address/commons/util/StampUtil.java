@@ -0,0 +1,20 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gives out stamps marking the state of objects that change.
+ * No two stamps given out are the same, so an object that takes a new stamp whenever it changes can be told
+ * to be unchanged, and to be the very same object, by comparing its stamp with one seen before.
+ */
+public class StampUtil {
+
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    /**
+     * Returns a stamp that has never been given out before.
+     */
+    public static long nextStamp() {
+        return LAST_STAMP.incrementAndGet();
+    }
+}
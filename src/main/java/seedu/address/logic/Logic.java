@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -12,6 +13,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
 import seedu.address.model.duty.DutyMonth;
 import seedu.address.model.duty.DutySettings;
+import seedu.address.model.duty.ScheduleProgress;
 import seedu.address.model.person.Person;
 
 /**
@@ -79,6 +81,28 @@ public interface Logic {
      */
     ReadOnlyProperty<Person> selectedPersonProperty();
 
+    /**
+     * Progress of the scheduling running in the background.
+     * null if no scheduling is running.
+     *
+     * @see seedu.address.model.Model#scheduleProgressProperty()
+     */
+    ReadOnlyProperty<ScheduleProgress> scheduleProgressProperty();
+
+    /**
+     * Changes to the personnel database are saved in the background after the command making them has returned.
+     * Returns the message telling why the last save failed, or null if it succeeded. The changes that could not
+     * be saved are kept, and saved again after the next command.
+     */
+    ReadOnlyProperty<String> saveFailureProperty();
+
+    /**
+     * Saves the changes to the personnel database not saved yet, waiting for the save in progress, if any.
+     *
+     * @throws IOException if the changes could not be saved.
+     */
+    void flush() throws IOException;
+
     /**
      * Sets the selected person in the filtered person list.
      *
@@ -2,9 +2,13 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -17,10 +21,13 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.PersonnelDatabaseParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonnelDatabaseEdit;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
 import seedu.address.model.duty.DutyMonth;
 import seedu.address.model.duty.DutySettings;
+import seedu.address.model.duty.ScheduleProgress;
 import seedu.address.model.person.Person;
+import seedu.address.storage.PersonnelDatabaseSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,6 +41,8 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final CommandHistory history;
     private final PersonnelDatabaseParser personnelDatabaseParser;
+    private final PersonnelDatabaseSaver saver;
+    private final SimpleStringProperty saveFailure = new SimpleStringProperty();
     private boolean personnelDatabaseModified;
 
     public LogicManager(Model model, Storage storage) {
@@ -41,6 +50,9 @@ public class LogicManager implements Logic {
         this.storage = storage;
         history = new CommandHistory();
         personnelDatabaseParser = new PersonnelDatabaseParser();
+        saver = new PersonnelDatabaseSaver(storage);
+        saver.saveFailureProperty().addListener((observable, oldFailure, newFailure) ->
+                saveFailure.set(newFailure == null ? null : FILE_OPS_ERROR_MESSAGE + newFailure));
 
         // Set personnelDatabaseModified to true whenever the models' personnel database is modified.
         model.getPersonnelDatabase().addListener(observable -> personnelDatabaseModified = true);
@@ -50,7 +62,10 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText, UserType user, String userName)
             throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        // Changes made since the last command was saved, such as by scheduling, are only kept by saving the data file
+        boolean hasUnsavedChanges = personnelDatabaseModified;
         personnelDatabaseModified = false;
+        model.takeCommittedEdits();
 
         CommandResult commandResult;
         try {
@@ -68,18 +83,35 @@ public class LogicManager implements Logic {
         }
 
         if (personnelDatabaseModified) {
-            logger.info("Personnel database modified, saving to file.");
-            try {
-                storage.savePersonnelDatabase(model.getPersonnelDatabase());
-                storage.saveUserPrefs(model.getUserPrefs());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            logger.info("Personnel database modified, handing it over to be saved.");
+            Optional<List<PersonnelDatabaseEdit>> edits = model.takeCommittedEdits()
+                    .filter(committedEdits -> !hasUnsavedChanges && !committedEdits.isEmpty());
+            saver.save(model.getPersonnelDatabaseSnapshot(), model.getUserPrefs(), edits);
+            personnelDatabaseModified = false;
+        } else {
+            saver.retry();
         }
 
         return commandResult;
     }
 
+    /**
+     * Sets the executor saving the personnel database, and the executor the outcome of each save is reported on.
+     */
+    public void setSaveExecutors(Executor saveExecutor, Executor saveCompletionExecutor) {
+        saver.setExecutors(saveExecutor, saveCompletionExecutor);
+    }
+
+    @Override
+    public ReadOnlyProperty<String> saveFailureProperty() {
+        return saveFailure;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saver.flush();
+    }
+
     @Override
     public ReadOnlyPersonnelDatabase getPersonnelDatabase() {
         return model.getPersonnelDatabase();
@@ -128,6 +160,11 @@ public class LogicManager implements Logic {
         return model.selectedPersonProperty();
     }
 
+    @Override
+    public ReadOnlyProperty<ScheduleProgress> scheduleProgressProperty() {
+        return model.scheduleProgressProperty();
+    }
+
     @Override
     public void setSelectedPerson(Person person) {
         model.setSelectedPerson(person);
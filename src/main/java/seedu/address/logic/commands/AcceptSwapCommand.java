@@ -11,6 +11,8 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.edit.AcceptRequestEdit;
+import seedu.address.model.person.Person;
 import seedu.address.model.request.Request;
 
 /**
@@ -33,6 +35,8 @@ public class AcceptSwapCommand extends Command {
             "You already have duty on the requester's allocated date.";
     public static final String MESSAGE_INVALID_DAY_REQUESTED =
             "You do not have duty on the requester's requested date.";
+    public static final String MESSAGE_DIFFERENT_PARTITION =
+            "You are not in the requester's %s, so you cannot swap duties with them.";
 
     private final String userName;
     private final Index index;
@@ -74,11 +78,28 @@ public class AcceptSwapCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_DAY_REQUESTED);
         }
 
-        targetRequest.setAccepter(model.findPerson(userName));
-        model.commitPersonnelDatabase();
+        Person accepter = model.findPerson(userName);
+        if (!nextMonth.isSamePartition(model.findPerson(targetRequest.getRequesterNric()), accepter)) {
+            throw new CommandException(String.format(MESSAGE_DIFFERENT_PARTITION, nextMonth.getPartitionMode()));
+        }
+        int requestIndex = indexOf(requests, targetRequest);
+        model.setSwapRequest(requestIndex, targetRequest.withAccepter(accepter));
+        model.commitPersonnelDatabase(new AcceptRequestEdit(requestIndex, accepter));
         return new CommandResult(String.format(MESSAGE_SUCCESS));
     }
 
+    /**
+     * Returns the index of {@code request} itself in {@code requests}, which may hold other requests equal to it.
+     */
+    private static int indexOf(List<Request> requests, Request request) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i) == request) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public CommandResult executeGeneral(Model model, CommandHistory history) throws CommandException {
         return execute(model, history);
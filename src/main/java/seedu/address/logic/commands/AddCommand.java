@@ -13,6 +13,7 @@ import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.edit.AddPersonEdit;
 import seedu.address.model.person.Person;
 
 /**
@@ -64,11 +65,17 @@ public class AddCommand extends Command {
         model.addPerson(toAdd);
 
         boolean isConfirmed = model.getDutyCalendar().getNextMonth().isConfirmed();
+        boolean hasUpdateToUndo = model.getDutyCalendar().getDutyStorage().hasUpdateToUndo();
 
         model.getDutyCalendar().getNextMonth().unconfirm();
-        model.getDutyCalendar().getDutyStorage().undo();
+        model.getDutyCalendar().getDutyStorage().undoUpdate();
 
-        model.commitPersonnelDatabase();
+        if (isConfirmed || hasUpdateToUndo) {
+            // Taking back the confirmation and the duties it served needs the whole state before
+            model.commitPersonnelDatabase();
+        } else {
+            model.commitPersonnelDatabase(new AddPersonEdit(toAdd));
+        }
         return (isConfirmed ? new CommandResult(String.format(MESSAGE_SUCCESS + MESSAGE_RUN_SCHEDULE_AGAIN, toAdd))
                 : new CommandResult(String.format(MESSAGE_SUCCESS, toAdd)));
     }
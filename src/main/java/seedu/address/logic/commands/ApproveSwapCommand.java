@@ -12,6 +12,8 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.edit.SwapDutiesEdit;
 import seedu.address.model.person.Person;
 import seedu.address.model.request.Request;
 
@@ -33,6 +35,10 @@ public class ApproveSwapCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Approved swap. Schedule and points have been updated.";
     public static final String MESSAGE_INVALID_INDEX = "There is no swap request of this index.";
+    public static final String MESSAGE_SWAP_NOT_POSSIBLE = "The duties of this request have changed, "
+            + "so the swap can no longer be made.";
+    public static final String MESSAGE_DIFFERENT_PARTITION = "The requester and accepter are not in the same %s, "
+            + "so their duties cannot be swapped.";
 
     private final Index index;
 
@@ -67,10 +73,17 @@ public class ApproveSwapCommand extends Command {
         int requestedDateDay = requestedDate.getDayOfMonth();
         Person requester = model.findPerson(targetRequest.getRequesterNric());
         Person accepter = model.findPerson(targetRequest.getAccepterNric());
-        nextMonth.swap(requester, accepter, allocatedDateDay, requestedDateDay,
-                model.getDutyCalendar().getDutyStorage());
+        if (!nextMonth.isSamePartition(requester, accepter)) {
+            throw new CommandException(String.format(MESSAGE_DIFFERENT_PARTITION, nextMonth.getPartitionMode()));
+        }
+        DutyStorage dutyStorage = model.getDutyCalendar().getDutyStorage();
+        if (!nextMonth.swap(requester, accepter, allocatedDateDay, requestedDateDay, dutyStorage)) {
+            throw new CommandException(MESSAGE_SWAP_NOT_POSSIBLE);
+        }
 
-        model.commitPersonnelDatabase();
+        model.commitPersonnelDatabase(new SwapDutiesEdit(requester, accepter, nextMonth.getYear(),
+                nextMonth.getMonthIndex(), allocatedDateDay, requestedDateDay,
+                nextMonth.isConfirmed() ? dutyStorage.getLastOperationId() : DutyStorage.NO_OPERATION));
         return new CommandResult(String.format(MESSAGE_SUCCESS));
     }
 
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
@@ -7,6 +8,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.edit.BlockDatesEdit;
 import seedu.address.model.person.Person;
 /**
  * A command to block dates for the next month of duties.
@@ -44,11 +46,17 @@ public class BlockDateCommand extends Command {
         if (blockedDates.size() > MAX_BLOCK_NUMBER) {
             throw new CommandException(MESSAGE_TOO_MANY_BLOCKED_DATES);
         }
+        List<Integer> daysAdded = new ArrayList<>();
         for (Integer blockedDay : blockedDates) {
+            List<Integer> daysBlocked = nextMonth.getBlockedDates().get(person);
+            if (daysBlocked == null || !daysBlocked.contains(blockedDay)) {
+                daysAdded.add(blockedDay);
+            }
             nextMonth.addBlockedDay(person, blockedDay);
         }
 
-        model.commitPersonnelDatabase();
+        model.commitPersonnelDatabase(new BlockDatesEdit(person, nextMonth.getYear(), nextMonth.getMonthIndex(),
+                daysAdded));
 
         return new CommandResult(String.format(MESSAGE_BLOCK_DATES_SUCCESS));
     }
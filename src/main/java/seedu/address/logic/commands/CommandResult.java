@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import seedu.address.commons.core.UiCommandInteraction;
 
@@ -14,13 +16,25 @@ public class CommandResult {
     private final String feedbackToUser;
     private final UiCommandInteraction uiCommandInteraction;
 
+    // Feedback given when work the command left running in the background is done, if any
+    private final CompletionStage<String> pendingFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
 
-    public CommandResult(String feedbackToUser, UiCommandInteraction uiCommandInteraction) {
+    public CommandResult(String feedbackToUser, UiCommandInteraction uiCommandInteraction,
+                         CompletionStage<String> pendingFeedback) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.uiCommandInteraction = uiCommandInteraction;
+        this.pendingFeedback = pendingFeedback;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, and no pending feedback.
+     */
+    public CommandResult(String feedbackToUser, UiCommandInteraction uiCommandInteraction) {
+        this(feedbackToUser, uiCommandInteraction, null);
     }
 
     /**
@@ -39,6 +53,10 @@ public class CommandResult {
         return uiCommandInteraction;
     }
 
+    public Optional<CompletionStage<String>> getPendingFeedback() {
+        return Optional.ofNullable(pendingFeedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
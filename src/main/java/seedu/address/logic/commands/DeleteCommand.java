@@ -10,8 +10,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.duty.DutyMonth;
-import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.duty.Duty;
 import seedu.address.model.person.Person;
 
 /**
@@ -26,8 +25,10 @@ public class DeleteCommand extends Command {
             + "Parameters: INDEX (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
-    public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s\n"
-            + "Please run \"schedule\" again.";
+    public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DUTIES_REPAIRED = "\n%1$d duties held were refilled.";
+    public static final String MESSAGE_DUTIES_UNFILLED = "\n%1$d duties could not be refilled, "
+            + "please run \"schedule\" again.";
 
     private final Index targetIndex;
     private final String userName;
@@ -50,21 +51,25 @@ public class DeleteCommand extends Command {
         String userNameDeleted = personToDelete.getNric().value;
         model.deletePerson(personToDelete);
 
-        DutyMonth dutyMonth = model.getDutyCalendar().getNextMonth();
-        DutyStorage dutyStorage = model.getDutyStorage();
-        dutyMonth.clearAllDuties();
-        dutyStorage.removePerson(personToDelete);
-        dutyMonth.unconfirm();
-        dutyStorage.undo();
+        // Refill from the persons that duties are scheduled from
+        List<Duty> repairedDuties = model.getDutyCalendar().repair(personToDelete,
+                model.getFilteredPersonList(), model.getDutySettings());
+        model.getDutyStorage().removePerson(personToDelete);
 
         model.deleteRequestsWithPerson(personToDelete);
 
         model.commitPersonnelDatabase();
+        String message = String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete);
+        if (!repairedDuties.isEmpty()) {
+            long unfilled = repairedDuties.stream().filter(duty -> !duty.isFilled()).count();
+            message += unfilled == 0
+                    ? String.format(MESSAGE_DUTIES_REPAIRED, repairedDuties.size())
+                    : String.format(MESSAGE_DUTIES_UNFILLED, unfilled);
+        }
         if (userNameDeleted.equals(userName)) {
-            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete),
-                    UiCommandInteraction.EXIT);
+            return new CommandResult(message, UiCommandInteraction.EXIT);
         }
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
+        return new CommandResult(message);
     }
 
     @Override
@@ -1,10 +1,14 @@
 package seedu.address.logic.commands;
 
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.duty.DutySettings;
+import seedu.address.model.duty.PartitionMode;
+import seedu.address.model.duty.SchedulerType;
 /**
  * Allows admin to modify settings of the duties to allow different points and number of personnel for duties
  */
@@ -15,17 +19,42 @@ public class DutySettingsCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + " : "
             + "View and update manpower needed and points awarded for duties on given day of week\n"
             + "Manpower can range from 1 to 10. Points can range from 1 to 1000.\n"
-            + "Example: " + COMMAND_WORD + " d/Sun m/3 p/4";
+            + "Example: " + COMMAND_WORD + " d/Sun m/3 p/4\n"
+            + "Number of scheduling attempts and their time budget in milliseconds can also be updated.\n"
+            + "Attempts can range from 1 to 64. Time budget can range from 1 to 60000.\n"
+            + "Example: " + COMMAND_WORD + " a/8 tb/2000\n"
+            + "The scheduler used can be greedy or optimal.\n"
+            + "Example: " + COMMAND_WORD + " e/optimal\n"
+            + "Time in milliseconds spent evening out points after scheduling can range from 0 (off) to 60000.\n"
+            + "Example: " + COMMAND_WORD + " f/500\n"
+            + "Personnel can be scheduled separately by none, company or section.\n"
+            + "Example: " + COMMAND_WORD + " g/company\n"
+            + "Rules can require days of rest between duties (0 for none) and limit weekend duties (0 for no limit).\n"
+            + "Example: " + COMMAND_WORD + " r/2 w/1\n"
+            + "Personnel with a tag or rank can be kept off duties on days of the week, leave out d/ to lift this.\n"
+            + "Example: " + COMMAND_WORD + " x/Medic d/Sat d/Sun";
 
-    public static final String MESSAGE_VIEW_SETTINGS = "Duty Settings for each day of the week:\n\n%s";
+    public static final String MESSAGE_VIEW_SETTINGS = "Duty Settings for each day of the week:\n\n%s\n%s%s";
     public static final String MESSAGE_CHANGE_SETTINGS_SUCCESS = "Settings successfully changed!"
             + "Note that changes will only affect the next time a schedule is confirmed.\n"
             + "Current confirmed schedules will not be affected.\n\n%s";
+    public static final String MESSAGE_CHANGE_SCHEDULE_OPTIONS_SUCCESS = "Scheduling options successfully changed!\n"
+            + "Note that changes will only affect the next time a schedule is generated.\n\n%s";
 
     private boolean isView;
+    private boolean isScheduleOptions;
     private int dayOfWeek;
     private int capacity;
     private int points;
+    private int scheduleAttempts;
+    private long scheduleTimeBudget;
+    private SchedulerType schedulerType;
+    private Long fairnessTimeBudget;
+    private PartitionMode partitionMode;
+    private Integer minRestDays;
+    private Integer maxWeekendDuties;
+    private String restrictedTagOrRank;
+    private Set<Integer> restrictedDaysOfWeek;
 
     public DutySettingsCommand() {
         this.isView = true;
@@ -38,12 +67,80 @@ public class DutySettingsCommand extends Command {
         this.isView = false;
     }
 
+    public DutySettingsCommand(int scheduleAttempts, long scheduleTimeBudget) {
+        this.scheduleAttempts = scheduleAttempts;
+        this.scheduleTimeBudget = scheduleTimeBudget;
+        this.isView = false;
+        this.isScheduleOptions = true;
+    }
+
+    public DutySettingsCommand(SchedulerType schedulerType) {
+        this.schedulerType = schedulerType;
+        this.isView = false;
+    }
+
+    public DutySettingsCommand(PartitionMode partitionMode) {
+        this.partitionMode = partitionMode;
+        this.isView = false;
+    }
+
+    public DutySettingsCommand(long fairnessTimeBudget) {
+        this.fairnessTimeBudget = fairnessTimeBudget;
+        this.isView = false;
+    }
+
+    /**
+     * Creates a command changing the rules of the schedule, leaving a rule unchanged if it is null.
+     */
+    public DutySettingsCommand(Integer minRestDays, Integer maxWeekendDuties) {
+        this.minRestDays = minRestDays;
+        this.maxWeekendDuties = maxWeekendDuties;
+        this.isView = false;
+    }
+
+    public DutySettingsCommand(String restrictedTagOrRank, Set<Integer> restrictedDaysOfWeek) {
+        this.restrictedTagOrRank = restrictedTagOrRank;
+        this.restrictedDaysOfWeek = restrictedDaysOfWeek;
+        this.isView = false;
+    }
+
     @Override
     public CommandResult executeAdmin(Model model, CommandHistory history) throws CommandException {
         DutySettings dutySettings = model.getDutySettings();
         if (isView) {
             return new CommandResult(String.format(MESSAGE_VIEW_SETTINGS,
-                    dutySettings.printDayOfWeek()));
+                    dutySettings.printDayOfWeek(), dutySettings.printScheduleOptions(),
+                    dutySettings.printConstraints()));
+        } else if (restrictedTagOrRank != null) {
+            dutySettings.setRestrictedDays(this.restrictedTagOrRank, this.restrictedDaysOfWeek);
+            return new CommandResult(String.format(MESSAGE_CHANGE_SCHEDULE_OPTIONS_SUCCESS,
+                    dutySettings.printConstraints()));
+        } else if (minRestDays != null || maxWeekendDuties != null) {
+            if (minRestDays != null) {
+                dutySettings.setMinRestDays(this.minRestDays);
+            }
+            if (maxWeekendDuties != null) {
+                dutySettings.setMaxWeekendDuties(this.maxWeekendDuties);
+            }
+            return new CommandResult(String.format(MESSAGE_CHANGE_SCHEDULE_OPTIONS_SUCCESS,
+                    dutySettings.printConstraints()));
+        } else if (schedulerType != null) {
+            dutySettings.setSchedulerType(this.schedulerType);
+            return new CommandResult(String.format(MESSAGE_CHANGE_SCHEDULE_OPTIONS_SUCCESS,
+                    dutySettings.printScheduleOptions()));
+        } else if (partitionMode != null) {
+            dutySettings.setPartitionMode(this.partitionMode);
+            return new CommandResult(String.format(MESSAGE_CHANGE_SCHEDULE_OPTIONS_SUCCESS,
+                    dutySettings.printScheduleOptions()));
+        } else if (fairnessTimeBudget != null) {
+            dutySettings.setFairnessTimeBudget(this.fairnessTimeBudget);
+            return new CommandResult(String.format(MESSAGE_CHANGE_SCHEDULE_OPTIONS_SUCCESS,
+                    dutySettings.printScheduleOptions()));
+        } else if (isScheduleOptions) {
+            dutySettings.setScheduleAttempts(this.scheduleAttempts);
+            dutySettings.setScheduleTimeBudget(this.scheduleTimeBudget);
+            return new CommandResult(String.format(MESSAGE_CHANGE_SCHEDULE_OPTIONS_SUCCESS,
+                    dutySettings.printScheduleOptions()));
         } else {
             dutySettings.setCapacity(this.dayOfWeek, this.capacity);
             dutySettings.setPoints(this.dayOfWeek, this.points);
@@ -26,9 +26,6 @@ import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.duty.Duty;
-import seedu.address.model.duty.DutyMonth;
-import seedu.address.model.duty.DutyStorage;
 import seedu.address.model.person.Company;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nric;
@@ -140,21 +137,16 @@ public class EditCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        DutyMonth dutyMonth = model.getDutyCalendar().getNextMonth();
-        DutyStorage dutyStorage = model.getDutyStorage();
-        for (Duty duty : dutyMonth.getScheduledDuties()) {
-            if (duty.contains(personToEdit)) {
-                duty.replacePerson(personToEdit, editedPerson);
-            }
-        }
-        dutyStorage.replacePerson(personToEdit, editedPerson);
+        model.getDutyCalendar().replacePerson(personToEdit, editedPerson);
+        model.getDutyStorage().replacePerson(personToEdit, editedPerson);
 
         List<Request> requests = model.getPersonnelDatabase().getRequestList();
-        for (Request req : requests) {
+        for (int i = 0; i < requests.size(); i++) {
+            Request req = requests.get(i);
             if (req.getRequester().equals(personToEdit)) {
-                req.setRequester(editedPerson);
-            } else if (req.getAccepter().equals(personToEdit)) {
-                req.setAccepter(editedPerson);
+                model.setSwapRequest(i, req.withRequester(editedPerson));
+            } else if (personToEdit.equals(req.getAccepter())) {
+                model.setSwapRequest(i, req.withAccepter(editedPerson));
             }
         }
 
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+
+/**
+ * Lists all persons in the personnel database with the given company, section, rank and tags.
+ * Matching is exact and case sensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons with the given company, "
+            + "section and rank, and with all of the given tags, and displays them as a list with index numbers.\n"
+            + "Parameters: [c/COMPANY] [s/SECTION] [r/RANK] [t/TAG]... (at least one must be given)\n"
+            + "Example: " + COMMAND_WORD + " c/HQ s/1 t/Driver";
+
+    private final PersonFilter filter;
+
+    public FilterCommand(PersonFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    /**
+     * Executes the command
+     */
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Set<Person> selected = model.getPersons(filter);
+        model.updateFilteredPersonList(selected::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public CommandResult executeGeneral(Model model, CommandHistory history) {
+        return execute(model, history);
+    }
+
+    @Override
+    public CommandResult executeAdmin(Model model, CommandHistory history) {
+        return execute(model, history);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && filter.equals(((FilterCommand) other).filter)); // state check
+    }
+}
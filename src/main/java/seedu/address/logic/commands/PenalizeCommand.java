@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -11,7 +12,9 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.duty.DutyEvent;
 import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.edit.AdjustPointsEdit;
 import seedu.address.model.person.Person;
 
 /**
@@ -42,16 +45,21 @@ public class PenalizeCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
         List<Person> personTargeted = new ArrayList<>();
+        List<Person> personsAdjusted = new ArrayList<>();
         DutyStorage dutyStorage = model.getDutyStorage();
+        LocalDate today = LocalDate.now();
         for (Index index : this.indexes) {
             if (index.getZeroBased() >= lastShownList.size()) {
                 throw new CommandException(String.format(MESSAGE_INVALID_INDEX, index.getZeroBased() + 1));
             }
             Person target = lastShownList.get(index.getZeroBased());
             personTargeted.add(target);
-            dutyStorage.penalize(target, this.points);
+            if (dutyStorage.penalize(target, this.points, today)) {
+                personsAdjusted.add(target);
+            }
         }
-        model.commitPersonnelDatabase();
+        model.commitPersonnelDatabase(new AdjustPointsEdit(personsAdjusted, this.points,
+                DutyEvent.Kind.PENALTY, today));
         return new CommandResult(String.format(MESSAGE_PENALIZE_SUCCESS,
                 this.points, personTargeted, dutyStorage.printPoints()));
     }
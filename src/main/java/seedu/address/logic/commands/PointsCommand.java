@@ -3,11 +3,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DutyCalendar;
 import seedu.address.model.Model;
 import seedu.address.model.duty.DutyStorage;
 import seedu.address.model.person.Person;
@@ -19,17 +21,58 @@ public class PointsCommand extends Command {
     public static final String COMMAND_WORD = "points";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": displays the duty points accumulated by "
-            + "each person.\nRecords (i.e. duties, points rewarded, points penalized) of each person "
-            + "can also be viewed.\nExample: points 2";
+            + "each person, most points first.\nRecords (i.e. duties, points rewarded, points penalized) and the rank "
+            + "of each person can also be viewed, as can the persons with the most points (top/COUNT), "
+            + "those under some points (under/POINTS) and those at or above a percentile of points "
+            + "(pct/PERCENTILE). The duties and points of a person over the last 12 months are shown with their "
+            + "records.\nExample: points 2, points top/20, points under/10, points pct/90";
 
+    private static final int NUMBER_OF_MONTHS_IN_SUMMARY = 12;
+
+    /**
+     * Views of the points of personnel.
+     */
+    private enum View {
+        ALL, PERSON, TOP, UNDER, PERCENTILE
+    }
+
+    private final View view;
     private final Index index;
+    private final int value;
 
     public PointsCommand() {
-        this.index = null;
+        this(View.ALL, null, 0);
     }
 
     public PointsCommand(Index index) {
+        this(View.PERSON, index, 0);
+    }
+
+    private PointsCommand(View view, Index index, int value) {
+        this.view = view;
         this.index = index;
+        this.value = value;
+    }
+
+    /**
+     * Creates a PointsCommand showing the {@code count} persons with the most points.
+     */
+    public static PointsCommand createTop(int count) {
+        return new PointsCommand(View.TOP, null, count);
+    }
+
+    /**
+     * Creates a PointsCommand showing the persons with fewer than {@code points}.
+     */
+    public static PointsCommand createUnder(int points) {
+        return new PointsCommand(View.UNDER, null, points);
+    }
+
+    /**
+     * Creates a PointsCommand showing the persons at or above the {@code percentile}-th percentile of points.
+     */
+    public static PointsCommand createPercentile(int percentile) {
+        return new PointsCommand(View.PERCENTILE, null, percentile);
     }
 
     @Override
@@ -37,7 +80,16 @@ public class PointsCommand extends Command {
         requireNonNull(model);
         DutyStorage dutyStorage = model.getDutyStorage();
 
-        if (this.index == null) {
+        switch (view) {
+        case TOP:
+            return new CommandResult(dutyStorage.printTopPoints(value));
+        case UNDER:
+            return new CommandResult(dutyStorage.printPointsUnder(value));
+        case PERCENTILE:
+            return new CommandResult(dutyStorage.printPointsFromPercentile(value));
+        case PERSON:
+            break;
+        default:
             return new CommandResult(dutyStorage.printPoints());
         }
 
@@ -46,11 +98,29 @@ public class PointsCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
         Person person = lastShownList.get(index.getZeroBased());
-        return new CommandResult(dutyStorage.printDetails(person));
+        DutyCalendar dutyCalendar = model.getDutyCalendar();
+        int lastMonthIndex = (dutyCalendar.getCurrentMonthIndex() + 11) % 12;
+        int yearOfLastMonth = lastMonthIndex == 11 ? dutyCalendar.getCurrentYear() - 1 : dutyCalendar.getCurrentYear();
+        return new CommandResult(dutyStorage.printDetails(person) + dutyCalendar.getDutyHistory()
+                .printSummary(person, yearOfLastMonth, lastMonthIndex, NUMBER_OF_MONTHS_IN_SUMMARY));
     }
 
     @Override
     public CommandResult executeGeneral(Model model, CommandHistory commandHistory) throws CommandException {
         throw new CommandException(Messages.MESSAGE_NO_AUTHORITY);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PointsCommand)) {
+            return false;
+        }
+        PointsCommand otherCommand = (PointsCommand) other;
+        return view == otherCommand.view
+                && Objects.equals(index, otherCommand.index)
+                && value == otherCommand.value;
+    }
 }
@@ -6,6 +6,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.VersionedPersonnelDatabase;
 
 /**
  * Reverts the {@code model}'s address book to its previously undone state.
@@ -25,7 +26,12 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoPersonnelDatabase();
+        try {
+            model.redoPersonnelDatabase();
+        } catch (VersionedPersonnelDatabase.NoRedoableStateException e) {
+            // The state undone to was spilled and could not be read back
+            throw new CommandException(MESSAGE_FAILURE);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
@@ -54,7 +54,7 @@ public class RejectSwapCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_INDEX);
         }
         Request targetRequest = filteredRequests.get(index.getZeroBased());
-        requests.remove(targetRequest);
+        model.removeSwapRequest(requests.indexOf(targetRequest));
 
         model.commitPersonnelDatabase();
         return new CommandResult(String.format(MESSAGE_SUCCESS));
@@ -2,13 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.duty.DutySettings;
 import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.duty.PartitionMode;
 
 /**
  * Schedules the upcoming duties for the month
@@ -17,22 +22,67 @@ public class ScheduleCommand extends Command {
 
     public static final String COMMAND_WORD = "schedule";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": schedules the duties for the upcoming month.\n";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": schedules the duties for the upcoming month.\n"
+            + "A seed from an earlier schedule can be given to make the same schedule again.\n"
+            + "Parameters: [seed/SEED]\n"
+            + "Example: " + COMMAND_WORD + " seed/1234\n"
+            + "A schedule still being made can be stopped with: " + COMMAND_WORD + " cancel";
 
     public static final String SCHEDULE_SUCCESS =
             "Schedule Success! Note that this schedule has yet been confirmed!\n"
             + "Type <confirm> to confirm this schedule or <schedule> to reassign!\n"
             + "Scroll below for details\n\n%s\n%s\n";
 
+    public static final String SCHEDULE_SEED = "Best of %d scheduling attempt(s) used seed %d.\n";
+    public static final String SCHEDULE_GIVEN_SEED = "Scheduled with seed %d.\n";
+    public static final String SCHEDULE_PARTITION_ATTEMPTS = "Best of %d scheduling attempt(s) kept in each partition,"
+            + " so no single seed makes this schedule again.\n";
+    public static final String SCHEDULE_CUT_SHORT = "Scheduling or the fairness optimizer ran out of time, "
+            + "so this is the schedule made by then and no seed makes it again.\n";
+    public static final String SCHEDULE_PARTITIONS = "Scheduled %d partition(s) by %s in parallel.\n";
+
     public static final String SCHEDULE_ALREADY_CONFIRMED = "Schedule for %s %s already confirmed!\n"
             + "Scroll below for details\n\n%s\n%s\n";
 
+    public static final String SCHEDULE_STARTED = "Scheduling in the background, progress is shown below.\n"
+            + "The schedule will be shown here when it is done. Type <schedule cancel> to stop.\n";
+    public static final String SCHEDULE_CANCELLED = "Scheduling cancelled! Any earlier schedule is kept.\n";
+    public static final String SCHEDULE_NOT_RUNNING = "No schedule is being made!\n";
+    public static final String SCHEDULE_FAILED = "Scheduling failed: %s\n";
+
     public static final String PERSON_LIST_EMPTY = "You cannot schedule with an empty person list! ";
 
+    private final boolean isCancel;
+    private final boolean hasSeed;
+    private final long seed;
+
+    public ScheduleCommand() {
+        this(false, false, 0);
+    }
+
+    public ScheduleCommand(long seed) {
+        this(false, true, seed);
+    }
+
+    private ScheduleCommand(boolean isCancel, boolean hasSeed, long seed) {
+        this.isCancel = isCancel;
+        this.hasSeed = hasSeed;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns a command that cancels the schedule being made.
+     */
+    public static ScheduleCommand createCancel() {
+        return new ScheduleCommand(true, false, 0);
+    }
 
     @Override
     public CommandResult executeAdmin(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
+        if (isCancel) {
+            return new CommandResult(model.cancelScheduling() ? SCHEDULE_CANCELLED : SCHEDULE_NOT_RUNNING);
+        }
         DutyMonth nextMonth = model.getDutyCalendar().getNextMonth();
         DutyStorage dutyStorage = model.getDutyStorage();
         if (nextMonth.isConfirmed()) {
@@ -45,16 +95,62 @@ public class ScheduleCommand extends Command {
             return new CommandResult(PERSON_LIST_EMPTY);
         }
 
-        model.scheduleDutyForNextMonth();
-        DutyMonth dummy = model.getDummyNextMonth();
+        // The settings may change while scheduling, so the feedback reads those the schedule is made with
+        DutySettings dutySettings = new DutySettings(model.getDutySettings());
+        CompletableFuture<DutyMonth> schedule = hasSeed
+                ? model.scheduleDutyForNextMonth(seed)
+                : model.scheduleDutyForNextMonth();
+        CompletableFuture<String> feedback = schedule.handle((dummy, error) -> error == null
+                ? printSchedule(model, dummy, dutySettings)
+                : printFailure(error));
+        if (feedback.isDone()) {
+            return new CommandResult(feedback.join());
+        }
+        return new CommandResult(SCHEDULE_STARTED, null, feedback);
+    }
 
-        return new CommandResult(String.format(SCHEDULE_SUCCESS,
+    /**
+     * Returns the feedback for a schedule that has been made with {@code dutySettings}.
+     * The seed is only shown if scheduling again with it makes the same schedule, which is not so for partitions
+     * that each kept the best of several attempts, nor for a schedule that ran out of time.
+     */
+    private String printSchedule(Model model, DutyMonth dummy, DutySettings dutySettings) {
+        String seedFeedback;
+        if (dummy.isCutShort()) {
+            seedFeedback = SCHEDULE_CUT_SHORT;
+        } else if (hasSeed) {
+            seedFeedback = String.format(SCHEDULE_GIVEN_SEED, dummy.getSeed());
+        } else if (dummy.getPartitionMode() != PartitionMode.NONE && dutySettings.getScheduleAttempts() > 1) {
+            seedFeedback = String.format(SCHEDULE_PARTITION_ATTEMPTS, dutySettings.getScheduleAttempts());
+        } else {
+            seedFeedback = String.format(SCHEDULE_SEED, dutySettings.getScheduleAttempts(), dummy.getSeed());
+        }
+        return String.format(SCHEDULE_SUCCESS,
                 dummy.printDuties(),
-                dummy.printPoints(dutyStorage)));
+                dummy.printPoints(model.getDutyStorage()))
+                + seedFeedback
+                + (dummy.getPartitionMode() == PartitionMode.NONE
+                ? ""
+                : String.format(SCHEDULE_PARTITIONS, dummy.getPartitionNames().size(), dummy.getPartitionMode()));
+    }
+
+    private static String printFailure(Throwable error) {
+        return error instanceof CancellationException
+                ? SCHEDULE_CANCELLED
+                : String.format(SCHEDULE_FAILED, error.getMessage());
     }
 
     @Override
     public CommandResult executeGeneral(Model model, CommandHistory commandHistory) throws CommandException {
         throw new CommandException(Messages.MESSAGE_NO_AUTHORITY);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduleCommand // instanceof handles nulls
+                && isCancel == ((ScheduleCommand) other).isCancel
+                && hasSeed == ((ScheduleCommand) other).hasSeed
+                && seed == ((ScheduleCommand) other).seed); // state check
+    }
 }
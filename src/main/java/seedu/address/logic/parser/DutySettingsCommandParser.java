@@ -2,10 +2,15 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import seedu.address.commons.core.UserType;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.commands.DutySettingsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.duty.PartitionMode;
+import seedu.address.model.duty.SchedulerType;
 /**
  * Parses input arguments and creates a new DutySettingsCommand object
  */
@@ -13,9 +18,21 @@ public class DutySettingsCommandParser implements Parser<DutySettingsCommand> {
 
     private static final int MAX_CAPACITY = 10;
     private static final int MAX_POINTS = 100;
+    private static final int MAX_SCHEDULE_ATTEMPTS = 64;
+    private static final long MAX_SCHEDULE_TIME_BUDGET = 60000;
+    private static final int MAX_REST_DAYS = 15;
+    private static final int MAX_WEEKEND_DUTIES = 10;
     private static final Prefix PREFIX_DAY_OF_WEEK = new Prefix("d/");
     private static final Prefix PREFIX_POINTS = new Prefix("p/");
     private static final Prefix PREFIX_CAPACITY = new Prefix("m/");
+    private static final Prefix PREFIX_SCHEDULE_ATTEMPTS = new Prefix("a/");
+    private static final Prefix PREFIX_SCHEDULE_TIME_BUDGET = new Prefix("tb/");
+    private static final Prefix PREFIX_SCHEDULER = new Prefix("e/");
+    private static final Prefix PREFIX_FAIRNESS_TIME_BUDGET = new Prefix("f/");
+    private static final Prefix PREFIX_PARTITION = new Prefix("g/");
+    private static final Prefix PREFIX_REST_DAYS = new Prefix("r/");
+    private static final Prefix PREFIX_WEEKEND_DUTIES = new Prefix("w/");
+    private static final Prefix PREFIX_RESTRICTED = new Prefix("x/");
 
     /**
      * Parses the given {@code String} of arguments in the context of the DutySettingsCommand
@@ -25,11 +42,34 @@ public class DutySettingsCommandParser implements Parser<DutySettingsCommand> {
     @Override
     public DutySettingsCommand parse(String args, UserType userType, String userName) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_DAY_OF_WEEK, PREFIX_CAPACITY, PREFIX_POINTS);
+                PREFIX_DAY_OF_WEEK, PREFIX_CAPACITY, PREFIX_POINTS,
+                PREFIX_SCHEDULE_ATTEMPTS, PREFIX_SCHEDULE_TIME_BUDGET, PREFIX_SCHEDULER,
+                PREFIX_FAIRNESS_TIME_BUDGET, PREFIX_PARTITION, PREFIX_REST_DAYS, PREFIX_WEEKEND_DUTIES,
+                PREFIX_RESTRICTED);
 
+        if (argMultimap.getValue(PREFIX_RESTRICTED).isPresent()) {
+            return parseRestrictedDays(argMultimap);
+        }
+        if (argMultimap.getValue(PREFIX_REST_DAYS).isPresent()
+                || argMultimap.getValue(PREFIX_WEEKEND_DUTIES).isPresent()) {
+            return parseRules(argMultimap);
+        }
         if (!argMultimap.getValue(PREFIX_DAY_OF_WEEK).isPresent()
                 && !argMultimap.getValue(PREFIX_CAPACITY).isPresent()
                 && !argMultimap.getValue(PREFIX_POINTS).isPresent()) {
+            if (argMultimap.getValue(PREFIX_SCHEDULER).isPresent()) {
+                return parseScheduler(argMultimap);
+            }
+            if (argMultimap.getValue(PREFIX_PARTITION).isPresent()) {
+                return parsePartitionMode(argMultimap);
+            }
+            if (argMultimap.getValue(PREFIX_FAIRNESS_TIME_BUDGET).isPresent()) {
+                return parseFairnessTimeBudget(argMultimap);
+            }
+            if (argMultimap.getValue(PREFIX_SCHEDULE_ATTEMPTS).isPresent()
+                    || argMultimap.getValue(PREFIX_SCHEDULE_TIME_BUDGET).isPresent()) {
+                return parseScheduleOptions(argMultimap);
+            }
             return new DutySettingsCommand();
         }
 
@@ -48,4 +88,129 @@ public class DutySettingsCommandParser implements Parser<DutySettingsCommand> {
         }
     }
 
+    /**
+     * Parses the tag or rank to be kept off duties and the days of the week it applies to.
+     * @throws ParseException if a day of the week is invalid or settings other than days are given with it
+     */
+    private DutySettingsCommand parseRestrictedDays(ArgumentMultimap argMultimap) throws ParseException {
+        try {
+            String tagOrRank = argMultimap.getValue(PREFIX_RESTRICTED).get().trim();
+            if (tagOrRank.isEmpty()
+                    || argMultimap.getValue(PREFIX_CAPACITY).isPresent()
+                    || argMultimap.getValue(PREFIX_POINTS).isPresent()
+                    || argMultimap.getValue(PREFIX_REST_DAYS).isPresent()
+                    || argMultimap.getValue(PREFIX_WEEKEND_DUTIES).isPresent()) {
+                throw new IllegalArgumentException();
+            }
+
+            Set<Integer> daysOfWeek = new HashSet<>();
+            for (String dayOfWeek : argMultimap.getAllValues(PREFIX_DAY_OF_WEEK)) {
+                daysOfWeek.add(DateUtil.getDayOfWeekIndex(dayOfWeek));
+            }
+            return new DutySettingsCommand(tagOrRank, daysOfWeek);
+        } catch (Exception e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DutySettingsCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses the least number of days of rest between duties and the most weekend duties, either of which
+     * may be left out.
+     * @throws ParseException if a value is out of range or other settings are given with them
+     */
+    private DutySettingsCommand parseRules(ArgumentMultimap argMultimap) throws ParseException {
+        try {
+            Integer minRestDays = argMultimap.getValue(PREFIX_REST_DAYS).map(Integer::parseInt).orElse(null);
+            Integer maxWeekendDuties = argMultimap.getValue(PREFIX_WEEKEND_DUTIES).map(Integer::parseInt)
+                    .orElse(null);
+
+            if (argMultimap.getValue(PREFIX_DAY_OF_WEEK).isPresent()
+                    || argMultimap.getValue(PREFIX_CAPACITY).isPresent()
+                    || argMultimap.getValue(PREFIX_POINTS).isPresent()
+                    || (minRestDays != null && (minRestDays < 0 || minRestDays > MAX_REST_DAYS))
+                    || (maxWeekendDuties != null && (maxWeekendDuties < 0 || maxWeekendDuties > MAX_WEEKEND_DUTIES))) {
+                throw new IllegalArgumentException();
+            }
+
+            return new DutySettingsCommand(minRestDays, maxWeekendDuties);
+        } catch (Exception e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DutySettingsCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses the scheduler to be used.
+     * @throws ParseException if the scheduler is unknown or other settings are given with it
+     */
+    private DutySettingsCommand parseScheduler(ArgumentMultimap argMultimap) throws ParseException {
+        try {
+            if (argMultimap.getValue(PREFIX_SCHEDULE_ATTEMPTS).isPresent()
+                    || argMultimap.getValue(PREFIX_SCHEDULE_TIME_BUDGET).isPresent()
+                    || argMultimap.getValue(PREFIX_FAIRNESS_TIME_BUDGET).isPresent()
+                    || argMultimap.getValue(PREFIX_PARTITION).isPresent()) {
+                throw new IllegalArgumentException();
+            }
+            return new DutySettingsCommand(SchedulerType.fromName(argMultimap.getValue(PREFIX_SCHEDULER).get()));
+        } catch (Exception e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DutySettingsCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses how personnel are partitioned when scheduling.
+     * @throws ParseException if the partition mode is unknown or other settings are given with it
+     */
+    private DutySettingsCommand parsePartitionMode(ArgumentMultimap argMultimap) throws ParseException {
+        try {
+            if (argMultimap.getValue(PREFIX_SCHEDULE_ATTEMPTS).isPresent()
+                    || argMultimap.getValue(PREFIX_SCHEDULE_TIME_BUDGET).isPresent()
+                    || argMultimap.getValue(PREFIX_FAIRNESS_TIME_BUDGET).isPresent()) {
+                throw new IllegalArgumentException();
+            }
+            return new DutySettingsCommand(PartitionMode.fromName(argMultimap.getValue(PREFIX_PARTITION).get()));
+        } catch (Exception e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DutySettingsCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses the time in milliseconds spent evening out points after scheduling.
+     * @throws ParseException if the time is out of range or other settings are given with it
+     */
+    private DutySettingsCommand parseFairnessTimeBudget(ArgumentMultimap argMultimap) throws ParseException {
+        try {
+            long fairnessTimeBudget = Long.parseLong(argMultimap.getValue(PREFIX_FAIRNESS_TIME_BUDGET).get());
+
+            if (argMultimap.getValue(PREFIX_SCHEDULE_ATTEMPTS).isPresent()
+                    || argMultimap.getValue(PREFIX_SCHEDULE_TIME_BUDGET).isPresent()
+                    || fairnessTimeBudget < 0 || fairnessTimeBudget > MAX_SCHEDULE_TIME_BUDGET) {
+                throw new IllegalArgumentException();
+            }
+
+            return new DutySettingsCommand(fairnessTimeBudget);
+        } catch (Exception e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DutySettingsCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses the number of scheduling attempts and their time budget in milliseconds.
+     * @throws ParseException if either value is missing or out of range
+     */
+    private DutySettingsCommand parseScheduleOptions(ArgumentMultimap argMultimap) throws ParseException {
+        try {
+            int scheduleAttempts = Integer.parseInt(argMultimap.getValue(PREFIX_SCHEDULE_ATTEMPTS).get());
+            long scheduleTimeBudget = Long.parseLong(argMultimap.getValue(PREFIX_SCHEDULE_TIME_BUDGET).get());
+
+            if (scheduleAttempts <= 0 || scheduleAttempts > MAX_SCHEDULE_ATTEMPTS
+                    || scheduleTimeBudget <= 0 || scheduleTimeBudget > MAX_SCHEDULE_TIME_BUDGET) {
+                throw new IllegalArgumentException();
+            }
+
+            return new DutySettingsCommand(scheduleAttempts, scheduleTimeBudget);
+        } catch (Exception e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DutySettingsCommand.MESSAGE_USAGE));
+        }
+    }
+
 }
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SECTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.UserType;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonFilter;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args, UserType userType, String userName) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_COMPANY, PREFIX_SECTION, PREFIX_RANK, PREFIX_TAG);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> company = argMultimap.getValue(PREFIX_COMPANY);
+        Optional<String> section = argMultimap.getValue(PREFIX_SECTION);
+        Optional<String> rank = argMultimap.getValue(PREFIX_RANK);
+        PersonFilter filter = new PersonFilter(
+                company.isPresent() ? ParserUtil.parseCompany(company.get()) : null,
+                section.isPresent() ? ParserUtil.parseSection(section.get()) : null,
+                rank.isPresent() ? ParserUtil.parseRank(rank.get()) : null,
+                ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG)));
+        if (filter.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+        return new FilterCommand(filter);
+    }
+}
@@ -95,7 +95,7 @@ public class ParserUtil {
         if (!Company.isValidCompany(trimmedCompany)) {
             throw new ParseException(Company.MESSAGE_CONSTRAINTS);
         }
-        return new Company(trimmedCompany);
+        return Company.of(trimmedCompany);
     }
 
     /**
@@ -110,7 +110,7 @@ public class ParserUtil {
         if (!Section.isValidSection(trimmedSection)) {
             throw new ParseException(Section.MESSAGE_CONSTRAINTS);
         }
-        return new Section(trimmedSection);
+        return Section.of(trimmedSection);
     }
 
     /**
@@ -125,7 +125,7 @@ public class ParserUtil {
         if (!Rank.isValidRank(trimmedRank)) {
             throw new ParseException(Rank.MESSAGE_CONSTRAINTS);
         }
-        return new Rank(trimmedRank);
+        return Rank.of(trimmedRank);
     }
 
     /**
@@ -185,7 +185,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -18,6 +18,7 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DutySettingsCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -89,6 +90,9 @@ public class PersonnelDatabaseParser {
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments, userType, userName);
+
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments, userType, userName);
 
@@ -105,7 +109,7 @@ public class PersonnelDatabaseParser {
             return new RedoCommand();
 
         case ScheduleCommand.COMMAND_WORD:
-            return new ScheduleCommand();
+            return new ScheduleCommandParser().parse(arguments, userType, userName);
 
         case SelectCommand.COMMAND_WORD:
             return new SelectCommandParser().parse(arguments, userType, userName);
@@ -11,18 +11,38 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class PointsCommandParser implements Parser<PointsCommand> {
 
+    private static final int MAX_PERCENTILE = 100;
+    private static final Prefix PREFIX_TOP = new Prefix("top/");
+    private static final Prefix PREFIX_UNDER = new Prefix("under/");
+    private static final Prefix PREFIX_PERCENTILE = new Prefix("pct/");
+
     @Override
     public PointsCommand parse(String args, UserType userType, String userName) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP, PREFIX_UNDER, PREFIX_PERCENTILE);
         try {
-            if (args.equals("")) {
+            if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+                int count = Integer.parseInt(argMultimap.getValue(PREFIX_TOP).get().trim());
+                if (count < 1) {
+                    throw new NumberFormatException();
+                }
+                return PointsCommand.createTop(count);
+            } else if (argMultimap.getValue(PREFIX_UNDER).isPresent()) {
+                return PointsCommand.createUnder(Integer.parseInt(argMultimap.getValue(PREFIX_UNDER).get().trim()));
+            } else if (argMultimap.getValue(PREFIX_PERCENTILE).isPresent()) {
+                int percentile = Integer.parseInt(argMultimap.getValue(PREFIX_PERCENTILE).get().trim());
+                if (percentile < 0 || percentile > MAX_PERCENTILE) {
+                    throw new NumberFormatException();
+                }
+                return PointsCommand.createPercentile(percentile);
+            } else if (args.equals("")) {
                 return new PointsCommand();
             } else {
                 Index index = ParserUtil.parseIndex(args);
                 return new PointsCommand(index);
             }
-        } catch (ParseException pe) {
+        } catch (ParseException | NumberFormatException e) {
             throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PointsCommand.MESSAGE_USAGE), pe);
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PointsCommand.MESSAGE_USAGE), e);
         }
     }
 }
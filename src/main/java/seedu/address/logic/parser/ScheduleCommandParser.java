@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.UserType;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand object
+ */
+public class ScheduleCommandParser implements Parser<ScheduleCommand> {
+
+    private static final Prefix PREFIX_SEED = new Prefix("seed/");
+    private static final String KEYWORD_CANCEL = "cancel";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ScheduleCommand parse(String args, UserType userType, String userName) throws ParseException {
+        if (args.trim().equalsIgnoreCase(KEYWORD_CANCEL)) {
+            return ScheduleCommand.createCancel();
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SEED);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+        if (!argMultimap.getValue(PREFIX_SEED).isPresent()) {
+            return new ScheduleCommand();
+        }
+
+        try {
+            return new ScheduleCommand(Long.parseLong(argMultimap.getValue(PREFIX_SEED).get().trim()));
+        } catch (NumberFormatException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.util.List;
 
 import seedu.address.commons.util.CalendarUtil;
+import seedu.address.model.duty.Duty;
+import seedu.address.model.duty.DutyHistory;
 import seedu.address.model.duty.DutyMonth;
 import seedu.address.model.duty.DutySettings;
 import seedu.address.model.duty.DutyStorage;
@@ -24,6 +26,7 @@ public class DutyCalendar {
     private DutyMonth dummyNextMonth;
 
     private DutyStorage dutyStorage;
+    private DutyHistory dutyHistory;
 
     /**
      * Default constructor with no data contained within.
@@ -40,14 +43,21 @@ public class DutyCalendar {
                 CalendarUtil.dayOfFirstDayOfMonth(yearOfNextMonth, this.currentMonthIndex + 1));
 
         this.dutyStorage = new DutyStorage();
+        this.dutyHistory = new DutyHistory();
     }
 
     public DutyCalendar(DutyMonth currentMonth, DutyMonth nextMonth, DutyStorage dutyStorage) {
+        this(currentMonth, nextMonth, dutyStorage, new DutyHistory());
+    }
+
+    public DutyCalendar(DutyMonth currentMonth, DutyMonth nextMonth, DutyStorage dutyStorage,
+                        DutyHistory dutyHistory) {
         this.currentYear = CalendarUtil.getCurrentYear();
         this.currentMonthIndex = CalendarUtil.getCurrentMonth();
         this.currentMonth = currentMonth;
         this.nextMonth = nextMonth;
         this.dutyStorage = dutyStorage;
+        this.dutyHistory = dutyHistory;
     }
 
     public int getCurrentMonthIndex() {
@@ -70,6 +80,10 @@ public class DutyCalendar {
         return dutyStorage;
     }
 
+    public DutyHistory getDutyHistory() {
+        return dutyHistory;
+    }
+
     public int getCurrentYear() {
         return currentYear;
     }
@@ -82,6 +96,7 @@ public class DutyCalendar {
             this.currentMonth = new DutyMonth(dutyCalendar.getCurrentMonth(), true);
             this.nextMonth = new DutyMonth(dutyCalendar.getNextMonth(), true);
             this.dutyStorage = new DutyStorage(dutyCalendar.getDutyStorage());
+            this.dutyHistory = new DutyHistory(dutyCalendar.getDutyHistory());
         } else {
             this.rollover(dutyCalendar);
         }
@@ -95,6 +110,7 @@ public class DutyCalendar {
             this.currentMonth = dutyCalendar.getCurrentMonth();
             this.nextMonth = dutyCalendar.getNextMonth();
             this.dutyStorage = dutyCalendar.getDutyStorage();
+            this.dutyHistory = dutyCalendar.getDutyHistory();
         } else {
             setDutyCalendar(dutyCalendar);
         }
@@ -109,6 +125,54 @@ public class DutyCalendar {
         dummyNextMonth.schedule(persons, dutySettings, dutyStorage);
     }
 
+    /**
+     * Schedules the duties for next Month with a single attempt using the given seed
+     */
+    public void scheduleDutyForNextMonth(List<Person> persons, DutySettings dutySettings,
+                                         DutyStorage dutyStorage, long seed) {
+        this.dummyNextMonth = new DutyMonth(nextMonth, false);
+        dummyNextMonth.schedule(persons, dutySettings, dutyStorage, seed);
+    }
+
+    /**
+     * Returns a copy of next month that can be scheduled without changing the calendar,
+     * to be put in place with {@link #setDummyNextMonth} once it is scheduled.
+     */
+    public DutyMonth copyNextMonth() {
+        return new DutyMonth(nextMonth, false);
+    }
+
+    /**
+     * Replaces the schedule waiting to be confirmed with {@code dummyNextMonth}.
+     */
+    public void setDummyNextMonth(DutyMonth dummyNextMonth) {
+        this.dummyNextMonth = dummyNextMonth;
+    }
+
+    /**
+     * Removes {@code departed} from next month's schedule, and from the schedule waiting to be confirmed,
+     * refilling only the duties they held from {@code persons} under the rules in {@code dutySettings}.
+     * @return the duties of next month that {@code departed} was removed from
+     */
+    public List<Duty> repair(Person departed, List<Person> persons, DutySettings dutySettings) {
+        if (dummyNextMonth != null && dummyNextMonth != nextMonth) {
+            dummyNextMonth.repair(departed, persons, dutySettings, dutyStorage);
+        }
+        return nextMonth.repair(departed, persons, dutySettings, dutyStorage);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in next month's schedule,
+     * in the schedule waiting to be confirmed and in the duty history.
+     */
+    public void replacePerson(Person target, Person editedPerson) {
+        if (dummyNextMonth != null && dummyNextMonth != nextMonth) {
+            dummyNextMonth.replacePerson(target, editedPerson);
+        }
+        nextMonth.replacePerson(target, editedPerson);
+        dutyHistory.replacePerson(target, editedPerson);
+    }
+
     /**
      * Confirms Schedule
      */
@@ -127,11 +191,17 @@ public class DutyCalendar {
     }
 
     /**
-     * Replace currentMonth with nextMonth and create a new nextMonth class
+     * Replace currentMonth with nextMonth and create a new nextMonth class,
+     * archiving the month that has passed if its duties were confirmed
      * @param dutyCalendar the dutyCalendar from the storage
      */
     private void rollover(DutyCalendar dutyCalendar) {
-        this.currentMonth = dutyCalendar.getNextMonth();
+        this.dutyStorage = new DutyStorage(dutyCalendar.getDutyStorage());
+        this.dutyHistory = new DutyHistory(dutyCalendar.getDutyHistory());
+        if (dutyCalendar.getCurrentMonth().isConfirmed()) {
+            dutyHistory.archive(dutyCalendar.getCurrentMonth());
+        }
+        this.currentMonth = new DutyMonth(dutyCalendar.getNextMonth(), true);
         int yearOfNextMonth = currentMonthIndex == 11 ? currentYear + 1 : currentYear;
         this.nextMonth = new DutyMonth(yearOfNextMonth, this.currentMonthIndex + 1 ,
                 CalendarUtil.dayOfFirstDayOfMonth(yearOfNextMonth, this.currentMonthIndex + 1));
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the settings of how much undo history is kept.
+ * A limit of 0 means there is no limit.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    private static final int DEFAULT_MAX_VERSIONS = 100;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final boolean DEFAULT_SPILL_TO_DISK = true;
+
+    // Most versions kept, whether in memory or spilled
+    private final int maxVersions;
+
+    // Most bytes of versions kept in memory, as estimated
+    private final long maxBytes;
+
+    // Whether versions over the memory budget are written to a temporary file instead of being discarded
+    private final boolean spillToDisk;
+
+    public HistorySettings() {
+        maxVersions = DEFAULT_MAX_VERSIONS;
+        maxBytes = DEFAULT_MAX_BYTES;
+        spillToDisk = DEFAULT_SPILL_TO_DISK;
+    }
+
+    public HistorySettings(int maxVersions, long maxBytes, boolean spillToDisk) {
+        this.maxVersions = maxVersions;
+        this.maxBytes = maxBytes;
+        this.spillToDisk = spillToDisk;
+    }
+
+    public int getMaxVersions() {
+        return maxVersions;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public boolean isSpillToDisk() {
+        return spillToDisk;
+    }
+
+    /**
+     * Returns true if keeping {@code numOfVersions} versions is over the limit on versions.
+     */
+    public boolean isOverMaxVersions(int numOfVersions) {
+        return maxVersions > 0 && numOfVersions > maxVersions;
+    }
+
+    /**
+     * Returns true if keeping {@code bytes} in memory is over the limit on bytes.
+     */
+    public boolean isOverMaxBytes(long bytes) {
+        return maxBytes > 0 && bytes > maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        HistorySettings o = (HistorySettings) other;
+
+        return maxVersions == o.maxVersions
+                && maxBytes == o.maxBytes
+                && spillToDisk == o.spillToDisk;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxVersions, maxBytes, spillToDisk);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max versions : " + maxVersions + "\n");
+        sb.append("Max bytes : " + maxBytes + "\n");
+        sb.append("Spill to disk : " + spillToDisk);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+/**
+ * Keeps versions of the personnel database out of memory until they are needed again.
+ */
+public interface HistorySpill {
+
+    /**
+     * Writes {@code version} out, returning the position to read it back from.
+     * @throws IOException if the version could not be written.
+     */
+    long write(ReadOnlyPersonnelDatabase version) throws IOException;
+
+    /**
+     * Reads back the version written at {@code position}.
+     * @throws IOException if the version could not be read back.
+     */
+    PersonnelDatabase read(long position) throws IOException;
+
+    /**
+     * Forgets every version written, giving back the room they took.
+     */
+    void clear();
+}
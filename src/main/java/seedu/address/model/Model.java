@@ -2,6 +2,10 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -11,7 +15,11 @@ import seedu.address.commons.core.UserType;
 import seedu.address.model.duty.DutyMonth;
 import seedu.address.model.duty.DutySettings;
 import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.duty.ScheduleProgress;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.request.Request;
 
 /**
  * The API of the Model component.
@@ -129,6 +137,16 @@ public interface Model {
 
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the persons in the personnel database selected by {@code filter}, found through its indexes.
+     */
+    Set<Person> getPersons(PersonFilter filter);
+
+    /**
+     * Returns the persons in the personnel database whose names match {@code predicate}, found through its index.
+     */
+    Set<Person> getPersons(NameContainsKeywordsPredicate predicate);
+
     /**
      * Returns true if the model has previous personnel database states to restore.
      */
@@ -149,11 +167,30 @@ public interface Model {
      */
     void redoPersonnelDatabase();
 
+    /**
+     * Returns a copy of the personnel database as it is now, which never changes and can be read from any thread.
+     * The copy shares the parts left unchanged since the previous copy was taken with it.
+     */
+    ReadOnlyPersonnelDatabase getPersonnelDatabaseSnapshot();
+
     /**
      * Saves the current personnel database state for undo/redo.
      */
     void commitPersonnelDatabase();
 
+    /**
+     * Saves the current personnel database state for undo/redo, reached from the state before through {@code edit}.
+     * Undo and redo take back and make {@code edit} again, instead of restoring the whole state.
+     */
+    void commitPersonnelDatabase(PersonnelDatabaseEdit edit);
+
+    /**
+     * Returns the edits committed since this was last called, and forgets them.
+     * Returns {@code Optional.empty()} if the personnel database was also changed other than through committed edits,
+     * such as by a commit of the whole state, an undo or a redo, since this was last called.
+     */
+    Optional<List<PersonnelDatabaseEdit>> takeCommittedEdits();
+
     /**
      * Selected person in the filtered person list.
      * null if no person is selected.
@@ -195,6 +232,16 @@ public interface Model {
      */
     boolean checkSwapRequestExists(String nric, LocalDate allocatedDate, LocalDate requestedDate);
 
+    /**
+     * Replaces the swap request at {@code index} in the request list with {@code request}.
+     */
+    void setSwapRequest(int index, Request request);
+
+    /**
+     * Removes the swap request at {@code index} from the request list.
+     */
+    void removeSwapRequest(int index);
+
     /**
      * Delete a person from requests containing that person.
      */
@@ -202,8 +249,31 @@ public interface Model {
 
     /**
      * Schedule the next duty month in the model.
+     * Scheduling works on a copy of next month, which replaces the dummy next month only once it is done,
+     * so it may run away from the calling thread. Any scheduling still running is cancelled first.
+     * @return a future completed with the new dummy next month after it has replaced the old one,
+     *     or with a {@link java.util.concurrent.CancellationException} if scheduling is cancelled
+     */
+    CompletableFuture<DutyMonth> scheduleDutyForNextMonth();
+
+    /**
+     * Schedule the next duty month in the model with a single attempt using the given seed.
+     * @see #scheduleDutyForNextMonth()
      */
-    void scheduleDutyForNextMonth();
+    CompletableFuture<DutyMonth> scheduleDutyForNextMonth(long seed);
+
+    /**
+     * Cancels the scheduling running, if any.
+     * @return true if scheduling was running
+     */
+    boolean cancelScheduling();
+
+    /**
+     * Progress of the scheduling running.
+     * null if no scheduling is running.
+     */
+    ReadOnlyProperty<ScheduleProgress> scheduleProgressProperty();
+
     /**
      * Returns DutyMonth for next month
      */
@@ -5,7 +5,15 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -20,7 +28,11 @@ import seedu.address.commons.core.UserType;
 import seedu.address.model.duty.DutyMonth;
 import seedu.address.model.duty.DutySettings;
 import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.duty.ScheduleMonitor;
+import seedu.address.model.duty.ScheduleProgress;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.request.Request;
 
@@ -34,6 +46,21 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
+    private final SimpleObjectProperty<ScheduleProgress> scheduleProgress = new SimpleObjectProperty<>();
+
+    // Edits committed since they were last taken, and whether the database was changed other than through them
+    private final List<PersonnelDatabaseEdit> committedEdits = new ArrayList<>();
+    private boolean hasUncommittedEdits;
+
+    // Copy of the database last handed out, whose unchanged parts the next copy shares
+    private PersonnelDatabaseVersion lastSnapshot;
+
+    // Runs scheduling, and hands its progress and results back to the model, in the calling thread by default
+    private Executor scheduleExecutor = Runnable::run;
+    private Executor scheduleCompletionExecutor = Runnable::run;
+
+    // Monitor of the scheduling running, null if none is
+    private ScheduleMonitor runningSchedule;
 
     /**
      * Initializes a ModelManager with the given personnelDatabase, dutyCalendar and userPrefs.
@@ -47,6 +74,7 @@ public class ModelManager implements Model {
 
         versionedPersonnelDatabase = new VersionedPersonnelDatabase(personnelDatabase);
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedPersonnelDatabase.setHistorySettings(this.userPrefs.getHistorySettings());
         filteredPersons = new FilteredList<>(versionedPersonnelDatabase.getPersonList());
         filteredPersons.addListener(this::ensureSelectedPersonIsValid);
     }
@@ -55,12 +83,31 @@ public class ModelManager implements Model {
         this(new PersonnelDatabase(), new UserPrefs());
     }
 
+    /**
+     * Sets where scheduling runs, and where its progress and results are handed back to the model.
+     * The completion executor must run tasks one at a time on the thread that uses the model.
+     */
+    public void setScheduleExecutors(Executor scheduleExecutor, Executor scheduleCompletionExecutor) {
+        requireAllNonNull(scheduleExecutor, scheduleCompletionExecutor);
+        this.scheduleExecutor = scheduleExecutor;
+        this.scheduleCompletionExecutor = scheduleCompletionExecutor;
+    }
+
+    /**
+     * Sets where the undo history over its limit on memory is written to.
+     */
+    public void setHistorySpill(HistorySpill historySpill) {
+        requireNonNull(historySpill);
+        versionedPersonnelDatabase.setHistorySpill(historySpill);
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        versionedPersonnelDatabase.setHistorySettings(this.userPrefs.getHistorySettings());
     }
 
     @Override
@@ -139,6 +186,18 @@ public class ModelManager implements Model {
         return versionedPersonnelDatabase.hasPerson(nric);
     }
 
+    @Override
+    public Set<Person> getPersons(PersonFilter filter) {
+        requireNonNull(filter);
+        return versionedPersonnelDatabase.getPersons(filter);
+    }
+
+    @Override
+    public Set<Person> getPersons(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return versionedPersonnelDatabase.getPersons(predicate);
+    }
+
     @Override
     public void deletePerson(Person target) {
         versionedPersonnelDatabase.removePerson(target);
@@ -173,9 +232,74 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void scheduleDutyForNextMonth() {
-        versionedPersonnelDatabase.scheduleDutyForNextMonth(getFilteredPersonList(),
-                getDutySettings(), getDutyStorage());
+    public CompletableFuture<DutyMonth> scheduleDutyForNextMonth() {
+        return scheduleInBackground(false, 0);
+    }
+
+    @Override
+    public CompletableFuture<DutyMonth> scheduleDutyForNextMonth(long seed) {
+        return scheduleInBackground(true, seed);
+    }
+
+    @Override
+    public boolean cancelScheduling() {
+        if (runningSchedule == null) {
+            return false;
+        }
+        runningSchedule.cancel();
+        runningSchedule = null;
+        scheduleProgress.set(null);
+        return true;
+    }
+
+    @Override
+    public ReadOnlyProperty<ScheduleProgress> scheduleProgressProperty() {
+        return scheduleProgress;
+    }
+
+    /**
+     * Schedules a copy of next month on the schedule executor from a snapshot of the persons and their points,
+     * and replaces the dummy next month with it on the completion executor.
+     */
+    private CompletableFuture<DutyMonth> scheduleInBackground(boolean hasSeed, long seed) {
+        cancelScheduling();
+        ScheduleMonitor monitor = new ScheduleMonitor();
+        monitor.addProgressListener(progress -> scheduleCompletionExecutor.execute(() -> {
+            if (runningSchedule == monitor) {
+                scheduleProgress.set(progress);
+            }
+        }));
+        runningSchedule = monitor;
+
+        DutyMonth draft = getDutyCalendar().copyNextMonth();
+        List<Person> persons = new ArrayList<>(getFilteredPersonList());
+        DutySettings dutySettings = new DutySettings(getDutySettings());
+        DutyStorage dutyStorage = new DutyStorage(getDutyStorage());
+
+        CompletableFuture<DutyMonth> result = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> {
+            if (hasSeed) {
+                draft.schedule(persons, dutySettings, dutyStorage, seed, monitor);
+            } else {
+                draft.schedule(persons, dutySettings, dutyStorage, monitor);
+            }
+        }, scheduleExecutor).whenCompleteAsync((ignored, error) -> {
+            if (runningSchedule == monitor) {
+                runningSchedule = null;
+                scheduleProgress.set(null);
+            }
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else if (monitor.isCancelled()) {
+                result.completeExceptionally(new CancellationException("Scheduling cancelled"));
+            } else if (getNextDutyMonth().isConfirmed()) {
+                result.completeExceptionally(new CancellationException("Next month was confirmed while scheduling"));
+            } else {
+                getDutyCalendar().setDummyNextMonth(draft);
+                result.complete(draft);
+            }
+        }, scheduleCompletionExecutor);
+        return result;
     }
 
     //=========== Swap Requests ===============================================================================
@@ -190,6 +314,16 @@ public class ModelManager implements Model {
                 allocatedDate, requestedDate));
     }
 
+    @Override
+    public void setSwapRequest(int index, Request request) {
+        versionedPersonnelDatabase.setRequest(index, request);
+    }
+
+    @Override
+    public void removeSwapRequest(int index) {
+        versionedPersonnelDatabase.removeRequest(index);
+    }
+
     @Override
     public void deleteRequestsWithPerson(Person personToDelete) {
         versionedPersonnelDatabase.deleteRequestsWithPerson(personToDelete);
@@ -227,19 +361,44 @@ public class ModelManager implements Model {
 
     @Override
     public void undoPersonnelDatabase() {
+        hasUncommittedEdits = true;
         versionedPersonnelDatabase.undo();
     }
 
     @Override
     public void redoPersonnelDatabase() {
+        hasUncommittedEdits = true;
         versionedPersonnelDatabase.redo();
     }
 
+    @Override
+    public ReadOnlyPersonnelDatabase getPersonnelDatabaseSnapshot() {
+        lastSnapshot = new PersonnelDatabaseVersion(versionedPersonnelDatabase, lastSnapshot);
+        return lastSnapshot;
+    }
+
     @Override
     public void commitPersonnelDatabase() {
+        hasUncommittedEdits = true;
         versionedPersonnelDatabase.commit();
     }
 
+    @Override
+    public void commitPersonnelDatabase(PersonnelDatabaseEdit edit) {
+        committedEdits.add(edit);
+        versionedPersonnelDatabase.commit(edit);
+    }
+
+    @Override
+    public Optional<List<PersonnelDatabaseEdit>> takeCommittedEdits() {
+        Optional<List<PersonnelDatabaseEdit>> edits = hasUncommittedEdits
+                ? Optional.empty()
+                : Optional.of(new ArrayList<>(committedEdits));
+        committedEdits.clear();
+        hasUncommittedEdits = false;
+        return edits;
+    }
+
     //=========== Selected person ===========================================================================
 
     @Override
@@ -265,11 +424,10 @@ public class ModelManager implements Model {
      */
     @Override
     public UserType findAccount(String userName, String password) {
-        for (Person person: versionedPersonnelDatabase.getPersonList()) {
-            String passHash = Integer.toString(password.hashCode());
-            if (userName.equals(person.getNric().value) && passHash.equals(person.getPassword().value)) {
-                return person.getUserType();
-            }
+        Person person = versionedPersonnelDatabase.findPerson(userName);
+        String passHash = Integer.toString(password.hashCode());
+        if (person != null && passHash.equals(person.getPassword().value)) {
+            return person.getUserType();
         }
         return null;
     }
@@ -279,12 +437,7 @@ public class ModelManager implements Model {
      */
     @Override
     public Person findPerson(String userName) {
-        for (Person person: versionedPersonnelDatabase.getPersonList()) {
-            if (userName.equals(person.getNric().value)) {
-                return person;
-            }
-        }
-        return null;
+        return versionedPersonnelDatabase.findPerson(userName);
     }
 
     /**
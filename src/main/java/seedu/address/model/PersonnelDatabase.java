@@ -3,15 +3,20 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.commons.util.StampUtil;
 import seedu.address.model.duty.DutySettings;
 import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.request.Request;
 
@@ -25,6 +30,10 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
     private final DutyCalendar dutyCalendar;
 
     private final List<Request> requests;
+    private final List<Request> unmodifiableRequests;
+
+    // Requests are immutable, so the list takes a new stamp whenever one is added, replaced or removed
+    private long requestsStamp = StampUtil.nextStamp();
 
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
 
@@ -39,6 +48,7 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
         persons = new UniquePersonList();
         dutyCalendar = new DutyCalendar();
         requests = new ArrayList<>();
+        unmodifiableRequests = Collections.unmodifiableList(requests);
     }
 
     public PersonnelDatabase() {}
@@ -90,6 +100,7 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
                 .filter(req -> req.getAllocatedDate().getMonthValue() - 1
                         == (getDutyCalendar().getCurrentMonthIndex() + 1) % 12).collect(Collectors.toList());
         this.requests.addAll(requestList);
+        requestsStamp = StampUtil.nextStamp();
         indicateModified();
     }
 
@@ -101,13 +112,27 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
         this.dutyCalendar.scheduleDutyForNextMonth(persons, dutySettings, dutyStorage);
     }
 
+    /**
+     * Schedules duty for next month in {@code dutyCalendar} with the given seed.
+     */
+    public void scheduleDutyForNextMonth(List<Person> persons, DutySettings dutySettings,
+                                         DutyStorage dutyStorage, long seed) {
+        this.dutyCalendar.scheduleDutyForNextMonth(persons, dutySettings, dutyStorage, seed);
+    }
+
     /**
      * Resets the existing data of this {@code PersonnelDatabase} with {@code newData}.
      */
     public void resetData(ReadOnlyPersonnelDatabase newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof PersonnelDatabase) {
+            // The persons of another database are already unique and indexed, so they are copied as they are
+            persons.setPersons(((PersonnelDatabase) newData).persons);
+            indicateModified();
+        } else {
+            setPersons(newData.getPersonList());
+        }
         setDutyCalendar(newData.getDutyCalendar());
         setRequests(newData.getRequestList());
     }
@@ -135,13 +160,28 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
      * using the NRIC value
      */
     public boolean hasPerson(String nric) {
-        boolean found = false;
-        for (Person person : persons) {
-            if (person.getNric().toString().equals(nric)) {
-                found = true;
-            }
-        }
-        return found;
+        return persons.containsNric(nric);
+    }
+
+    /**
+     * Returns the person with the given {@code nric} in the personnel database, or null if there is none.
+     */
+    public Person findPerson(String nric) {
+        return persons.findByNric(nric);
+    }
+
+    /**
+     * Returns the persons in the personnel database selected by {@code filter}.
+     */
+    public Set<Person> getPersons(PersonFilter filter) {
+        return persons.filter(filter);
+    }
+
+    /**
+     * Returns the persons in the personnel database whose names match {@code predicate}.
+     */
+    public Set<Person> getPersons(NameContainsKeywordsPredicate predicate) {
+        return persons.findByName(predicate);
     }
 
     /**
@@ -181,8 +221,29 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
      */
     public void addRequest(Request request) {
         requests.add(request);
+        requestsStamp = StampUtil.nextStamp();
         indicateModified();
     }
+
+    /**
+     * Replaces the request at {@code index} in the request list with {@code request}.
+     */
+    public void setRequest(int index, Request request) {
+        requireNonNull(request);
+        requests.set(index, request);
+        requestsStamp = StampUtil.nextStamp();
+        indicateModified();
+    }
+
+    /**
+     * Removes the request at {@code index} from the request list.
+     */
+    public void removeRequest(int index) {
+        requests.remove(index);
+        requestsStamp = StampUtil.nextStamp();
+        indicateModified();
+    }
+
     /**
      * Checks a swap request to the request list.
      */
@@ -204,6 +265,7 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
                 && !personToDelete.equals(req.getRequester())).collect(Collectors.toList());
         requests.clear();
         requests.addAll(filteredRequests);
+        requestsStamp = StampUtil.nextStamp();
         indicateModified();
     }
 
@@ -232,6 +294,20 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
         // TODO: refine later
     }
 
+    /**
+     * Returns the stamp the person list took when it last changed.
+     */
+    long getPersonsStamp() {
+        return persons.getStamp();
+    }
+
+    /**
+     * Returns the stamp the request list took when it last changed.
+     */
+    long getRequestsStamp() {
+        return requestsStamp;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -242,9 +318,12 @@ public class PersonnelDatabase implements ReadOnlyPersonnelDatabase {
         return this.dutyCalendar;
     }
 
+    /**
+     * Returns an unmodifiable view of the request list, which is changed only through the database.
+     */
     @Override
     public List<Request> getRequestList() {
-        return this.requests;
+        return unmodifiableRequests;
     }
 
     @Override
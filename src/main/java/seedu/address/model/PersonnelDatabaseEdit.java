@@ -0,0 +1,20 @@
+package seedu.address.model;
+
+/**
+ * A change made to the personnel database by a command, which knows how to take itself back and make itself again.
+ * Undoing or redoing an edit costs in proportion to the change, instead of restoring the whole database.
+ * An edit is only ever undone on the state it led to, and redone on the state it was made on, so it acts on
+ * the database it is given rather than on the parts it saw when it was made.
+ */
+public interface PersonnelDatabaseEdit {
+
+    /**
+     * Takes the edit back from {@code personnelDatabase}, which is in the state the edit led to.
+     */
+    void undo(PersonnelDatabase personnelDatabase);
+
+    /**
+     * Makes the edit again on {@code personnelDatabase}, which is in the state the edit was made on.
+     */
+    void redo(PersonnelDatabase personnelDatabase);
+}
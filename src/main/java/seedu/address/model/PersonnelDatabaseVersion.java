@@ -0,0 +1,180 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.duty.DutyHistory;
+import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.person.Person;
+import seedu.address.model.request.Request;
+
+/**
+ * A committed version of a {@code PersonnelDatabase}, kept in the history of a {@code VersionedPersonnelDatabase}.
+ * Persons are immutable, so a version holds the very persons of the database it was taken from.
+ * Requests are immutable too. The person list, the request list and each part of the duty calendar are copied
+ * only if their stamp has changed since the previous version was taken, and are otherwise shared with it.
+ * Copies of the duty storage also share the rows of its ledger, so a commit costs in proportion to the parts
+ * the command changed.
+ * Guarantees: never changes once taken.
+ */
+class PersonnelDatabaseVersion implements ReadOnlyPersonnelDatabase {
+
+    // Rough bytes held for each person in the list, and for each request
+    private static final int BYTES_PER_PERSON = 16;
+    private static final int BYTES_PER_REQUEST = 64;
+
+    private final ObservableList<Person> persons;
+    private final DutyMonth currentMonth;
+    private final DutyMonth nextMonth;
+    private final DutyStorage dutyStorage;
+    private final DutyHistory dutyHistory;
+    private final List<Request> requests;
+
+    // Stamps of the parts of the database when the version was taken
+    private final long personsStamp;
+    private final long currentMonthStamp;
+    private final long nextMonthStamp;
+    private final long dutyStorageStamp;
+    private final long dutyHistoryStamp;
+    private final long requestsStamp;
+
+    /**
+     * Takes a version of {@code database}, sharing the parts unchanged since {@code previous} was taken with it.
+     * {@code previous} may be null, in which case every part is copied.
+     */
+    PersonnelDatabaseVersion(PersonnelDatabase database, PersonnelDatabaseVersion previous) {
+        DutyCalendar dutyCalendar = database.getDutyCalendar();
+        personsStamp = database.getPersonsStamp();
+        currentMonthStamp = dutyCalendar.getCurrentMonth().getStamp();
+        nextMonthStamp = dutyCalendar.getNextMonth().getStamp();
+        dutyStorageStamp = dutyCalendar.getDutyStorage().getStamp();
+        dutyHistoryStamp = dutyCalendar.getDutyHistory().getStamp();
+        requestsStamp = database.getRequestsStamp();
+
+        persons = previous != null && previous.personsStamp == personsStamp
+                ? previous.persons
+                : FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(database.getPersonList()));
+        currentMonth = previous != null && previous.currentMonthStamp == currentMonthStamp
+                ? previous.currentMonth
+                : new DutyMonth(dutyCalendar.getCurrentMonth(), true);
+        nextMonth = previous != null && previous.nextMonthStamp == nextMonthStamp
+                ? previous.nextMonth
+                : new DutyMonth(dutyCalendar.getNextMonth(), true);
+        dutyStorage = previous != null && previous.dutyStorageStamp == dutyStorageStamp
+                ? previous.dutyStorage
+                : new DutyStorage(dutyCalendar.getDutyStorage());
+        dutyHistory = previous != null && previous.dutyHistoryStamp == dutyHistoryStamp
+                ? previous.dutyHistory
+                : new DutyHistory(dutyCalendar.getDutyHistory());
+        requests = previous != null && previous.requestsStamp == requestsStamp
+                ? previous.requests
+                : Collections.unmodifiableList(new ArrayList<>(database.getRequestList()));
+    }
+
+    private PersonnelDatabaseVersion(PersonnelDatabaseVersion version, PersonnelDatabase database) {
+        DutyCalendar dutyCalendar = database.getDutyCalendar();
+        persons = version.persons;
+        currentMonth = version.currentMonth;
+        nextMonth = version.nextMonth;
+        dutyStorage = version.dutyStorage;
+        dutyHistory = version.dutyHistory;
+        // Resetting drops the requests not for the next month, and keeps the others in order
+        requests = version.requests.size() == database.getRequestList().size()
+                ? version.requests
+                : Collections.unmodifiableList(new ArrayList<>(database.getRequestList()));
+        personsStamp = database.getPersonsStamp();
+        currentMonthStamp = dutyCalendar.getCurrentMonth().getStamp();
+        nextMonthStamp = dutyCalendar.getNextMonth().getStamp();
+        dutyStorageStamp = dutyCalendar.getDutyStorage().getStamp();
+        dutyHistoryStamp = dutyCalendar.getDutyHistory().getStamp();
+        requestsStamp = database.getRequestsStamp();
+    }
+
+    /**
+     * Returns a rough estimate of the bytes held by the version, leaving out the parts it shares with {@code other},
+     * which may be null.
+     */
+    long estimateSizeWithout(PersonnelDatabaseVersion other) {
+        long size = 0;
+        if (other == null || requests != other.requests) {
+            size += (long) requests.size() * BYTES_PER_REQUEST;
+        }
+        if (other == null || persons != other.persons) {
+            size += (long) persons.size() * BYTES_PER_PERSON;
+        }
+        if (other == null || currentMonth != other.currentMonth) {
+            size += currentMonth.estimateSize();
+        }
+        if (other == null || nextMonth != other.nextMonth) {
+            size += nextMonth.estimateSize();
+        }
+        if (other == null || dutyStorage != other.dutyStorage) {
+            size += dutyStorage.estimateSize();
+        }
+        if (other == null || dutyHistory != other.dutyHistory) {
+            size += dutyHistory.estimateSize();
+        }
+        return size;
+    }
+
+    /**
+     * Returns this version as if taken from {@code database}, which has just been reset to it,
+     * so that the next version taken from {@code database} still shares the parts it leaves unchanged.
+     * If the calendar of {@code database} was rolled over to a later month when it was reset, its months and storage
+     * are no longer those of this version, and this version is returned as it is.
+     */
+    PersonnelDatabaseVersion restampedFrom(PersonnelDatabase database) {
+        DutyMonth restoredMonth = database.getDutyCalendar().getCurrentMonth();
+        if (restoredMonth.getYear() != currentMonth.getYear()
+                || restoredMonth.getMonthIndex() != currentMonth.getMonthIndex()) {
+            return this;
+        }
+        return new PersonnelDatabaseVersion(this, database);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns a calendar holding the parts of the version, which must be copied before any of them is changed.
+     */
+    @Override
+    public DutyCalendar getDutyCalendar() {
+        return new DutyCalendar(currentMonth, nextMonth, dutyStorage, dutyHistory);
+    }
+
+    @Override
+    public List<Request> getRequestList() {
+        return requests;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // A version never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // A version never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonnelDatabaseVersion // instanceof handles nulls
+                && persons.equals(((PersonnelDatabaseVersion) other).persons));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+}
@@ -14,6 +14,8 @@ public interface ReadOnlyUserPrefs {
 
     DutySettings getDutySettings();
 
+    HistorySettings getHistorySettings();
+
     Path getPersonnelDatabaseFilePath();
 
 
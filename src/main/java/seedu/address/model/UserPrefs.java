@@ -16,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private DutySettings dutySettings = new DutySettings();
+    private HistorySettings historySettings = new HistorySettings();
     private Path personnelDatabaseFilePath = Paths.get("data" , "personneldatabase.json");
 
     /**
@@ -38,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setDutySettings(newUserPrefs.getDutySettings());
+        setHistorySettings(newUserPrefs.getHistorySettings());
         setPersonnelDatabaseFilePath(newUserPrefs.getPersonnelDatabaseFilePath());
     }
 
@@ -59,6 +61,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.dutySettings = dutySettings;
     }
 
+    public HistorySettings getHistorySettings() {
+        return historySettings;
+    }
+
+    public void setHistorySettings(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+        this.historySettings = historySettings;
+    }
+
     public Path getPersonnelDatabaseFilePath() {
         return personnelDatabaseFilePath;
     }
@@ -81,12 +92,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && personnelDatabaseFilePath.equals(o.personnelDatabaseFilePath)
-                && dutySettings.equals(o.dutySettings);
+                && dutySettings.equals(o.dutySettings)
+                && historySettings.equals(o.historySettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, personnelDatabaseFilePath, dutySettings);
+        return Objects.hash(guiSettings, personnelDatabaseFilePath, dutySettings, historySettings);
     }
 
     @Override
@@ -95,6 +107,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + personnelDatabaseFilePath);
         sb.append("\nDuty : " + dutySettings);
+        sb.append("\nHistory : " + historySettings);
         return sb.toString();
     }
 
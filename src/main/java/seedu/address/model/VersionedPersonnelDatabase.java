@@ -1,32 +1,90 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * {@code PersonnelDatabase} that keeps track of its own history.
+ * Each state in the history is reached from the one before either through a {@code PersonnelDatabaseEdit}, which
+ * undo and redo take back and make again at a cost in proportion to the change, or as a whole new state.
+ * Whole states are kept as checkpoints, each a {@code PersonnelDatabaseVersion} sharing the parts left unchanged
+ * since the checkpoint before it. Every state not reached through an edit has a checkpoint, and so does every
+ * {@code CHECKPOINT_INTERVAL}th state in a row reached through edits. Undoing a whole new state restores the latest
+ * checkpoint before it and makes the edits since again.
+ * The history is kept within the limits of its {@code HistorySettings}. The oldest states over the limit on versions
+ * are discarded, up to the next checkpoint. The oldest checkpoints over the limit on memory are written to the
+ * {@code HistorySpill}, if there is one and spilling is on, and read back when needed; otherwise they are discarded
+ * along with the states up to the next checkpoint.
  */
 public class VersionedPersonnelDatabase extends PersonnelDatabase {
 
-    private final List<ReadOnlyPersonnelDatabase> personnelDatabaseStateList;
+    private static final Logger logger = LogsCenter.getLogger(VersionedPersonnelDatabase.class);
+
+    // Most states in a row reached through edits, the last of which is given a checkpoint
+    private static final int CHECKPOINT_INTERVAL = 20;
+
+    // Rough bytes held for each edit
+    private static final int BYTES_PER_EDIT = 64;
+
+    private static final int NOT_FOUND = -1;
+
+    // States of the history, the first of which always has a checkpoint
+    private final List<State> personnelDatabaseStateList;
     private int currentStatePointer;
 
+    private HistorySettings historySettings = new HistorySettings();
+    private HistorySpill historySpill;
+
     public VersionedPersonnelDatabase(ReadOnlyPersonnelDatabase initialState) {
         super(initialState);
 
         personnelDatabaseStateList = new ArrayList<>();
-        personnelDatabaseStateList.add(new PersonnelDatabase(initialState));
+        personnelDatabaseStateList.add(new State(null, new PersonnelDatabaseVersion(this, null)));
         currentStatePointer = 0;
     }
 
+    /**
+     * Replaces the limits on the history with {@code historySettings}, which take effect from the next commit.
+     */
+    public void setHistorySettings(HistorySettings historySettings) {
+        this.historySettings = historySettings;
+    }
+
+    /**
+     * Sets where the checkpoints over the limit on memory are written to.
+     */
+    public void setHistorySpill(HistorySpill historySpill) {
+        this.historySpill = historySpill;
+    }
+
     /**
      * Saves a copy of the current {@code PersonnelDatabase} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
+        commit(null);
+    }
+
+    /**
+     * Saves the current {@code PersonnelDatabase} state at the end of the state list, as reached through {@code edit}
+     * from the state before. If {@code edit} is null, the state is taken to be a whole new one.
+     * A copy of the state is only kept if it is a whole new one, or if it is time for a checkpoint.
+     * Undone states are removed from the state list.
+     */
+    public void commit(PersonnelDatabaseEdit edit) {
         removeStatesAfterCurrentPointer();
-        personnelDatabaseStateList.add(new PersonnelDatabase(this));
+        PersonnelDatabaseVersion checkpoint = null;
+        if (edit == null
+                || currentStatePointer + 1 - indexOfCheckpointAtOrBefore(currentStatePointer) >= CHECKPOINT_INTERVAL) {
+            checkpoint = new PersonnelDatabaseVersion(this, latestCheckpointInMemory());
+        }
+        personnelDatabaseStateList.add(new State(edit, checkpoint));
         currentStatePointer++;
+        trimHistory();
         indicateModified();
     }
 
@@ -36,24 +94,220 @@ public class VersionedPersonnelDatabase extends PersonnelDatabase {
 
     /**
      * Restores the personnel database to its previous state.
+     *
+     * @throws NoUndoableStateException if there is no previous state, or it was spilled and cannot be read back.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        PersonnelDatabaseEdit edit = personnelDatabaseStateList.get(currentStatePointer).edit;
+        if (edit != null) {
+            edit.undo(this);
+            currentStatePointer--;
+            indicateModified();
+            return;
+        }
+
+        int checkpointIndex = indexOfCheckpointAtOrBefore(currentStatePointer - 1);
+        if (!readBackIfSpilled(checkpointIndex)) {
+            discardStatesBefore(currentStatePointer);
+            throw new NoUndoableStateException();
+        }
         currentStatePointer--;
-        resetData(personnelDatabaseStateList.get(currentStatePointer));
+        restoreCurrentStateFrom(checkpointIndex);
     }
 
     /**
      * Restores the personnel database to its previously undone state.
+     *
+     * @throws NoRedoableStateException if there is no undone state, or it was spilled and cannot be read back.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        PersonnelDatabaseEdit edit = personnelDatabaseStateList.get(currentStatePointer + 1).edit;
+        if (edit != null) {
+            edit.redo(this);
+            currentStatePointer++;
+            indicateModified();
+            return;
+        }
+
+        if (!readBackIfSpilled(currentStatePointer + 1)) {
+            removeStatesAfterCurrentPointer();
+            throw new NoRedoableStateException();
+        }
         currentStatePointer++;
-        resetData(personnelDatabaseStateList.get(currentStatePointer));
+        restoreCurrentStateFrom(currentStatePointer);
+    }
+
+    /**
+     * Resets the data to the checkpoint at {@code index}, which is then stamped as taken from the data as it is now,
+     * and makes the edits since the checkpoint again, up to the state the pointer is at.
+     */
+    private void restoreCurrentStateFrom(int index) {
+        State checkpointState = personnelDatabaseStateList.get(index);
+        resetData(checkpointState.checkpoint);
+        checkpointState.checkpoint = checkpointState.checkpoint.restampedFrom(this);
+        for (int i = index + 1; i <= currentStatePointer; i++) {
+            personnelDatabaseStateList.get(i).edit.redo(this);
+        }
+        indicateModified();
+    }
+
+    /**
+     * Keeps the history within the limits of the settings, spilling or discarding the oldest states.
+     * The latest checkpoint at or before the current state is always kept in memory.
+     */
+    private void trimHistory() {
+        int nextCheckpointIndex = indexOfCheckpointAfter(0);
+        while (historySettings.isOverMaxVersions(personnelDatabaseStateList.size())
+                && nextCheckpointIndex != NOT_FOUND && nextCheckpointIndex <= currentStatePointer) {
+            discardStatesBefore(nextCheckpointIndex);
+            nextCheckpointIndex = indexOfCheckpointAfter(0);
+        }
+
+        int spillIndex = indexOfOldestCheckpointToSpill();
+        while (historySettings.isOverMaxBytes(estimateSizeInMemory()) && spillIndex != NOT_FOUND) {
+            if (!spillCheckpoint(spillIndex)) {
+                discardStatesBefore(indexOfCheckpointAfter(spillIndex));
+            }
+            spillIndex = indexOfOldestCheckpointToSpill();
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the bytes held by the edits and the checkpoints in memory,
+     * counting the parts the checkpoints share once.
+     */
+    private long estimateSizeInMemory() {
+        long size = 0;
+        PersonnelDatabaseVersion previous = null;
+        for (State state : personnelDatabaseStateList) {
+            if (state.edit != null) {
+                size += BYTES_PER_EDIT;
+            }
+            if (state.checkpoint != null) {
+                size += state.checkpoint.estimateSizeWithout(previous);
+                previous = state.checkpoint;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the index of the oldest checkpoint in memory before the latest checkpoint at or before the current
+     * state, or {@code NOT_FOUND} if there is none.
+     */
+    private int indexOfOldestCheckpointToSpill() {
+        int keptIndex = indexOfCheckpointAtOrBefore(currentStatePointer);
+        for (int i = 0; i < keptIndex; i++) {
+            if (personnelDatabaseStateList.get(i).checkpoint != null) {
+                return i;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the index of the latest state at or before {@code index} with a checkpoint, whether spilled or not.
+     */
+    private int indexOfCheckpointAtOrBefore(int index) {
+        int i = index;
+        while (!personnelDatabaseStateList.get(i).hasCheckpoint()) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the first state after {@code index} with a checkpoint, whether spilled or not,
+     * or {@code NOT_FOUND} if there is none.
+     */
+    private int indexOfCheckpointAfter(int index) {
+        for (int i = index + 1; i < personnelDatabaseStateList.size(); i++) {
+            if (personnelDatabaseStateList.get(i).hasCheckpoint()) {
+                return i;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the latest checkpoint in memory, or null if there is none.
+     */
+    private PersonnelDatabaseVersion latestCheckpointInMemory() {
+        for (int i = personnelDatabaseStateList.size() - 1; i >= 0; i--) {
+            if (personnelDatabaseStateList.get(i).checkpoint != null) {
+                return personnelDatabaseStateList.get(i).checkpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the checkpoint at {@code index} to the spill.
+     * Returns false if spilling is off or the checkpoint could not be written.
+     */
+    private boolean spillCheckpoint(int index) {
+        if (!historySettings.isSpillToDisk() || historySpill == null) {
+            return false;
+        }
+        State state = personnelDatabaseStateList.get(index);
+        try {
+            state.spilledPosition = historySpill.write(state.checkpoint);
+        } catch (IOException e) {
+            logger.warning("Could not spill undo history, discarding it instead: " + e.getMessage());
+            return false;
+        }
+        state.checkpoint = null;
+        return true;
+    }
+
+    /**
+     * Reads the checkpoint at {@code index} back into memory if it was spilled.
+     * Returns false if it could not be read back.
+     */
+    private boolean readBackIfSpilled(int index) {
+        State state = personnelDatabaseStateList.get(index);
+        if (!state.isSpilled()) {
+            return true;
+        }
+        try {
+            state.checkpoint = new PersonnelDatabaseVersion(historySpill.read(state.spilledPosition), null);
+        } catch (IOException e) {
+            logger.warning("Could not read back spilled undo history, discarding it: " + e.getMessage());
+            return false;
+        }
+        state.spilledPosition = State.NOT_SPILLED;
+        clearSpillIfUnused();
+        return true;
+    }
+
+    /**
+     * Removes the states before {@code index} from the history, whether spilled or not.
+     * The state at {@code index} must have a checkpoint, unless it is the current state, which is then given one.
+     */
+    private void discardStatesBefore(int index) {
+        personnelDatabaseStateList.subList(0, index).clear();
+        currentStatePointer -= index;
+        State oldestState = personnelDatabaseStateList.get(0);
+        if (!oldestState.hasCheckpoint()) {
+            oldestState.checkpoint = new PersonnelDatabaseVersion(this, latestCheckpointInMemory());
+        }
+        clearSpillIfUnused();
+    }
+
+    /**
+     * Empties the spill once no state in the history is spilled.
+     */
+    private void clearSpillIfUnused() {
+        if (historySpill == null || personnelDatabaseStateList.stream().anyMatch(State::isSpilled)) {
+            return;
+        }
+        historySpill.clear();
     }
 
     /**
@@ -70,6 +324,10 @@ public class VersionedPersonnelDatabase extends PersonnelDatabase {
         return currentStatePointer < personnelDatabaseStateList.size() - 1;
     }
 
+    /**
+     * Returns true if both histories are at the same state of the same number of states, with equal data.
+     * States other than the current one are not compared, as those reached through edits are not kept as data.
+     */
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -83,13 +341,43 @@ public class VersionedPersonnelDatabase extends PersonnelDatabase {
         }
 
         VersionedPersonnelDatabase otherVersionedPersonnelDatabase = (VersionedPersonnelDatabase) other;
+        int otherNumOfStates = otherVersionedPersonnelDatabase.personnelDatabaseStateList.size();
 
         // state check
         return super.equals(otherVersionedPersonnelDatabase)
-                && personnelDatabaseStateList.equals(otherVersionedPersonnelDatabase.personnelDatabaseStateList)
+                && personnelDatabaseStateList.size() == otherNumOfStates
                 && currentStatePointer == otherVersionedPersonnelDatabase.currentStatePointer;
     }
 
+    /**
+     * A state in the history, with how it was reached from the state before and its checkpoint, if it has one.
+     */
+    private static class State {
+        private static final long NOT_SPILLED = -1;
+
+        // Edit the state was reached through, or null if it is a whole new state
+        private final PersonnelDatabaseEdit edit;
+
+        // Copy of the state, or null if it has none in memory
+        private PersonnelDatabaseVersion checkpoint;
+
+        // Where the copy of the state was written to in the spill, if it was spilled
+        private long spilledPosition = NOT_SPILLED;
+
+        private State(PersonnelDatabaseEdit edit, PersonnelDatabaseVersion checkpoint) {
+            this.edit = edit;
+            this.checkpoint = checkpoint;
+        }
+
+        private boolean isSpilled() {
+            return spilledPosition != NOT_SPILLED;
+        }
+
+        private boolean hasCheckpoint() {
+            return checkpoint != null || isSpilled();
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
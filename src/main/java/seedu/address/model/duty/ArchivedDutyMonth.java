@@ -0,0 +1,123 @@
+package seedu.address.model.duty;
+
+import java.util.Arrays;
+
+/**
+ * A confirmed month of duties kept in the {@link DutyHistory}, in a compact form.
+ * Duty {@code i} is on day {@code dayIndexes[i]}, is worth {@code points[i]} and is held by
+ * the next {@code assigneeCounts[i]} entries of {@code assignees}, which are ids of persons in the history.
+ * The duties and points of each person in the month are worked out once, when the month is created.
+ * Guarantees: immutable.
+ */
+public class ArchivedDutyMonth {
+
+    private final int year;
+    private final int monthIndex;
+    private final int[] dayIndexes;
+    private final int[] points;
+    private final int[] assigneeCounts;
+    private final int[] assignees;
+
+    // Number of duties and points of the person with each id in this month
+    private final int[] dutiesByPerson;
+    private final int[] pointsByPerson;
+
+    public ArchivedDutyMonth(int year, int monthIndex, int[] dayIndexes, int[] points, int[] assigneeCounts,
+                             int[] assignees) {
+        if (dayIndexes.length != points.length || dayIndexes.length != assigneeCounts.length
+                || Arrays.stream(assigneeCounts).sum() != assignees.length) {
+            throw new IllegalArgumentException("Duties of archived month do not match their assignees");
+        }
+        this.year = year;
+        this.monthIndex = monthIndex;
+        this.dayIndexes = Arrays.copyOf(dayIndexes, dayIndexes.length);
+        this.points = Arrays.copyOf(points, points.length);
+        this.assigneeCounts = Arrays.copyOf(assigneeCounts, assigneeCounts.length);
+        this.assignees = Arrays.copyOf(assignees, assignees.length);
+
+        int numOfPersons = Arrays.stream(assignees).max().orElse(-1) + 1;
+        this.dutiesByPerson = new int[numOfPersons];
+        this.pointsByPerson = new int[numOfPersons];
+        int next = 0;
+        for (int duty = 0; duty < dayIndexes.length; duty++) {
+            for (int i = 0; i < assigneeCounts[duty]; i++) {
+                int id = assignees[next++];
+                dutiesByPerson[id]++;
+                pointsByPerson[id] += points[duty];
+            }
+        }
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonthIndex() {
+        return monthIndex;
+    }
+
+    public int[] getDayIndexes() {
+        return Arrays.copyOf(dayIndexes, dayIndexes.length);
+    }
+
+    public int[] getPoints() {
+        return Arrays.copyOf(points, points.length);
+    }
+
+    public int[] getAssigneeCounts() {
+        return Arrays.copyOf(assigneeCounts, assigneeCounts.length);
+    }
+
+    public int[] getAssignees() {
+        return Arrays.copyOf(assignees, assignees.length);
+    }
+
+    /**
+     * Returns a copy of this month with the duties of the person with id {@code from} held by {@code to} instead.
+     */
+    ArchivedDutyMonth replaceAssignee(int from, int to) {
+        int[] replaced = Arrays.copyOf(assignees, assignees.length);
+        for (int i = 0; i < replaced.length; i++) {
+            if (replaced[i] == from) {
+                replaced[i] = to;
+            }
+        }
+        return new ArchivedDutyMonth(year, monthIndex, dayIndexes, points, assigneeCounts, replaced);
+    }
+
+    /**
+     * Returns the number of duties held in this month by the person with {@code id} in the history.
+     */
+    int getDutiesServed(int id) {
+        return id < dutiesByPerson.length ? dutiesByPerson[id] : 0;
+    }
+
+    /**
+     * Returns the points earned from duties in this month by the person with {@code id} in the history.
+     */
+    int getPointsEarned(int id) {
+        return id < pointsByPerson.length ? pointsByPerson[id] : 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ArchivedDutyMonth)) {
+            return false;
+        }
+        ArchivedDutyMonth otherMonth = (ArchivedDutyMonth) other;
+        return year == otherMonth.year
+                && monthIndex == otherMonth.monthIndex
+                && Arrays.equals(dayIndexes, otherMonth.dayIndexes)
+                && Arrays.equals(points, otherMonth.points)
+                && Arrays.equals(assigneeCounts, otherMonth.assigneeCounts)
+                && Arrays.equals(assignees, otherMonth.assignees);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * year + monthIndex) + Arrays.hashCode(assignees);
+    }
+}
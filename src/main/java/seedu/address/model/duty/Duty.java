@@ -75,6 +75,19 @@ public class Duty {
         }
     }
 
+    /**
+     * Creates a copy of {@code duty} with its own list of persons.
+     */
+    public Duty(Duty duty) {
+        this.year = duty.year;
+        this.monthIndex = duty.monthIndex;
+        this.dayIndex = duty.dayIndex;
+        this.dayOfWeekIndex = duty.dayOfWeekIndex;
+        this.capacity = duty.capacity;
+        this.points = duty.points;
+        this.persons = new ArrayList<>(duty.persons);
+    }
+
     /**
      * Adds the input person into the duty
      */
@@ -108,6 +121,20 @@ public class Duty {
         }
     }
 
+    /**
+     * Returns true if {@code remove} is on the duty and {@code replace} is not, so one can take over from the other.
+     */
+    public boolean canReplacePerson(Person remove, Person replace) {
+        boolean hasRemove = false;
+        for (Person person : this.getPersons()) {
+            if (replace.getNric().toString().equals(person.getNric().toString())) {
+                return false;
+            }
+            hasRemove |= remove.getNric().toString().equals(person.getNric().toString());
+        }
+        return hasRemove;
+    }
+
     /**
      * Replace person in duty
      */
@@ -0,0 +1,38 @@
+package seedu.address.model.duty;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Rule limiting which duties a person may be given when scheduling, on top of blocked days and capacities.
+ * A rule is compiled once per scheduling run into lookup tables over the dense person ids of that run,
+ * so that the schedulers can evaluate it in constant time for every candidate they look at.
+ */
+public interface DutyConstraint {
+
+    /**
+     * Compiles this rule for a scheduling run over {@code persons}.
+     * @param persons the persons to be scheduled, the position of each person is used as its id
+     */
+    Check compile(List<Person> persons);
+
+    /**
+     * Compiled form of a rule for a single scheduling run.
+     * It is told of every assignment made or undone in the run, so rules that depend on the duties already held
+     * can keep their own tables up to date instead of looking through the schedule.
+     */
+    interface Check {
+
+        /**
+         * Returns true if the person with the given id may take {@code duty}, given the duties they hold so far.
+         */
+        boolean allows(int id, Duty duty);
+
+        default void assigned(int id, Duty duty) {
+        }
+
+        default void unassigned(int id, Duty duty) {
+        }
+    }
+}
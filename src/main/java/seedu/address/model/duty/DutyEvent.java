@@ -0,0 +1,90 @@
+package seedu.address.model.duty;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A single change to the points of a person, as kept in the ledger of {@link DutyStorage}.
+ * Guarantees: immutable; the points are the signed change to the balance of the person.
+ */
+public class DutyEvent {
+
+    /**
+     * What caused the change in points.
+     */
+    public enum Kind {
+        DUTY_SERVED, REWARD, PENALTY, SWAP
+    }
+
+    private final Person person;
+    private final int year;
+    private final int monthIndex;
+    private final int dayIndex;
+    private final int points;
+    private final Kind kind;
+
+    public DutyEvent(Person person, int year, int monthIndex, int dayIndex, int points, Kind kind) {
+        requireNonNull(person);
+        requireNonNull(kind);
+        this.person = person;
+        this.year = year;
+        this.monthIndex = monthIndex;
+        this.dayIndex = dayIndex;
+        this.points = points;
+        this.kind = kind;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonthIndex() {
+        return monthIndex;
+    }
+
+    public int getDayIndex() {
+        return dayIndex;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DutyEvent)) {
+            return false;
+        }
+        DutyEvent otherEvent = (DutyEvent) other;
+        return person.equals(otherEvent.person)
+                && year == otherEvent.year
+                && monthIndex == otherEvent.monthIndex
+                && dayIndex == otherEvent.dayIndex
+                && points == otherEvent.points
+                && kind == otherEvent.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, year, monthIndex, dayIndex, points, kind);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %d/%d/%d %+d", person, kind, dayIndex, monthIndex + 1, year, points);
+    }
+}
@@ -0,0 +1,214 @@
+package seedu.address.model.duty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StampUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Archive of every confirmed month of duties that has passed, kept across the years.
+ * Persons are given ids through their NRIC, which outlive them, so the history of removed persons is kept.
+ * Each {@link ArchivedDutyMonth} holds the duties and points of each person in it, so questions over a range of
+ * months look at one entry per month instead of going through the duties again.
+ * Archived months never change, so copies of the history share them.
+ * A new stamp is taken on every archive and renaming, to tell when the history last changed.
+ */
+public class DutyHistory {
+
+    private static final int NUMBER_OF_MONTHS_IN_YEAR = 12;
+
+    // Rough bytes held for each person and, without the months themselves, for each archived month
+    private static final int BYTES_PER_PERSON = 80;
+    private static final int BYTES_PER_MONTH = 40;
+
+    private final NricIndex ids;
+    private final List<String> nrics;
+    private final TreeMap<Integer, ArchivedDutyMonth> months;
+    private long stamp = StampUtil.nextStamp();
+
+    public DutyHistory() {
+        this.ids = new NricIndex();
+        this.nrics = new ArrayList<>();
+        this.months = new TreeMap<>();
+    }
+
+    /**
+     * Creates a DutyHistory of {@code archivedMonths}, whose assignees are ids into {@code nrics}.
+     */
+    public DutyHistory(List<String> nrics, List<ArchivedDutyMonth> archivedMonths) {
+        this();
+        for (String nric : nrics) {
+            idOrAdd(nric);
+        }
+        for (ArchivedDutyMonth month : archivedMonths) {
+            for (int id : month.getAssignees()) {
+                if (id < 0 || id >= nrics.size()) {
+                    throw new IllegalArgumentException("Archived month refers to an unknown person");
+                }
+            }
+            months.put(keyOf(month.getYear(), month.getMonthIndex()), month);
+        }
+    }
+
+    public DutyHistory(DutyHistory dutyHistory) {
+        this.ids = new NricIndex(dutyHistory.ids);
+        this.nrics = new ArrayList<>(dutyHistory.nrics);
+        this.months = new TreeMap<>(dutyHistory.months);
+    }
+
+    /**
+     * Archives the duties of {@code dutyMonth}, replacing any archived before for the same month.
+     */
+    public void archive(DutyMonth dutyMonth) {
+        stamp = StampUtil.nextStamp();
+        List<Duty> duties = dutyMonth.getScheduledDuties();
+        int[] dayIndexes = new int[duties.size()];
+        int[] points = new int[duties.size()];
+        int[] assigneeCounts = new int[duties.size()];
+        List<Integer> assignees = new ArrayList<>();
+        for (int i = 0; i < duties.size(); i++) {
+            Duty duty = duties.get(i);
+            dayIndexes[i] = duty.getDayIndex();
+            points[i] = duty.getPoints();
+            assigneeCounts[i] = duty.getPersons().size();
+            for (Person person : duty.getPersons()) {
+                assignees.add(idOrAdd(person.getNric().toString()));
+            }
+        }
+        months.put(keyOf(dutyMonth.getYear(), dutyMonth.getMonthIndex()),
+                new ArchivedDutyMonth(dutyMonth.getYear(), dutyMonth.getMonthIndex(), dayIndexes, points,
+                        assigneeCounts, assignees.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public boolean isArchived(int year, int monthIndex) {
+        return months.containsKey(keyOf(year, monthIndex));
+    }
+
+    /**
+     * Moves the history of {@code target} over to {@code editedPerson}, whose NRIC may differ.
+     * If the new NRIC already has a history, such as that of a removed person, the two histories are merged,
+     * leaving the old NRIC with none.
+     */
+    public void replacePerson(Person target, Person editedPerson) {
+        String targetNric = target.getNric().toString();
+        String editedNric = editedPerson.getNric().toString();
+        int id = ids.get(targetNric);
+        if (id == NricIndex.NOT_FOUND || targetNric.equals(editedNric)) {
+            return;
+        }
+        stamp = StampUtil.nextStamp();
+        int editedId = ids.get(editedNric);
+        if (editedId == NricIndex.NOT_FOUND) {
+            ids.remove(targetNric);
+            ids.put(editedNric, id);
+            nrics.set(id, editedNric);
+            return;
+        }
+        for (Map.Entry<Integer, ArchivedDutyMonth> entry : months.entrySet()) {
+            if (entry.getValue().getDutiesServed(id) > 0) {
+                entry.setValue(entry.getValue().replaceAssignee(id, editedId));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of duties held by {@code person} in the {@code numOfMonths} months up to and including
+     * the month {@code monthIndex} of {@code year}.
+     */
+    public int getDutiesServed(Person person, int year, int monthIndex, int numOfMonths) {
+        int id = ids.get(person.getNric().toString());
+        int duties = 0;
+        if (id != NricIndex.NOT_FOUND) {
+            for (ArchivedDutyMonth month : monthsUpTo(year, monthIndex, numOfMonths)) {
+                duties += month.getDutiesServed(id);
+            }
+        }
+        return duties;
+    }
+
+    /**
+     * Returns the points earned from duties by {@code person} in the {@code numOfMonths} months up to and including
+     * the month {@code monthIndex} of {@code year}.
+     */
+    public int getPointsEarned(Person person, int year, int monthIndex, int numOfMonths) {
+        int id = ids.get(person.getNric().toString());
+        int points = 0;
+        if (id != NricIndex.NOT_FOUND) {
+            for (ArchivedDutyMonth month : monthsUpTo(year, monthIndex, numOfMonths)) {
+                points += month.getPointsEarned(id);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Prints the duties held and points earned by {@code person} in the {@code numOfMonths} months up to and
+     * including the month {@code monthIndex} of {@code year}
+     */
+    public String printSummary(Person person, int year, int monthIndex, int numOfMonths) {
+        return String.format("--- LAST %d MONTHS ---\nDuties : %d | Points : %d\n", numOfMonths,
+                getDutiesServed(person, year, monthIndex, numOfMonths),
+                getPointsEarned(person, year, monthIndex, numOfMonths));
+    }
+
+    /**
+     * Returns the stamp the history took when it last changed.
+     */
+    public long getStamp() {
+        return stamp;
+    }
+
+    /**
+     * Returns a rough estimate of the bytes held by the history, leaving out the archived months,
+     * which are shared by every copy.
+     */
+    public long estimateSize() {
+        return (long) nrics.size() * BYTES_PER_PERSON + (long) months.size() * BYTES_PER_MONTH;
+    }
+
+    public List<String> getNrics() {
+        return new ArrayList<>(nrics);
+    }
+
+    public List<ArchivedDutyMonth> getArchivedMonths() {
+        return new ArrayList<>(months.values());
+    }
+
+    private Iterable<ArchivedDutyMonth> monthsUpTo(int year, int monthIndex, int numOfMonths) {
+        int last = keyOf(year, monthIndex);
+        return months.subMap(last - numOfMonths, false, last, true).values();
+    }
+
+    /**
+     * Returns the id of the person with {@code nric}, giving them the next id if they have none.
+     */
+    private int idOrAdd(String nric) {
+        int id = ids.get(nric);
+        if (id == NricIndex.NOT_FOUND) {
+            id = nrics.size();
+            ids.put(nric, id);
+            nrics.add(nric);
+        }
+        return id;
+    }
+
+    private static int keyOf(int year, int monthIndex) {
+        return year * NUMBER_OF_MONTHS_IN_YEAR + monthIndex;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DutyHistory // instanceof handles nulls
+                && nrics.equals(((DutyHistory) other).nrics)
+                && months.equals(((DutyHistory) other).months));
+    }
+
+    @Override
+    public int hashCode() {
+        return months.hashCode();
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.model.duty;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import seedu.address.commons.util.DateUtil;
+
+/**
+ * Append-only ledger of the events changing the points of persons, in the order they happened.
+ * Each event is a row of person id, date, signed points and kind, held in parallel primitive columns,
+ * so the ledger takes a few words per event however long the history grows.
+ * Dates are packed as {@code year * 10000 + monthIndex * 100 + dayIndex}, with the month index starting from 0.
+ * A copy of the ledger shares the columns of the original. Rows are only ever added past the last row written
+ * to the columns, so either ledger may keep appending in place while it holds that last row; writing anywhere else
+ * first gives the ledger columns of its own.
+ */
+class DutyLedger {
+
+    private static final String MESSAGE_RECORD_DUTY = "Duty : %d %s %d | %s | %d points";
+    private static final String MESSAGE_RECORD_REWARDED = "Reward: %d points added";
+    private static final String MESSAGE_RECORD_PENALIZED = "Penalty: %d points deducted";
+    private static final String MESSAGE_RECORD_SWAPPED = "Swap : %d %s %d | %s | %+d points";
+
+    private static final DutyEvent.Kind[] KINDS = DutyEvent.Kind.values();
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Columns columns;
+    private int size;
+
+    DutyLedger() {
+        columns = new Columns(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a copy of {@code ledger} sharing its columns, in constant time.
+     */
+    DutyLedger(DutyLedger ledger) {
+        columns = ledger.columns;
+        columns.isShared = true;
+        size = ledger.size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a row at the end of the ledger.
+     */
+    void append(int personId, int date, int pointsChange, DutyEvent.Kind kind) {
+        if (size != columns.written) {
+            if (columns.isShared) {
+                // Another ledger holds the rows written past this one's end
+                columns = columns.copy(size, columns.capacity());
+            } else {
+                columns.written = size;
+            }
+        }
+        if (size == columns.capacity()) {
+            columns = columns.copy(size, size * 2);
+        }
+        columns.personIds[size] = personId;
+        columns.dates[size] = date;
+        columns.points[size] = pointsChange;
+        columns.kinds[size] = (byte) kind.ordinal();
+        size++;
+        columns.written = size;
+    }
+
+    /**
+     * Adds a copy of {@code row} of {@code source} at the end of the ledger.
+     */
+    void append(DutyLedger source, int row) {
+        append(source.getPersonId(row), source.getDate(row), source.getPoints(row), source.getKind(row));
+    }
+
+    /**
+     * Copies row {@code from} over row {@code to}.
+     */
+    void move(int from, int to) {
+        if (columns.isShared) {
+            columns = columns.copy(size, columns.capacity());
+        }
+        columns.personIds[to] = columns.personIds[from];
+        columns.dates[to] = columns.dates[from];
+        columns.points[to] = columns.points[from];
+        columns.kinds[to] = columns.kinds[from];
+    }
+
+    /**
+     * Drops every row from {@code newSize} onwards.
+     */
+    void truncate(int newSize) {
+        size = newSize;
+        if (!columns.isShared) {
+            columns.written = newSize;
+        }
+    }
+
+    int getPersonId(int row) {
+        return columns.personIds[row];
+    }
+
+    int getDate(int row) {
+        return columns.dates[row];
+    }
+
+    int getPoints(int row) {
+        return columns.points[row];
+    }
+
+    DutyEvent.Kind getKind(int row) {
+        return KINDS[columns.kinds[row]];
+    }
+
+    /**
+     * Returns the line shown for {@code row} in the records of its person.
+     */
+    String describe(int row) {
+        int date = getDate(row);
+        int points = getPoints(row);
+        switch (getKind(row)) {
+        case REWARD:
+            return String.format(MESSAGE_RECORD_REWARDED, points);
+        case PENALTY:
+            return String.format(MESSAGE_RECORD_PENALIZED, -points);
+        case SWAP:
+            return String.format(MESSAGE_RECORD_SWAPPED, dayIndexOf(date), DateUtil.getMonth(monthIndexOf(date)),
+                    yearOf(date), DateUtil.getDayOfWeek(dayOfWeekIndexOf(date)), points);
+        default:
+            return String.format(MESSAGE_RECORD_DUTY, dayIndexOf(date), DateUtil.getMonth(monthIndexOf(date)),
+                    yearOf(date), DateUtil.getDayOfWeek(dayOfWeekIndexOf(date)), points);
+        }
+    }
+
+    static int toDate(int year, int monthIndex, int dayIndex) {
+        return year * 10000 + monthIndex * 100 + dayIndex;
+    }
+
+    static int yearOf(int date) {
+        return date / 10000;
+    }
+
+    static int monthIndexOf(int date) {
+        return date / 100 % 100;
+    }
+
+    static int dayIndexOf(int date) {
+        return date % 100;
+    }
+
+    /**
+     * Returns the day of the week of {@code date}, from 1 for Sunday to 7 for Saturday.
+     */
+    private static int dayOfWeekIndexOf(int date) {
+        DayOfWeek dayOfWeek = LocalDate.of(yearOf(date), monthIndexOf(date) + 1, dayIndexOf(date)).getDayOfWeek();
+        return dayOfWeek.getValue() % 7 + 1;
+    }
+
+    /**
+     * Columns of rows, which may be shared by several ledgers.
+     * Each ledger sharing them reads only its own rows, which are a prefix of the {@code written} rows.
+     */
+    private static class Columns {
+        private final int[] personIds;
+        private final int[] dates;
+        private final int[] points;
+        private final byte[] kinds;
+
+        // Number of rows written to the columns by any of the ledgers holding them
+        private int written;
+        private boolean isShared;
+
+        private Columns(int capacity) {
+            personIds = new int[capacity];
+            dates = new int[capacity];
+            points = new int[capacity];
+            kinds = new byte[capacity];
+        }
+
+        private int capacity() {
+            return personIds.length;
+        }
+
+        /**
+         * Returns new columns with room for {@code capacity} rows, holding the first {@code rows} of these.
+         */
+        private Columns copy(int rows, int capacity) {
+            Columns copy = new Columns(capacity);
+            System.arraycopy(personIds, 0, copy.personIds, 0, rows);
+            System.arraycopy(dates, 0, copy.dates, 0, rows);
+            System.arraycopy(points, 0, copy.points, 0, rows);
+            System.arraycopy(kinds, 0, copy.kinds, 0, rows);
+            copy.written = rows;
+            return copy;
+        }
+    }
+}
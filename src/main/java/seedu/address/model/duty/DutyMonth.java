@@ -2,22 +2,36 @@ package seedu.address.model.duty;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 
 import seedu.address.commons.util.CalendarUtil;
 import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.StampUtil;
 import seedu.address.model.person.Person;
 /**
  * Duty month class has a month of duties for the current month
  */
 public class DutyMonth {
 
+    // Rough bytes held for each duty, each person assigned to it, each person with blocked days and each blocked day
+    private static final int BYTES_PER_DUTY = 64;
+    private static final int BYTES_PER_ASSIGNMENT = 8;
+    private static final int BYTES_PER_BLOCKING_PERSON = 80;
+    private static final int BYTES_PER_BLOCKED_DAY = 20;
+
     private boolean confirmed = false;
     private boolean needsRollover = true;
 
@@ -27,6 +41,18 @@ public class DutyMonth {
     private List<Duty> scheduledDuties = new ArrayList<>();
     private HashMap<Person, List<Integer>> blockedDays = new HashMap<>();
 
+    // Seed of the attempt that produced the scheduled duties
+    private long seed;
+
+    // Whether scheduling ran out of time, so the duties are the part made by then and the seed does not remake them
+    private boolean isCutShort;
+
+    // How personnel were partitioned when the duties were scheduled, as persons of different partitions never swap
+    private PartitionMode partitionMode = PartitionMode.NONE;
+
+    // Stamp taken whenever the month changes
+    private long stamp = StampUtil.nextStamp();
+
     /**
      * Default constructor
      * @param year current year
@@ -53,9 +79,12 @@ public class DutyMonth {
      * @param firstDayOfWeekIndex day of the week of first day of current month (1 for Sunday - 7 for Saturday)
      * @param duties the list of the duties
      * @param blockedDays the list of blocked dates
+     * @param seed the seed the duties were scheduled with
+     * @param partitionMode how personnel were partitioned when the duties were scheduled
      */
     public DutyMonth(boolean confirmed, boolean needsRollover, int year, int monthIndex, int firstDayOfWeekIndex,
-                     List<Duty> duties, HashMap<Person, List<Integer>> blockedDays) {
+                     List<Duty> duties, HashMap<Person, List<Integer>> blockedDays, long seed,
+                     PartitionMode partitionMode) {
         this.confirmed = confirmed;
         this.needsRollover = needsRollover;
         this.year = year;
@@ -63,6 +92,8 @@ public class DutyMonth {
         this.firstDayOfWeekIndex = firstDayOfWeekIndex;
         this.scheduledDuties.addAll(duties);
         this.blockedDays.putAll(blockedDays);
+        this.seed = seed;
+        this.partitionMode = partitionMode;
     }
 
     /**
@@ -76,15 +107,21 @@ public class DutyMonth {
         this.firstDayOfWeekIndex = dutyMonth.getFirstDayOfWeekIndex();
 
         if (toCommit) {
-            this.scheduledDuties = new ArrayList<>(dutyMonth.getScheduledDuties());
-            this.confirmed = dutyMonth.isConfirmed();
-            for (Person person : dutyMonth.getBlockedDates().keySet()) {
-                this.blockedDays.put(person, new ArrayList<>(dutyMonth.getBlockedDates().get(person)));
+            // Duties are changed in place by swaps, so each copy has its own
+            for (Duty duty : dutyMonth.getScheduledDuties()) {
+                this.scheduledDuties.add(new Duty(duty));
             }
+            this.confirmed = dutyMonth.isConfirmed();
+            this.seed = dutyMonth.getSeed();
+            this.isCutShort = dutyMonth.isCutShort();
+            this.partitionMode = dutyMonth.getPartitionMode();
         } else {
-            this.blockedDays = new HashMap<>(dutyMonth.getBlockedDates());
             this.confirmed = false;
         }
+        // Blocked days are added in place, so each copy has its own lists
+        for (Person person : dutyMonth.getBlockedDates().keySet()) {
+            this.blockedDays.put(person, new ArrayList<>(dutyMonth.getBlockedDates().get(person)));
+        }
     }
 
     /**
@@ -92,6 +129,7 @@ public class DutyMonth {
      */
     public void addBlockedDay(Person person, int day) {
         if (DateUtil.isValidDate(this.year, this.monthIndex, day)) {
+            this.stamp = StampUtil.nextStamp();
             this.blockedDays.putIfAbsent(person, new ArrayList<>());
             if (!this.blockedDays.get(person).contains(day)) {
                 this.blockedDays.get(person).add(day);
@@ -101,91 +139,342 @@ public class DutyMonth {
         }
     }
 
+    /**
+     * Removes a day from the blocked list for the person inputted, dropping the person once none are left
+     */
+    public void removeBlockedDay(Person person, int day) {
+        List<Integer> days = this.blockedDays.get(person);
+        if (days != null && days.remove(Integer.valueOf(day))) {
+            this.stamp = StampUtil.nextStamp();
+            if (days.isEmpty()) {
+                this.blockedDays.remove(person);
+            }
+        }
+    }
+
     /**
      * Removed Blocked days from a person
      */
     public void removeBlockedDays(Person person) {
         if (this.blockedDays.get(person) != null) {
+            this.stamp = StampUtil.nextStamp();
             this.blockedDays.get(person).clear();
         }
     }
 
     /**
-     * Schedule allocates duties for the DutyMonth
+     * Schedule allocates duties for the DutyMonth.
+     * If the settings ask for more than one attempt, independently seeded attempts are run in parallel
+     * and the one with the fewest unfilled duties and the lowest points spread is kept.
+     * If the settings partition personnel, each partition is scheduled separately and in parallel,
+     * with the capacity of each day shared out between the partitions.
      */
     public void schedule(List<Person> persons, DutySettings dutySettings, DutyStorage dutyStorage) {
+        schedule(persons, dutySettings, dutyStorage, new ScheduleMonitor());
+    }
 
-        // Temporary Storage for points earned
-        HashMap<Person, Integer> points = new HashMap<>();
-        for (Person person : persons) {
-            points.put(person, dutyStorage.getDutyPoints().getOrDefault(person, 0));
-        }
+    /**
+     * Schedules the DutyMonth as {@link #schedule(List, DutySettings, DutyStorage)} does, reporting progress
+     * to {@code monitor} and stopping early if it is cancelled. The month is only changed once scheduling ends.
+     * @throws CancellationException if {@code monitor} is cancelled before scheduling ends
+     */
+    public void schedule(List<Person> persons, DutySettings dutySettings, DutyStorage dutyStorage,
+                         ScheduleMonitor monitor) {
+        schedule(persons, dutySettings, dutyStorage, new Random().nextLong(), dutySettings.getScheduleAttempts(),
+                monitor);
+    }
 
-        // List of Duties
-        List<Duty> dutyList = generateAllDuties(dutySettings);
+    /**
+     * Schedule allocates duties for the DutyMonth with a single attempt using the given seed.
+     * Scheduling the same persons, blocked dates and points with the same settings and seed gives the same duties,
+     * so a schedule can be made again from the seed recorded on it.
+     */
+    public void schedule(List<Person> persons, DutySettings dutySettings, DutyStorage dutyStorage, long seed) {
+        schedule(persons, dutySettings, dutyStorage, seed, new ScheduleMonitor());
+    }
 
-        // Priority Queue of Persons
-        PriorityQueue<Person> personQueue = new PriorityQueue<>(Comparator.comparingInt(points::get));
-        personQueue.addAll(persons);
+    /**
+     * Schedules the DutyMonth with the given seed as {@link #schedule(List, DutySettings, DutyStorage, long)} does,
+     * reporting progress to {@code monitor}.
+     * @throws CancellationException if {@code monitor} is cancelled before scheduling ends
+     */
+    public void schedule(List<Person> persons, DutySettings dutySettings, DutyStorage dutyStorage, long seed,
+                         ScheduleMonitor monitor) {
+        schedule(persons, dutySettings, dutyStorage, seed, 1, monitor);
+    }
 
-        if (personQueue.isEmpty()) {
-            this.scheduledDuties.addAll(dutyList);
-            this.scheduledDuties.sort(Comparator.comparingInt(Duty::getDayIndex));
+    /**
+     * Schedules the month from {@code masterSeed} with up to {@code attempts} attempts,
+     * separately for each partition of {@code persons} if the settings ask for it.
+     */
+    private void schedule(List<Person> persons, DutySettings dutySettings, DutyStorage dutyStorage,
+                          long masterSeed, int attempts, ScheduleMonitor monitor) {
+        this.stamp = StampUtil.nextStamp();
+        if (dutySettings.getPartitionMode() == PartitionMode.NONE) {
+            scheduleWhole(persons, dutySettings, dutyStorage, masterSeed, attempts, monitor);
+            return;
         }
 
-        for (Duty duty : dutyList) {
-            while (!duty.isFilled()) {
-                boolean hasAssignable = true;
+        Map<String, List<Person>> partitionedPersons = new TreeMap<>();
+        for (Person person : persons) {
+            partitionedPersons.computeIfAbsent(dutySettings.getPartitionMode().getPartition(person),
+                key -> new ArrayList<>()).add(person);
+        }
+        Map<String, DutySettings> partitionSettings = splitCapacity(dutySettings, partitionedPersons);
+        PartitionedScheduler.PartitionScheduler partitionScheduler = (name, partition, partitionPersons, seed,
+                partitionMonitor) -> partition.scheduleWhole(partitionPersons, partitionSettings.get(name),
+                dutyStorage, seed, attempts, partitionMonitor);
+        Map<String, DutyMonth> partitions = new PartitionedScheduler().run(this, partitionedPersons,
+                partitionScheduler, masterSeed, monitor);
+        this.seed = masterSeed;
+        this.scheduledDuties = mergePartitions(partitions.values());
+        this.partitionMode = dutySettings.getPartitionMode();
+        this.isCutShort = partitions.values().stream().anyMatch(DutyMonth::isCutShort);
+    }
 
-                Person person = personQueue.poll();
-                List<Person> tempList = new ArrayList<>();
+    /**
+     * Returns settings for each partition of {@code partitionedPersons} that share out the capacity of each day
+     * in {@code dutySettings} by the number of persons in each partition, so together the partitions fill the roster
+     * of the whole unit. The places of a day that do not divide evenly go to the partitions furthest behind
+     * their share of the month so far, and no partition is given more places on a day than it has persons.
+     */
+    private Map<String, DutySettings> splitCapacity(DutySettings dutySettings,
+                                                    Map<String, List<Person>> partitionedPersons) {
+        List<String> names = new ArrayList<>(partitionedPersons.keySet());
+        int numOfPersons = 0;
+        for (List<Person> partitionPersons : partitionedPersons.values()) {
+            numOfPersons += partitionPersons.size();
+        }
+        List<DutySettings> settings = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            settings.add(new DutySettings(dutySettings));
+        }
 
-                while (!this.isAssignable(person, duty)) {
-                    if (personQueue.isEmpty()) {
-                        hasAssignable = false;
-                        break;
+        // Places each partition is owed so far, counted in units of one place over the number of persons
+        long[] owed = new long[names.size()];
+        int dayOfWeek = this.getFirstDayOfWeekIndex();
+        for (int day = 1; day <= this.getNumOfDays(); day++) {
+            int capacity = dutySettings.getCapacity(this.monthIndex, day, dayOfWeek);
+            int[] shares = new int[names.size()];
+            for (int i = 0; i < names.size(); i++) {
+                owed[i] += (long) capacity * partitionedPersons.get(names.get(i)).size();
+            }
+            for (int place = 0; place < capacity; place++) {
+                int next = -1;
+                for (int i = 0; i < names.size(); i++) {
+                    if (shares[i] < partitionedPersons.get(names.get(i)).size()
+                            && (next == -1 || owed[i] > owed[next])) {
+                        next = i;
                     }
-                    tempList.add(person);
-                    person = personQueue.poll();
                 }
-                personQueue.addAll(tempList);
-
-
-                if (hasAssignable) {
-                    duty.addPerson(person);
-                    points.replace(person, points.get(person) + duty.getPoints());
-                    personQueue.add(person);
-
-                } else {
-                    personQueue.add(person);
+                if (next == -1) {
                     break;
                 }
+                shares[next]++;
+                owed[next] -= numOfPersons;
+            }
+            for (int i = 0; i < names.size(); i++) {
+                settings.get(i).setCapacity(this.monthIndex, day, shares[i]);
+            }
+            dayOfWeek = (dayOfWeek == 7) ? 1 : dayOfWeek + 1;
+        }
+
+        Map<String, DutySettings> partitionSettings = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            partitionSettings.put(names.get(i), settings.get(i));
+        }
+        return partitionSettings;
+    }
 
+    /**
+     * Schedules all of {@code persons} together, as a single partition.
+     * @return the attempt kept
+     */
+    private ScheduleAttempt scheduleWhole(List<Person> persons, DutySettings dutySettings, DutyStorage dutyStorage,
+                                          long masterSeed, int attempts, ScheduleMonitor monitor) {
+        int[] points = getPoints(persons, dutyStorage);
+
+        ScheduleAttempt best;
+        if (attempts > 1) {
+            best = new MultiStartScheduler().run((seed, limit) -> scheduleAttempt(persons, points, dutySettings,
+                    seed, limit), attempts, dutySettings.getScheduleTimeBudget(), masterSeed, monitor);
+        } else {
+            best = scheduleAttempt(persons, points, dutySettings, masterSeed,
+                    ScheduleLimit.after(monitor, dutySettings.getScheduleTimeBudget(), true));
+            if (monitor.isCancelled()) {
+                throw new CancellationException("Scheduling cancelled");
             }
+            monitor.report(new ScheduleProgress(1, 1, best.getTotalDuties() - best.getUnfilledDuties(),
+                    best.getTotalDuties(), best.getPointsSpread()));
         }
+        setSchedule(best);
+        return best;
+    }
+
+    /**
+     * Merges the duties of each day across {@code partitionMonths} into a single duty,
+     * whose manpower is the total of the partitions.
+     */
+    private List<Duty> mergePartitions(Collection<DutyMonth> partitionMonths) {
+        List<Duty> merged = new ArrayList<>();
+        int dayOfWeek = this.getFirstDayOfWeekIndex();
+        for (int day = 1; day <= this.getNumOfDays(); day++) {
+            int capacity = 0;
+            int points = 0;
+            List<Person> persons = new ArrayList<>();
+            for (DutyMonth partition : partitionMonths) {
+                Duty duty = partition.getScheduledDuties().get(day - 1);
+                capacity += duty.getCapacity();
+                points = duty.getPoints();
+                persons.addAll(duty.getPersons());
+            }
+            merged.add(new Duty(this.year, this.monthIndex, day, dayOfWeek, capacity, points, persons));
+            dayOfWeek = (dayOfWeek == 7) ? 1 : dayOfWeek + 1;
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the points earned before this month, indexed by person id
+     */
+    private static int[] getPoints(List<Person> persons, DutyStorage dutyStorage) {
+        int[] points = new int[persons.size()];
+        for (int id = 0; id < persons.size(); id++) {
+            points[id] = dutyStorage.getPoints(persons.get(id));
+        }
+        return points;
+    }
+
+    /**
+     * Replaces the scheduled duties with those of {@code attempt}, in order of day, and records its seed
+     */
+    private void setSchedule(ScheduleAttempt attempt) {
+        this.seed = attempt.getSeed();
+        this.isCutShort = attempt.isCutShort();
+        this.partitionMode = PartitionMode.NONE;
         this.scheduledDuties.clear();
-        this.scheduledDuties.addAll(dutyList);
+        this.scheduledDuties.addAll(attempt.getDuties());
         this.scheduledDuties.sort(Comparator.comparingInt(Duty::getDayIndex));
     }
 
     /**
-     * Checks if a person can be assigned to a duty on a given day
+     * Makes a single scheduling pass with the given seed, using the scheduler chosen in the settings,
+     * followed by the fairness optimizer if the settings give it any time.
+     * The attempt is marked as cut short if either of them ran out of time, as its seed then does not remake it.
+     * The pass stops where it is once {@code limit} is reached, keeping the duties filled by then.
+     * The pass works on its own copy of {@code initialPoints} and its own list of duties,
+     * so several passes can run at the same time.
      */
-    private boolean isAssignable(Person person, Duty duty) {
-        if (duty.isFilled()) {
-            return false;
-        } else if ((duty.getPersons().contains(person))) {
-            return false;
-        } else {
-            return !this.blockedDays.containsKey(person)
-                    || !this.blockedDays.get(person).contains(duty.getDayIndex());
+    private ScheduleAttempt scheduleAttempt(List<Person> persons, int[] initialPoints,
+                                            DutySettings dutySettings, long seed, ScheduleLimit limit) {
+
+        // Dense ids, blocked days, assignments and compiled rules of the persons for this run
+        ScheduleIndex index = new ScheduleIndex(persons, this.blockedDays, dutySettings.getConstraints());
+
+        // Temporary Storage for points earned, indexed by person id
+        int[] points = initialPoints.clone();
+
+        // List of Duties
+        List<Duty> dutyList = generateAllDuties(dutySettings, new Random(seed));
+
+        dutySettings.getSchedulerType().createScheduler().schedule(dutyList, index, points, limit);
+        boolean isOptimizerCutShort = false;
+        if (dutySettings.getFairnessTimeBudget() > 0) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(dutySettings.getFairnessTimeBudget());
+            FairnessOptimizer optimizer = new FairnessOptimizer(dutyList, index, points);
+            optimizer.optimize(deadline, limit);
+            isOptimizerCutShort = optimizer.isCutShort();
+        }
+        return new ScheduleAttempt(seed, dutyList, points, isOptimizerCutShort || limit.wasReached());
+    }
+
+    /**
+     * Removes {@code departed} from the duties they hold and refills only those places from {@code persons},
+     * giving each place to the assignable person with the fewest points as {@link #schedule} does,
+     * under the rules in {@code dutySettings}. If the month was partitioned when scheduled, only persons in the
+     * partition of {@code departed} refill their places, as partitions never share duties.
+     * All other assignments are kept.
+     * If the month is confirmed, the points in {@code dutyStorage} are recalculated the same way as after a swap.
+     * @return the duties that {@code departed} was removed from
+     */
+    public List<Duty> repair(Person departed, List<Person> persons, DutySettings dutySettings,
+                             DutyStorage dutyStorage) {
+        String departedNric = departed.getNric().toString();
+        this.stamp = StampUtil.nextStamp();
+        this.blockedDays.remove(departed);
+
+        List<Duty> holes = new ArrayList<>();
+        for (Duty duty : this.scheduledDuties) {
+            if (duty.getPersons().stream().anyMatch(person -> person.getNric().toString().equals(departedNric))) {
+                duty.removePerson(departed);
+                holes.add(duty);
+            }
+        }
+        if (holes.isEmpty()) {
+            return holes;
+        }
+        if (this.confirmed) {
+            dutyStorage.undoUpdate();
+        }
+
+        // Dense ids of the remaining persons, with the points they have before and within this month
+        String partition = partitionMode.getPartition(departed);
+        HashMap<String, Integer> ids = new HashMap<>();
+        List<Person> remaining = new ArrayList<>();
+        for (Person person : persons) {
+            if (!person.getNric().toString().equals(departedNric)
+                    && (partitionMode == PartitionMode.NONE || partitionMode.getPartition(person).equals(partition))) {
+                ids.put(person.getNric().toString(), remaining.size());
+                remaining.add(person);
+            }
+        }
+        ScheduleIndex index = new ScheduleIndex(remaining, this.blockedDays, dutySettings.getConstraints());
+        int[] points = new int[remaining.size()];
+        for (int id = 0; id < remaining.size(); id++) {
+            points[id] = dutyStorage.getPoints(remaining.get(id));
+        }
+        for (Duty duty : this.scheduledDuties) {
+            for (Person person : duty.getPersons()) {
+                Integer id = ids.get(person.getNric().toString());
+                if (id != null) {
+                    index.markAssigned(id, duty);
+                    points[id] += duty.getPoints();
+                }
+            }
+        }
+
+        List<Duty> refills = new ArrayList<>(holes);
+        refills.sort((d1, d2) -> (d2.getPoints() - d1.getPoints()));
+        new GreedyScheduler().schedule(refills, index, points);
+
+        if (this.confirmed) {
+            dutyStorage.update(this.scheduledDuties);
+        }
+        return holes;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the duties and blocked dates of the month,
+     * keeping every assignment as it is.
+     */
+    public void replacePerson(Person target, Person editedPerson) {
+        this.stamp = StampUtil.nextStamp();
+        for (Duty duty : this.scheduledDuties) {
+            if (duty.getPersons().stream()
+                    .anyMatch(person -> person.getNric().toString().equals(target.getNric().toString()))) {
+                duty.replacePerson(target, editedPerson);
+            }
+        }
+        List<Integer> days = this.blockedDays.remove(target);
+        if (days != null) {
+            this.blockedDays.put(editedPerson, days);
         }
     }
 
     /**
      * Generates duties for the month
      */
-    private List<Duty> generateAllDuties(DutySettings dutySettings) {
+    private List<Duty> generateAllDuties(DutySettings dutySettings, Random random) {
         List<Duty> duties = new ArrayList<>();
         int dayOfWeek = this.getFirstDayOfWeekIndex();
         for (int day = 1; day <= this.getNumOfDays(); day++) {
@@ -195,7 +484,7 @@ public class DutyMonth {
             duties.add(duty);
             dayOfWeek = (dayOfWeek == 7) ? 1 : dayOfWeek + 1;
         }
-        Collections.shuffle(duties);
+        Collections.shuffle(duties, random);
         duties.sort((d1, d2) -> (d2.getPoints() - d1.getPoints()));
         return duties;
     }
@@ -204,6 +493,7 @@ public class DutyMonth {
      * Clears all duties in the month
      */
     public void clearAllDuties() {
+        this.stamp = StampUtil.nextStamp();
         this.scheduledDuties = new ArrayList<>();
     }
 
@@ -227,6 +517,67 @@ public class DutyMonth {
         return this.scheduledDuties;
     }
 
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns true if the last schedule ran out of time, so its duties are the part made by then
+     * and scheduling again with its seed does not make the same duties.
+     */
+    public boolean isCutShort() {
+        return this.isCutShort;
+    }
+
+    /**
+     * Returns the stamp the month took when it last changed.
+     */
+    public long getStamp() {
+        return this.stamp;
+    }
+
+    public PartitionMode getPartitionMode() {
+        return this.partitionMode;
+    }
+
+    /**
+     * Returns the names of the partitions of the persons on duty, in order, or none if the month was not partitioned.
+     * The names are read from the duties on each call, so they follow any swap or repair made since.
+     */
+    public Set<String> getPartitionNames() {
+        Set<String> names = new TreeSet<>();
+        if (this.partitionMode != PartitionMode.NONE) {
+            for (Duty duty : this.scheduledDuties) {
+                for (Person person : duty.getPersons()) {
+                    names.add(this.partitionMode.getPartition(person));
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns true if {@code personOne} and {@code personTwo} were in the same partition when the month was scheduled,
+     * or if it was not partitioned.
+     */
+    public boolean isSamePartition(Person personOne, Person personTwo) {
+        return this.partitionMode.getPartition(personOne).equals(this.partitionMode.getPartition(personTwo));
+    }
+
+    /**
+     * Returns a rough estimate of the bytes held by the month, without the persons in it.
+     */
+    public long estimateSize() {
+        long size = (long) scheduledDuties.size() * BYTES_PER_DUTY;
+        for (Duty duty : scheduledDuties) {
+            size += (long) duty.getPersons().size() * BYTES_PER_ASSIGNMENT;
+        }
+        for (List<Integer> days : blockedDays.values()) {
+            size += BYTES_PER_BLOCKING_PERSON + (long) days.size() * BYTES_PER_BLOCKED_DAY;
+        }
+        return size;
+    }
+
     public HashMap<Person, List<Integer>> getBlockedDates() {
         return this.blockedDays;
     }
@@ -289,11 +640,19 @@ public class DutyMonth {
         return this.needsRollover;
     }
 
+    /**
+     * Confirms the duties of the month
+     */
     public void confirm() {
+        this.stamp = StampUtil.nextStamp();
         this.confirmed = true;
     }
 
+    /**
+     * Unconfirms the duties of the month
+     */
     public void unconfirm() {
+        this.stamp = StampUtil.nextStamp();
         this.confirmed = false;
     }
 
@@ -331,20 +690,25 @@ public class DutyMonth {
      * @param p2 person 2 to be swapped
      * @param d2 person 2 current duty
      * @param dutyStorage dutyStorage
+     * @return false if the month is not confirmed, the persons are in different partitions or either person cannot
+     *     take over the other's duty, in which case nothing is changed
      */
-    public void swap(Person p1, Duty d1, Person p2, Duty d2, DutyStorage dutyStorage) {
-        if (this.isConfirmed()) {
-            for (Duty duty : this.getScheduledDuties()) {
-                if (duty.equals(d1)) {
-                    duty.replacePerson(p1, p2);
-                }
-                if (duty.equals(d2)) {
-                    duty.replacePerson(p2, p1);
-                }
+    public boolean swap(Person p1, Duty d1, Person p2, Duty d2, DutyStorage dutyStorage) {
+        if (!this.isConfirmed() || !isSamePartition(p1, p2) || !d1.canReplacePerson(p1, p2)
+                || !d2.canReplacePerson(p2, p1)) {
+            return false;
+        }
+        this.stamp = StampUtil.nextStamp();
+        for (Duty duty : this.getScheduledDuties()) {
+            if (duty.equals(d1)) {
+                duty.replacePerson(p1, p2);
+            }
+            if (duty.equals(d2)) {
+                duty.replacePerson(p2, p1);
             }
-            dutyStorage.undo();
-            dutyStorage.update(this.getScheduledDuties());
         }
+        dutyStorage.swap(p1, d1, p2, d2);
+        return true;
     }
 
     /**
@@ -354,14 +718,36 @@ public class DutyMonth {
      * @param dayOne person 1's duty day
      * @param dayTwo person 2's duty day
      * @param dutyStorage dutyStorage
+     * @return false if the persons are in different partitions or either person cannot take over the other's duty,
+     *     in which case nothing is changed
      */
-    public void swap(Person t1, Person t2, int dayOne, int dayTwo, DutyStorage dutyStorage) {
+    public boolean swap(Person t1, Person t2, int dayOne, int dayTwo, DutyStorage dutyStorage) {
+        if (!swapRoster(t1, t2, dayOne, dayTwo)) {
+            return false;
+        }
+        if (this.isConfirmed()) {
+            dutyStorage.swap(t1, this.getScheduledDuties().get(dayOne - 1), t2,
+                    this.getScheduledDuties().get(dayTwo - 1));
+        }
+        return true;
+    }
+
+    /**
+     * Swaps duties between two persons based on their allocated days, leaving their points alone.
+     * Used when the points of the swap are undone or redone in the duty storage by themselves.
+     * @return false if the persons are in different partitions or either person cannot take over the other's duty,
+     *     in which case nothing is changed
+     */
+    public boolean swapRoster(Person t1, Person t2, int dayOne, int dayTwo) {
         Duty dutyOne = this.getScheduledDuties().get(dayOne - 1);
         Duty dutyTwo = this.getScheduledDuties().get(dayTwo - 1);
+        if (!isSamePartition(t1, t2) || !dutyOne.canReplacePerson(t1, t2) || !dutyTwo.canReplacePerson(t2, t1)) {
+            return false;
+        }
+        this.stamp = StampUtil.nextStamp();
         dutyOne.replacePerson(t1, t2);
         dutyTwo.replacePerson(t2, t1);
-        dutyStorage.undo();
-        dutyStorage.update(this.getScheduledDuties());
+        return true;
     }
 
     /**
@@ -0,0 +1,27 @@
+package seedu.address.model.duty;
+
+import java.util.List;
+
+/**
+ * Strategy used by {@link DutyMonth#schedule} to fill the duties of a month.
+ */
+interface DutyScheduler {
+
+    /**
+     * Fills {@code duties} with the persons in {@code index}.
+     * Assignments must be made through {@link ScheduleIndex#assign} and must respect
+     * {@link ScheduleIndex#isAssignable}. The points of each assigned person are added to {@code points}.
+     * @param duties the duties of the month, ordered by the seed of the scheduling attempt
+     * @param index the persons to be scheduled and their blocked days
+     * @param points the points of each person, indexed by person id
+     * @param limit polled between duties, stopping the pass with the duties not yet reached left as they are
+     */
+    void schedule(List<Duty> duties, ScheduleIndex index, int[] points, ScheduleLimit limit);
+
+    /**
+     * Fills {@code duties} as {@link #schedule(List, ScheduleIndex, int[], ScheduleLimit)} does, to the end.
+     */
+    default void schedule(List<Duty> duties, ScheduleIndex index, int[] points) {
+        schedule(duties, index, points, ScheduleLimit.NONE);
+    }
+}
@@ -1,9 +1,15 @@
 package seedu.address.model.duty;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.DateUtil;
 /**
@@ -13,25 +19,80 @@ public class DutySettings implements Serializable {
 
     private static final int[] DEFAULT_DUTY_POINTS_IN_WEEK = {4, 2 , 2 , 2 , 2 , 3 , 4};
     private static final int[] DEFAULT_DUTY_CAPACITY_IN_WEEK = {3, 2 , 2 , 2 , 2 , 2 , 3};
+    private static final int DEFAULT_SCHEDULE_ATTEMPTS = 1;
+    private static final long DEFAULT_SCHEDULE_TIME_BUDGET = 2000;
+    private static final long DEFAULT_FAIRNESS_TIME_BUDGET = 0;
 
     private int[] dutyPointsInWeek;
     private int[] dutyCapacityInWeek;
     private HashMap<Integer, HashMap<Integer, Integer>> dutyPointsException;
     private HashMap<Integer, HashMap<Integer, Integer>> dutyCapacityException;
 
+    // Engine used to fill the duties
+    private SchedulerType schedulerType = SchedulerType.GREEDY;
+
+    // How personnel are split into partitions that are scheduled separately
+    private PartitionMode partitionMode = PartitionMode.NONE;
+
+    // Number of seeded attempts made when scheduling, the best of which is kept
+    private int scheduleAttempts = DEFAULT_SCHEDULE_ATTEMPTS;
+
+    // Time in milliseconds after which no further scheduling attempts are started
+    private long scheduleTimeBudget = DEFAULT_SCHEDULE_TIME_BUDGET;
+
+    // Time in milliseconds each attempt may spend evening out points after scheduling, 0 to skip
+    private long fairnessTimeBudget = DEFAULT_FAIRNESS_TIME_BUDGET;
+
+    // Least number of free days between two duties of a person, 0 for no rule
+    private int minRestDays = 0;
+
+    // Most duties on weekends a person may be given in a month, 0 for no limit
+    private int maxWeekendDuties = 0;
+
+    // Days of the week on which persons with a tag or rank may not be given duties, keyed by tag name or rank
+    private HashMap<String, TreeSet<Integer>> restrictedDays = new HashMap<>();
 
     public DutySettings() {
-        this.dutyPointsInWeek = DEFAULT_DUTY_POINTS_IN_WEEK;
-        this.dutyCapacityInWeek = DEFAULT_DUTY_CAPACITY_IN_WEEK;
+        this.dutyPointsInWeek = DEFAULT_DUTY_POINTS_IN_WEEK.clone();
+        this.dutyCapacityInWeek = DEFAULT_DUTY_CAPACITY_IN_WEEK.clone();
         this.dutyPointsException = new HashMap<>();
         this.dutyCapacityException = new HashMap<>();
     }
 
+    /**
+     * Constructor for making a copy of {@code dutySettings} that does not change with it.
+     */
+    public DutySettings(DutySettings dutySettings) {
+        this.dutyPointsInWeek = dutySettings.dutyPointsInWeek.clone();
+        this.dutyCapacityInWeek = dutySettings.dutyCapacityInWeek.clone();
+        this.dutyPointsException = copyExceptions(dutySettings.dutyPointsException);
+        this.dutyCapacityException = copyExceptions(dutySettings.dutyCapacityException);
+        this.schedulerType = dutySettings.schedulerType;
+        this.partitionMode = dutySettings.partitionMode;
+        this.scheduleAttempts = dutySettings.scheduleAttempts;
+        this.scheduleTimeBudget = dutySettings.scheduleTimeBudget;
+        this.fairnessTimeBudget = dutySettings.fairnessTimeBudget;
+        this.minRestDays = dutySettings.minRestDays;
+        this.maxWeekendDuties = dutySettings.maxWeekendDuties;
+        dutySettings.restrictedDays.forEach((tagOrRank, daysOfWeek) ->
+                this.restrictedDays.put(tagOrRank, new TreeSet<>(daysOfWeek)));
+    }
+
     public DutySettings(int[] dutyPointsInWeek, int[] dutyCapacityInWeek) {
         this.dutyPointsInWeek = dutyCapacityInWeek;
         this.dutyCapacityInWeek = dutyCapacityInWeek;
     }
 
+    /**
+     * Returns a copy of the {@code exceptions} by month and day whose inner maps are not shared.
+     */
+    private static HashMap<Integer, HashMap<Integer, Integer>> copyExceptions(
+            HashMap<Integer, HashMap<Integer, Integer>> exceptions) {
+        HashMap<Integer, HashMap<Integer, Integer>> copy = new HashMap<>();
+        exceptions.forEach((month, days) -> copy.put(month, new HashMap<>(days)));
+        return copy;
+    }
+
     public void setPoints(int dayOfWeek, int points) {
         this.dutyPointsInWeek[dayOfWeek - 1] = points;
     }
@@ -50,6 +111,91 @@ public class DutySettings implements Serializable {
         this.dutyCapacityException.get(month).put(day, capacity);
     }
 
+    public SchedulerType getSchedulerType() {
+        return this.schedulerType;
+    }
+
+    public void setSchedulerType(SchedulerType schedulerType) {
+        this.schedulerType = schedulerType;
+    }
+
+    public PartitionMode getPartitionMode() {
+        return this.partitionMode;
+    }
+
+    public void setPartitionMode(PartitionMode partitionMode) {
+        this.partitionMode = partitionMode;
+    }
+
+    public int getScheduleAttempts() {
+        return this.scheduleAttempts;
+    }
+
+    public void setScheduleAttempts(int scheduleAttempts) {
+        this.scheduleAttempts = scheduleAttempts;
+    }
+
+    public long getScheduleTimeBudget() {
+        return this.scheduleTimeBudget;
+    }
+
+    public void setScheduleTimeBudget(long scheduleTimeBudget) {
+        this.scheduleTimeBudget = scheduleTimeBudget;
+    }
+
+    public long getFairnessTimeBudget() {
+        return this.fairnessTimeBudget;
+    }
+
+    public void setFairnessTimeBudget(long fairnessTimeBudget) {
+        this.fairnessTimeBudget = fairnessTimeBudget;
+    }
+
+    public int getMinRestDays() {
+        return this.minRestDays;
+    }
+
+    public void setMinRestDays(int minRestDays) {
+        this.minRestDays = minRestDays;
+    }
+
+    public int getMaxWeekendDuties() {
+        return this.maxWeekendDuties;
+    }
+
+    public void setMaxWeekendDuties(int maxWeekendDuties) {
+        this.maxWeekendDuties = maxWeekendDuties;
+    }
+
+    /**
+     * Keeps persons with the tag or rank {@code tagOrRank} off duties on {@code daysOfWeek},
+     * replacing any days set for it before. An empty set lifts the restriction.
+     */
+    public void setRestrictedDays(String tagOrRank, Set<Integer> daysOfWeek) {
+        if (daysOfWeek.isEmpty()) {
+            this.restrictedDays.remove(tagOrRank);
+        } else {
+            this.restrictedDays.put(tagOrRank, new TreeSet<>(daysOfWeek));
+        }
+    }
+
+    /**
+     * Returns the rules every schedule must meet besides blocked days and capacities.
+     */
+    public List<DutyConstraint> getConstraints() {
+        List<DutyConstraint> constraints = new ArrayList<>();
+        if (this.minRestDays > 0) {
+            constraints.add(new MinRestDaysConstraint(this.minRestDays));
+        }
+        if (this.maxWeekendDuties > 0) {
+            constraints.add(new MaxWeekendDutiesConstraint(this.maxWeekendDuties));
+        }
+        if (!this.restrictedDays.isEmpty()) {
+            constraints.add(new RestrictedDaysConstraint(new HashMap<>(this.restrictedDays)));
+        }
+        return constraints;
+    }
+
     public int getPoints(int month, int day, int dayOfWeek) {
         if (this.dutyPointsException.containsKey(month) && this.dutyPointsException.get(month).containsKey(day)) {
             return this.dutyPointsException.get(month).get(day);
@@ -77,6 +223,27 @@ public class DutySettings implements Serializable {
         return sb.toString();
     }
 
+    /**
+     * Prints the settings used when scheduling
+     */
+    public String printScheduleOptions() {
+        return String.format("Scheduling : [Scheduler = %s] [Partition = %s] [Attempts = %d] [Time Budget = %d ms] "
+                + "[Fairness Budget = %d ms]\n", this.schedulerType, this.partitionMode,
+                this.scheduleAttempts, this.scheduleTimeBudget, this.fairnessTimeBudget);
+    }
+
+    /**
+     * Prints the rules used when scheduling
+     */
+    public String printConstraints() {
+        StringBuilder sb = new StringBuilder(String.format("Rules : [Min Rest Days = %d] [Max Weekend Duties = %s]\n",
+                this.minRestDays, this.maxWeekendDuties == 0 ? "no limit" : this.maxWeekendDuties));
+        new TreeMap<>(this.restrictedDays).forEach((tagOrRank, daysOfWeek) ->
+                sb.append(String.format("No duties for %s on : %s\n", tagOrRank,
+                        daysOfWeek.stream().map(DateUtil::getDayOfWeek).collect(Collectors.joining(", ")))));
+        return sb.toString();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -91,13 +258,23 @@ public class DutySettings implements Serializable {
         return (Arrays.equals(this.dutyPointsInWeek, o.dutyPointsInWeek))
             && (Arrays.equals(this.dutyCapacityInWeek, o.dutyCapacityInWeek))
             && (this.dutyPointsException.equals(o.dutyPointsException))
-                && (this.dutyCapacityException.equals(o.dutyCapacityException));
+                && (this.dutyCapacityException.equals(o.dutyCapacityException))
+                && this.schedulerType == o.schedulerType
+                && this.partitionMode == o.partitionMode
+                && this.scheduleAttempts == o.scheduleAttempts
+                && this.scheduleTimeBudget == o.scheduleTimeBudget
+                && this.fairnessTimeBudget == o.fairnessTimeBudget
+                && this.minRestDays == o.minRestDays
+                && this.maxWeekendDuties == o.maxWeekendDuties
+                && this.restrictedDays.equals(o.restrictedDays);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(this.dutyPointsInWeek, this.dutyCapacityInWeek,
-                this.dutyPointsException, this.dutyCapacityException);
+                this.dutyPointsException, this.dutyCapacityException,
+                this.schedulerType, this.partitionMode, this.scheduleAttempts, this.scheduleTimeBudget,
+                this.fairnessTimeBudget, this.minRestDays, this.maxWeekendDuties, this.restrictedDays);
     }
 
 }
@@ -1,53 +1,93 @@
 package seedu.address.model.duty;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
+import seedu.address.commons.util.StampUtil;
 import seedu.address.model.person.Person;
 /**
- * DutyStorage class to see the points of each person and update Duties
+ * DutyStorage class to see the points of each person and update Duties.
+ * Each person is given an id, found through their NRIC, and their points are kept in an int array by id,
+ * so looking up, rewarding, penalizing and renaming a person take constant time.
+ * Every change in points is also appended to a {@link DutyLedger}, from which the records of each person are read.
+ * Copies of the storage share the rows of its ledger that neither of them has written over since.
+ * The storage takes a new stamp whenever it changes.
+ * Each operation on the storage owns the rows it appended, so undoing or redoing it moves only those rows.
+ * The operations are kept on stacks that copies share, up to {@code MAX_UNDO_OPERATIONS} of them.
  */
 public class DutyStorage {
 
-    private static final String MESSAGE_RECORD_REWARDED = "Reward: %d points added";
-    private static final String MESSAGE_RECORD_PENALIZED = "Penalty: %d points deducted";
+    public static final long NO_OPERATION = 0;
 
-    private HashMap<Person, Integer> dutyPoints;
-    private HashMap<Person, List<String>> dutyRecords;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_UNDO_OPERATIONS = 50;
 
-    private HashMap<Person, Integer> prevDutyPoints;
-    private HashMap<Person, List<String>> prevDutyRecords;
+    // Rough bytes held for each person, across the ids, the points and the leaderboard, and for each row of a ledger
+    private static final int BYTES_PER_PERSON = 96;
+    private static final int BYTES_PER_ROW = 13;
 
-    public DutyStorage() {
-        this.dutyPoints = new HashMap<>();
-        this.dutyRecords = new HashMap<>();
-        this.prevDutyPoints = new HashMap<>();
-        this.prevDutyRecords = new HashMap<>();
-    }
+    private final NricIndex ids;
+
+    // Persons by id, with null for the ids of removed persons
+    private final List<Person> persons;
+
+    private int[] dutyPoints;
+    private final PointsIndex leaderboard;
+    private final DutyLedger ledger;
 
-    public DutyStorage(HashMap<Person, Integer> dutyPoints, HashMap<Person, List<String>> dutyRecords,
-                       HashMap<Person, Integer> prevDutyPoints, HashMap<Person, List<String>> prevDutyRecords) {
-        this.dutyPoints = dutyPoints;
-        this.dutyRecords = dutyRecords;
+    // Rows of the ledger from this one onwards were added since the last update
+    private int undoMark;
 
-        this.prevDutyPoints = prevDutyPoints;
-        this.prevDutyRecords = prevDutyRecords;
+    // Operations done, owning the rows of the ledger, and operations undone, owning the rows of undoneRows.
+    // Operations done at or below the floor are dropped, though still linked until the stack is compacted.
+    private OperationStack doneOperations;
+    private int doneFloor;
+    private OperationStack undoneOperations;
+    private final DutyLedger undoneRows;
+
+    private long stamp = StampUtil.nextStamp();
+
+    public DutyStorage() {
+        this.ids = new NricIndex();
+        this.persons = new ArrayList<>();
+        this.dutyPoints = new int[INITIAL_CAPACITY];
+        this.leaderboard = new PointsIndex();
+        this.ledger = new DutyLedger();
+        this.undoneRows = new DutyLedger();
     }
 
-    public DutyStorage(DutyStorage dutyStorage) {
-        this.dutyPoints = new HashMap<>(dutyStorage.getDutyPoints());
-        this.dutyRecords = new HashMap<>();
-        for (Person person : dutyStorage.getDutyRecords().keySet()) {
-            this.dutyRecords.put(person, new ArrayList<>(dutyStorage.getDutyRecords().get(person)));
+    /**
+     * Creates a DutyStorage holding {@code dutyPoints} and the history in {@code events}.
+     * The events from index {@code undoMark} onwards are those undone by {@link #undoUpdate()}.
+     */
+    public DutyStorage(HashMap<Person, Integer> dutyPoints, List<DutyEvent> events, int undoMark) {
+        this();
+        for (Person person : dutyPoints.keySet()) {
+            int id = idOrAdd(person);
+            addPoints(id, dutyPoints.get(person) - this.dutyPoints[id]);
         }
-        this.prevDutyPoints = new HashMap<>(dutyStorage.getPrevDutyPoints());
-        this.prevDutyRecords = new HashMap<>();
-        for (Person person : dutyStorage.getPrevDutyRecords().keySet()) {
-            this.prevDutyRecords.put(person, new ArrayList<>(dutyStorage.getPrevDutyRecords().get(person)));
+        for (DutyEvent event : events) {
+            ledger.append(idOrAdd(event.getPerson()),
+                    DutyLedger.toDate(event.getYear(), event.getMonthIndex(), event.getDayIndex()),
+                    event.getPoints(), event.getKind());
         }
+        this.undoMark = Math.min(undoMark, ledger.size());
+    }
+
+    public DutyStorage(DutyStorage dutyStorage) {
+        this.ids = new NricIndex(dutyStorage.ids);
+        this.persons = new ArrayList<>(dutyStorage.persons);
+        this.dutyPoints = Arrays.copyOf(dutyStorage.dutyPoints, dutyStorage.dutyPoints.length);
+        this.leaderboard = new PointsIndex(dutyStorage.leaderboard);
+        this.ledger = new DutyLedger(dutyStorage.ledger);
+        this.undoMark = dutyStorage.undoMark;
+        this.doneOperations = dutyStorage.doneOperations;
+        this.doneFloor = dutyStorage.doneFloor;
+        this.undoneOperations = dutyStorage.undoneOperations;
+        this.undoneRows = new DutyLedger(dutyStorage.undoneRows);
     }
 
     /**
@@ -55,224 +95,643 @@ public class DutyStorage {
      * @param person the person to be added
      */
     public void addPerson(Person person) {
-        this.dutyPoints.put(person, 0);
-        this.dutyRecords.put(person, new ArrayList<>());
-        this.prevDutyPoints.put(person, 0);
-        this.prevDutyRecords.put(person, new ArrayList<>());
+        stamp = StampUtil.nextStamp();
+        int id = idOf(person);
+        if (id != NricIndex.NOT_FOUND) {
+            // Forget the history of the person the NRIC belonged to
+            retire(id);
+        }
+        idOrAdd(person);
     }
 
     /**
      * Updates points for each duty done by person
      */
     public void update(List<Duty> duties) {
-
-        // Store dutyPoints in a previous pointer
-        this.prevDutyPoints.clear();
-        for (Person person : this.dutyPoints.keySet()) {
-            this.prevDutyPoints.put(person, this.dutyPoints.get(person));
+        stamp = StampUtil.nextStamp();
+        beginOperation(false, ledger.size());
+        for (Duty duty : duties) {
+            int date = DutyLedger.toDate(duty.getYear(), duty.getMonthIndex(), duty.getDayIndex());
+            for (Person person : duty.getPersons()) {
+                append(idOrAdd(person), date, duty.getPoints(), DutyEvent.Kind.DUTY_SERVED);
+            }
         }
+    }
 
-        // Store dutyRecords in a previous pointer
-        this.prevDutyRecords.clear();
-        for (Person person : this.dutyRecords.keySet()) {
-            this.prevDutyRecords.put(person, new ArrayList<>(this.dutyRecords.get(person)));
-        }
+    /**
+     * Moves {@code dutyOne} from {@code personOne} to {@code personTwo} and {@code dutyTwo} the other way,
+     * adjusting the points of only the two of them.
+     */
+    public void swap(Person personOne, Duty dutyOne, Person personTwo, Duty dutyTwo) {
+        stamp = StampUtil.nextStamp();
+        int idOne = idOrAdd(personOne);
+        int idTwo = idOrAdd(personTwo);
+        int dateOne = DutyLedger.toDate(dutyOne.getYear(), dutyOne.getMonthIndex(), dutyOne.getDayIndex());
+        int dateTwo = DutyLedger.toDate(dutyTwo.getYear(), dutyTwo.getMonthIndex(), dutyTwo.getDayIndex());
+
+        beginOperation(false, undoMark);
+        append(idOne, dateOne, -dutyOne.getPoints(), DutyEvent.Kind.SWAP);
+        append(idOne, dateTwo, dutyTwo.getPoints(), DutyEvent.Kind.SWAP);
+        append(idTwo, dateTwo, -dutyTwo.getPoints(), DutyEvent.Kind.SWAP);
+        append(idTwo, dateOne, dutyOne.getPoints(), DutyEvent.Kind.SWAP);
+    }
 
-        for (Duty duty : duties) {
-            for (Person person : duty.getPersons()) {
-                this.dutyPoints.putIfAbsent(person, 0);
-                this.dutyPoints.replace(person, this.dutyPoints.get(person) + duty.getPoints());
+    /**
+     * Undoes the last update of the storage, along with the swaps made since.
+     * Drops their rows from the ledger, keeping any rewards and penalties given since, and clears the redo history.
+     */
+    public void undoUpdate() {
+        stamp = StampUtil.nextStamp();
+        List<Operation> sinceUpdate = popOperationsFrom(undoMark);
+        int kept = undoMark;
+        int next = sinceUpdate.size() - 1;
+        for (int row = undoMark; row < ledger.size(); row++) {
+            for (; next >= 0 && sinceUpdate.get(next).start == row; next--) {
+                if (sinceUpdate.get(next).isAdjustment) {
+                    pushDone(new Operation(StampUtil.nextStamp(), true, kept, undoMark, undoMark));
+                }
+            }
+            DutyEvent.Kind kind = ledger.getKind(row);
+            if (kind == DutyEvent.Kind.DUTY_SERVED || kind == DutyEvent.Kind.SWAP) {
+                addPoints(ledger.getPersonId(row), -ledger.getPoints(row));
+            } else {
+                ledger.move(row, kept++);
+            }
+        }
+        ledger.truncate(kept);
+        clearUndone();
+    }
 
-                this.dutyRecords.putIfAbsent(person, new ArrayList<>());
-                this.dutyRecords.get(person).add(duty.toString());
+    /**
+     * Returns true if {@link #undoUpdate()} would take any rows back, those of the last update or of swaps made since.
+     */
+    public boolean hasUpdateToUndo() {
+        for (int row = undoMark; row < ledger.size(); row++) {
+            DutyEvent.Kind kind = ledger.getKind(row);
+            if (kind == DutyEvent.Kind.DUTY_SERVED || kind == DutyEvent.Kind.SWAP) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Takes back the last {@code numOfRows} rows of the ledger along with their points, as if they were never added.
+     * The operations owning those rows are dropped, and the redo history is cleared.
+     */
+    public void takeBack(int numOfRows) {
+        stamp = StampUtil.nextStamp();
+        int start = ledger.size() - numOfRows;
+        popOperationsFrom(start);
+        for (int row = start; row < ledger.size(); row++) {
+            addPoints(ledger.getPersonId(row), -ledger.getPoints(row));
+        }
+        ledger.truncate(start);
+        undoMark = Math.min(undoMark, start);
+        clearUndone();
     }
+
     /**
-     * Undoes the storage for dutyPoints
+     * Undoes the last operation done on the storage, at a cost in proportion to the rows it added.
+     * Returns false if there is no operation to undo.
      */
-    public void undo() {
-        this.dutyPoints.clear();
-        for (Person person : this.prevDutyPoints.keySet()) {
-            this.dutyPoints.put(person, this.prevDutyPoints.get(person));
+    public boolean undo() {
+        if (!canUndo()) {
+            return false;
         }
+        stamp = StampUtil.nextStamp();
+        Operation operation = popDone();
+        int undoneStart = undoneRows.size();
+        for (int row = operation.start; row < ledger.size(); row++) {
+            addPoints(ledger.getPersonId(row), -ledger.getPoints(row));
+            undoneRows.append(ledger, row);
+        }
+        ledger.truncate(operation.start);
+        undoMark = operation.markBefore;
+        undoneOperations = OperationStack.push(operation.movedTo(undoneStart), undoneOperations);
+        return true;
+    }
+
+    /**
+     * Undoes the last operation done on the storage if it is the one with {@code operationId}.
+     * Returns false, changing nothing, if it is not.
+     */
+    public boolean undo(long operationId) {
+        return getLastOperationId() == operationId && undo();
+    }
 
-        this.dutyRecords.clear();
-        for (Person person : this.prevDutyRecords.keySet()) {
-            this.dutyRecords.put(person, new ArrayList<>(this.prevDutyRecords.get(person)));
+    /**
+     * Redoes the last operation undone, at a cost in proportion to the rows it added.
+     * Returns false if there is no operation to redo.
+     */
+    public boolean redo() {
+        if (!canRedo()) {
+            return false;
+        }
+        stamp = StampUtil.nextStamp();
+        Operation operation = undoneOperations.operation;
+        undoneOperations = undoneOperations.below;
+        int start = ledger.size();
+        for (int row = operation.start; row < undoneRows.size(); row++) {
+            addPoints(undoneRows.getPersonId(row), undoneRows.getPoints(row));
+            ledger.append(undoneRows, row);
         }
+        undoneRows.truncate(operation.start);
+        undoMark = operation.markAfter;
+        pushDone(operation.movedTo(start));
+        return true;
+    }
+
+    /**
+     * Redoes the last operation undone if it is the one with {@code operationId}.
+     * Returns false, changing nothing, if it is not.
+     */
+    public boolean redo(long operationId) {
+        return canRedo() && undoneOperations.operation.id == operationId && redo();
+    }
+
+    public boolean canUndo() {
+        return doneOperations != null && doneOperations.depth > doneFloor;
+    }
+
+    public boolean canRedo() {
+        return undoneOperations != null;
+    }
+
+    /**
+     * Returns the id of the last operation that can be undone, or {@code NO_OPERATION} if there is none.
+     * An operation keeps its id when it is undone and redone.
+     */
+    public long getLastOperationId() {
+        return canUndo() ? doneOperations.operation.id : NO_OPERATION;
+    }
+
+    /**
+     * Returns the stamp the storage took when it last changed.
+     */
+    public long getStamp() {
+        return stamp;
+    }
+
+    /**
+     * Returns a rough estimate of the bytes held by the storage, counting every row of its ledger
+     * even if they are shared with a copy.
+     */
+    public long estimateSize() {
+        return (long) persons.size() * BYTES_PER_PERSON + (long) (ledger.size() + undoneRows.size()) * BYTES_PER_ROW;
     }
 
     public int getPoints(Person person) {
-        return dutyPoints.getOrDefault(person, 0);
+        int id = idOf(person);
+        return id == NricIndex.NOT_FOUND ? 0 : dutyPoints[id];
     }
 
+    /**
+     * Returns a map of the points of each person, built afresh on each call.
+     */
     public HashMap<Person, Integer> getDutyPoints() {
-        return dutyPoints;
+        HashMap<Person, Integer> map = new HashMap<>();
+        for (int id = 0; id < persons.size(); id++) {
+            if (persons.get(id) != null) {
+                map.put(persons.get(id), dutyPoints[id]);
+            }
+        }
+        return map;
     }
 
+    /**
+     * Returns a map of the records of each person, read from the ledger on each call.
+     */
     public HashMap<Person, List<String>> getDutyRecords() {
-        return dutyRecords;
+        HashMap<Person, List<String>> map = new HashMap<>();
+        for (Person person : persons) {
+            if (person != null) {
+                map.put(person, new ArrayList<>());
+            }
+        }
+        for (int row = 0; row < ledger.size(); row++) {
+            Person person = persons.get(ledger.getPersonId(row));
+            if (person != null) {
+                map.get(person).add(ledger.describe(row));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Returns the events in the ledger of persons still in storage, oldest first.
+     */
+    public List<DutyEvent> getEvents() {
+        List<DutyEvent> events = new ArrayList<>();
+        for (int row = 0; row < ledger.size(); row++) {
+            Person person = persons.get(ledger.getPersonId(row));
+            if (person != null) {
+                int date = ledger.getDate(row);
+                events.add(new DutyEvent(person, DutyLedger.yearOf(date), DutyLedger.monthIndexOf(date),
+                        DutyLedger.dayIndexOf(date), ledger.getPoints(row), ledger.getKind(row)));
+            }
+        }
+        return events;
     }
 
-    public HashMap<Person, Integer> getPrevDutyPoints() {
-        return prevDutyPoints;
+    /**
+     * Returns the index in {@link #getEvents()} of the first event added since the last update.
+     */
+    public int getUndoMark() {
+        int mark = 0;
+        for (int row = 0; row < undoMark; row++) {
+            if (persons.get(ledger.getPersonId(row)) != null) {
+                mark++;
+            }
+        }
+        return mark;
+    }
+
+    /**
+     * Returns the {@code k} persons with the most points, most points first.
+     */
+    public List<Person> getTopPoints(int k) {
+        return toPersons(leaderboard.getTop(k));
+    }
+
+    /**
+     * Returns the persons with fewer than {@code points}, fewest points first.
+     */
+    public List<Person> getPersonsUnder(int points) {
+        return toPersons(leaderboard.getBelow(points));
+    }
+
+    /**
+     * Returns the persons with at least the points at the {@code percentile}-th percentile, most points first.
+     * The points at a percentile are those of the person ranked at that percentage of persons, counting from
+     * the fewest points.
+     */
+    public List<Person> getPersonsFromPercentile(int percentile) {
+        int size = leaderboard.size();
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+        int threshold = leaderboard.getPointsAt(Math.max(0, (percentile * size + 99) / 100 - 1));
+        return toPersons(leaderboard.getTop(size - leaderboard.countBelow(threshold)));
+    }
+
+    /**
+     * Returns the rank of {@code person} by points, from 1 for the most points, shared by persons with equal points.
+     * Returns 0 if the person is not in storage.
+     */
+    public int getRank(Person person) {
+        int id = idOf(person);
+        return id == NricIndex.NOT_FOUND ? 0 : leaderboard.countAbove(dutyPoints[id]) + 1;
     }
 
-    public HashMap<Person, List<String>> getPrevDutyRecords() {
-        return prevDutyRecords;
+    /**
+     * Returns the percentage of persons with fewer points than {@code person}.
+     * Returns 0 if the person is not in storage.
+     */
+    public int getPercentile(Person person) {
+        int id = idOf(person);
+        return id == NricIndex.NOT_FOUND ? 0 : leaderboard.countBelow(dutyPoints[id]) * 100 / leaderboard.size();
     }
 
     /**
-     * Prints the points accumulated by each person
+     * Prints the points accumulated by each person, most points first
      */
     public String printPoints() {
         StringBuilder sb = new StringBuilder();
         sb.append("--- POINTS ACCUMULATED ----\n");
-        for (Person person : this.dutyPoints.keySet()) {
-            int points = this.dutyPoints.get(person);
+        for (Person person : getTopPoints(leaderboard.size())) {
+            sb.append(String.format("%s | Points: %d\n",
+                    person, getPoints(person)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prints the {@code k} persons with the most points, with their ranks
+     */
+    public String printTopPoints(int k) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("--- TOP %d BY POINTS ----\n", k));
+        appendRanked(sb, getTopPoints(k));
+        return sb.toString();
+    }
+
+    /**
+     * Prints the persons with fewer than {@code points}
+     */
+    public String printPointsUnder(int points) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("--- UNDER %d POINTS ----\n", points));
+        for (Person person : getPersonsUnder(points)) {
             sb.append(String.format("%s | Points: %d\n",
-                    person, points));
+                    person, getPoints(person)));
         }
         return sb.toString();
     }
 
+    /**
+     * Prints the persons at or above the {@code percentile}-th percentile of points, with their ranks
+     */
+    public String printPointsFromPercentile(int percentile) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("--- PERCENTILE %d AND ABOVE ----\n", percentile));
+        appendRanked(sb, getPersonsFromPercentile(percentile));
+        return sb.toString();
+    }
+
+    /**
+     * Appends a line for each of {@code rankedPersons}, who are the persons with the most points in order,
+     * with their rank.
+     */
+    private void appendRanked(StringBuilder sb, List<Person> rankedPersons) {
+        int rank = 0;
+        for (int i = 0; i < rankedPersons.size(); i++) {
+            int points = getPoints(rankedPersons.get(i));
+            if (i == 0 || points != getPoints(rankedPersons.get(i - 1))) {
+                rank = i + 1;
+            }
+            sb.append(String.format("%d. %s | Points: %d\n", rank, rankedPersons.get(i), points));
+        }
+    }
+
     /**
      * Prints the duties for that month
      */
     public String printDetails(Person person) {
+        int id = idOf(person);
         StringBuilder sb = new StringBuilder();
         sb.append(person).append("\n");
-        sb.append(String.format("Points : %d\n", this.dutyPoints.getOrDefault(person, 0)));
+        sb.append(String.format("Points : %d\n", id == NricIndex.NOT_FOUND ? 0 : this.dutyPoints[id]));
+        if (id != NricIndex.NOT_FOUND) {
+            sb.append(String.format("Rank : %d of %d | Percentile : %d\n",
+                    getRank(person), leaderboard.size(), getPercentile(person)));
+        }
         sb.append("--- RECORDS ---\n");
-        for (String dutyDetails : this.dutyRecords.getOrDefault(person, new ArrayList<>())) {
-            sb.append(dutyDetails).append("\n");
+        if (id != NricIndex.NOT_FOUND) {
+            for (int row = 0; row < ledger.size(); row++) {
+                if (ledger.getPersonId(row) == id) {
+                    sb.append(ledger.describe(row)).append("\n");
+                }
+            }
         }
         return sb.toString();
     }
 
     /**
-     * Removes Person for Duty Storage
+     * Removes Person for Duty Storage.
+     * Their id is retired rather than reused, so the rows of the ledger never change owner.
      */
     public void removePerson(Person remove) {
-        for (Person p : this.dutyPoints.keySet()) {
-            if (remove.getNric().toString().equals(p.getNric().toString())) {
-                this.dutyPoints.remove(p);
-                break;
-            }
+        int id = idOf(remove);
+        if (id == NricIndex.NOT_FOUND) {
+            return;
         }
-
-        for (Person p : this.prevDutyPoints.keySet()) {
-            if (remove.getNric().toString().equals(p.getNric().toString())) {
-                this.prevDutyPoints.remove(p);
-                break;
-            }
+        stamp = StampUtil.nextStamp();
+        retire(id);
+    }
+    /**
+     * Replaces person for duty storage
+     */
+    public void replacePerson(Person personToEdit, Person editedPerson) {
+        stamp = StampUtil.nextStamp();
+        int id = idOf(personToEdit);
+        if (id == NricIndex.NOT_FOUND) {
+            return;
         }
+        ids.remove(nricOf(personToEdit));
+        ids.put(nricOf(editedPerson), id);
+        persons.set(id, editedPerson);
+    }
 
-        for (Person p : this.dutyRecords.keySet()) {
-            if (remove.getNric().toString().equals(p.getNric().toString())) {
-                this.dutyRecords.remove(p);
-                break;
-            }
+    /**
+     * Rewards points to a person
+     * @param target the person to be rewarded
+     * @param points the number of points to be rewarded
+     * @return false if the person is not in storage
+     */
+    public boolean reward(Person target, int points) {
+        return reward(target, points, LocalDate.now());
+    }
+
+    /**
+     * Rewards points to a person, recorded under {@code date}
+     * @return false if the person is not in storage
+     */
+    public boolean reward(Person target, int points, LocalDate date) {
+        return adjust(target, points, DutyEvent.Kind.REWARD, date);
+    }
+
+    /**
+     * Penalize points to a person
+     * @param target the person to be penalized
+     * @param points the number of points to be penalized
+     * @return false if the person is not in storage
+     */
+    public boolean penalize(Person target, int points) {
+        return penalize(target, points, LocalDate.now());
+    }
+
+    /**
+     * Penalize points to a person, recorded under {@code date}
+     * @return false if the person is not in storage
+     */
+    public boolean penalize(Person target, int points, LocalDate date) {
+        return adjust(target, -points, DutyEvent.Kind.PENALTY, date);
+    }
+
+    /**
+     * Adds {@code points} to {@code target} and records it in the ledger under {@code date}.
+     * Returns false if {@code target} is not in storage.
+     */
+    private boolean adjust(Person target, int points, DutyEvent.Kind kind, LocalDate date) {
+        int id = idOf(target);
+        if (id == NricIndex.NOT_FOUND) {
+            return false;
         }
+        stamp = StampUtil.nextStamp();
+        beginOperation(true, undoMark);
+        append(id, DutyLedger.toDate(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth()),
+                points, kind);
+        return true;
+    }
 
-        for (Person p : this.prevDutyRecords.keySet()) {
-            if (remove.getNric().toString().equals(p.getNric().toString())) {
-                this.prevDutyRecords.remove(p);
-                break;
-            }
+    /**
+     * Starts a new operation owning the rows appended from now on, leaving {@code markAfter} as the undo mark.
+     * An adjustment is a reward or a penalty, which is kept when the update before it is undone.
+     * Operations undone before can no longer be redone.
+     */
+    private void beginOperation(boolean isAdjustment, int markAfter) {
+        clearUndone();
+        pushDone(new Operation(StampUtil.nextStamp(), isAdjustment, ledger.size(), undoMark, markAfter));
+        undoMark = markAfter;
+    }
+
+    /**
+     * Pushes {@code operation} onto the operations done, dropping the oldest beyond {@code MAX_UNDO_OPERATIONS}.
+     * The dropped operations are unlinked once as many again have piled up, so each push costs constant time
+     * on average and a copy never needs more than its own stack.
+     */
+    private void pushDone(Operation operation) {
+        doneOperations = OperationStack.push(operation, doneOperations);
+        int depth = doneOperations.depth;
+        doneFloor = Math.max(doneFloor, depth - MAX_UNDO_OPERATIONS);
+        if (doneFloor >= MAX_UNDO_OPERATIONS) {
+            doneOperations = doneOperations.top(depth - doneFloor);
+            doneFloor = 0;
         }
+    }
 
+    /**
+     * Pops the last operation done, lowering the floor with it if it was already dropped.
+     */
+    private Operation popDone() {
+        Operation operation = doneOperations.operation;
+        doneOperations = doneOperations.below;
+        doneFloor = Math.min(doneFloor, doneOperations == null ? 0 : doneOperations.depth);
+        return operation;
     }
+
     /**
-     * Replaces person for duty storage
+     * Pops the operations done owning rows from {@code start} onwards, last operation first.
      */
-    public void replacePerson(Person personToEdit, Person editedPerson) {
-        Set<Person> persons = new HashSet<>();
-        persons.addAll(this.dutyPoints.keySet());
-        persons.addAll(this.dutyRecords.keySet());
-        persons.addAll(this.prevDutyPoints.keySet());
-        persons.addAll(this.prevDutyRecords.keySet());
-
-        Person target = null;
-        for (Person p : persons) {
-            if (personToEdit.getNric().toString().equals(p.getNric().toString())) {
-                target = p;
-                break;
-            }
+    private List<Operation> popOperationsFrom(int start) {
+        List<Operation> popped = new ArrayList<>();
+        while (doneOperations != null && doneOperations.operation.start >= start) {
+            popped.add(popDone());
         }
+        return popped;
+    }
 
-        if (target != null) {
-            this.dutyPoints.put(editedPerson, this.dutyPoints.get(target));
-            this.dutyRecords.put(editedPerson, this.dutyRecords.get(target));
-            this.prevDutyPoints.put(editedPerson, this.prevDutyPoints.get(target));
-            this.prevDutyRecords.put(editedPerson, this.prevDutyRecords.get(target));
+    private void clearUndone() {
+        undoneOperations = null;
+        undoneRows.truncate(0);
+    }
+
+    /**
+     * Adds {@code points} to the person with {@code id} and appends the change to the ledger.
+     */
+    private void append(int id, int date, int points, DutyEvent.Kind kind) {
+        addPoints(id, points);
+        ledger.append(id, date, points, kind);
+    }
 
-            this.dutyPoints.remove(target);
-            this.dutyRecords.remove(target);
-            this.prevDutyPoints.remove(target);
-            this.prevDutyRecords.remove(target);
+    /**
+     * Adds {@code points} to the person with {@code id}, keeping the leaderboard in order.
+     */
+    private void addPoints(int id, int points) {
+        dutyPoints[id] += points;
+        if (persons.get(id) != null) {
+            leaderboard.set(id, dutyPoints[id]);
         }
     }
 
     /**
-     * Rewards points to a person
-     * @param target the person to be rewarded
-     * @param points the number of points to be rewarded
+     * Takes the person with {@code id} out of storage, leaving their rows in the ledger to an id no one holds.
      */
-    public void reward(Person target, int points) {
-        for (Person person : this.dutyPoints.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.dutyPoints.replace(person, this.dutyPoints.get(person) + points);
-            }
+    private void retire(int id) {
+        ids.remove(nricOf(persons.get(id)));
+        persons.set(id, null);
+        dutyPoints[id] = 0;
+        leaderboard.remove(id);
+    }
+
+    private int idOf(Person person) {
+        return ids.get(nricOf(person));
+    }
+
+    /**
+     * Returns the id of {@code person}, giving them the next id with no points if they have none.
+     */
+    private int idOrAdd(Person person) {
+        int id = idOf(person);
+        if (id != NricIndex.NOT_FOUND) {
+            return id;
         }
-        for (Person person : this.dutyRecords.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.dutyRecords.get(person).add(String.format(MESSAGE_RECORD_REWARDED, points));
-            }
+
+        id = persons.size();
+        if (id == dutyPoints.length) {
+            dutyPoints = Arrays.copyOf(dutyPoints, id * 2);
         }
+        ids.put(nricOf(person), id);
+        persons.add(person);
+        dutyPoints[id] = 0;
+        leaderboard.set(id, 0);
+        return id;
+    }
 
-        for (Person person : this.prevDutyPoints.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.prevDutyPoints.replace(person, this.prevDutyPoints.get(person) + points);
-            }
+    /**
+     * Returns the persons with the given ids, in the same order.
+     */
+    private List<Person> toPersons(int[] personIds) {
+        List<Person> list = new ArrayList<>(personIds.length);
+        for (int id : personIds) {
+            list.add(persons.get(id));
         }
-        for (Person person : this.prevDutyRecords.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.prevDutyRecords.get(person).add(String.format(MESSAGE_RECORD_REWARDED, points));
-            }
+        return list;
+    }
+
+    private static String nricOf(Person person) {
+        return person.getNric().toString();
+    }
+
+    /**
+     * An operation on the storage, owning the rows of its ledger from {@code start} up to the start of the next one.
+     * Keeps the undo mark from before and after it, so undoing and redoing it restore the mark too.
+     */
+    private static class Operation {
+        private final long id;
+        private final boolean isAdjustment;
+        private final int start;
+        private final int markBefore;
+        private final int markAfter;
+
+        private Operation(long id, boolean isAdjustment, int start, int markBefore, int markAfter) {
+            this.id = id;
+            this.isAdjustment = isAdjustment;
+            this.start = start;
+            this.markBefore = markBefore;
+            this.markAfter = markAfter;
+        }
+
+        private Operation movedTo(int newStart) {
+            return new Operation(id, isAdjustment, newStart, markBefore, markAfter);
         }
     }
 
     /**
-     * Penalize points to a person
-     * @param target the person to be penalized
-     * @param points the number of points to be penalized
+     * An immutable stack of operations, shared between copies of the storage.
+     * Each node knows how deep it is, counting the bottom node as 1.
      */
-    public void penalize(Person target, int points) {
-        for (Person person : this.dutyPoints.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.dutyPoints.replace(person, this.dutyPoints.get(person) - points);
-            }
+    private static class OperationStack {
+        private final Operation operation;
+        private final OperationStack below;
+        private final int depth;
+
+        private OperationStack(Operation operation, OperationStack below, int depth) {
+            this.operation = operation;
+            this.below = below;
+            this.depth = depth;
         }
 
-        for (Person person : this.dutyRecords.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.dutyRecords.get(person).add(String.format(MESSAGE_RECORD_PENALIZED, points));
-            }
+        private static OperationStack push(Operation operation, OperationStack below) {
+            return new OperationStack(operation, below, below == null ? 1 : below.depth + 1);
         }
 
-        for (Person person : this.prevDutyPoints.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.prevDutyPoints.replace(person, this.prevDutyPoints.get(person) - points);
-                return;
+        /**
+         * Returns a new stack of only the top {@code size} operations of this one.
+         */
+        private OperationStack top(int size) {
+            Operation[] kept = new Operation[size];
+            OperationStack node = this;
+            for (int i = size - 1; i >= 0; i--) {
+                kept[i] = node.operation;
+                node = node.below;
             }
-        }
-        for (Person person : this.prevDutyRecords.keySet()) {
-            if (person.getNric().toString().equals(target.getNric().toString())) {
-                this.prevDutyRecords.get(person).add(String.format(MESSAGE_RECORD_PENALIZED, points));
+            OperationStack stack = null;
+            for (Operation keptOperation : kept) {
+                stack = push(keptOperation, stack);
             }
+            return stack;
         }
     }
 }
-
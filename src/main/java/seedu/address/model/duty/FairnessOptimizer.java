@@ -0,0 +1,195 @@
+package seedu.address.model.duty;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Improves a filled schedule by local search, moving and swapping persons between duties
+ * to even out the points of everyone being scheduled.
+ *
+ * As moves and swaps never change the total number of points given out, lowering the sum of the squared points
+ * of every person lowers their variance by the same amount. The change in that sum is worked out from the points
+ * of the two persons involved only, so each candidate is scored in constant time.
+ * Only moves that keep blocked days, duty capacities and the constraints of the index valid are considered,
+ * and only strictly improving ones are made, so the search always ends.
+ *
+ * The search is bounded by a number of passes as well as by time. A search that ends by itself or after its passes
+ * makes the same changes on every machine, while one stopped by the clock is marked as cut short.
+ */
+class FairnessOptimizer {
+
+    private static final int MAX_DAYS_IN_MONTH = 31;
+
+    // Passes over every person, each trying to move or swap away all of their duties
+    private static final int MAX_PASSES = 100;
+
+    private final ScheduleIndex index;
+    private final int[] points;
+
+    // Duty on each day, indexed by (day - 1)
+    private final Duty[] dutyOfDay = new Duty[MAX_DAYS_IN_MONTH];
+
+    // Bit (day - 1) is set if the person with that id is assigned the duty on that day
+    private final int[] dutyMasks;
+
+    private boolean isCutShort;
+
+    /**
+     * Creates an optimizer for a schedule made over {@code duties} with the persons in {@code index}.
+     * @param points the points of each person, indexed by person id, including the points of the schedule
+     */
+    FairnessOptimizer(List<Duty> duties, ScheduleIndex index, int[] points) {
+        this.index = index;
+        this.points = points;
+        this.dutyMasks = new int[index.size()];
+        for (Duty duty : duties) {
+            dutyOfDay[duty.getDayIndex() - 1] = duty;
+        }
+        for (int id = 0; id < index.size(); id++) {
+            for (Duty duty : duties) {
+                if (index.isAssigned(id, duty.getDayIndex())) {
+                    dutyMasks[id] |= 1 << (duty.getDayIndex() - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes improving moves and swaps until none is left, {@code MAX_PASSES} passes have been made,
+     * or {@code deadline}, in {@link System#nanoTime} terms, has passed.
+     * @return the number of changes made to the schedule
+     */
+    int optimize(long deadline) {
+        return optimize(deadline, ScheduleLimit.NONE);
+    }
+
+    /**
+     * Optimizes as {@link #optimize(long)} does, also stopping once {@code limit} of the whole pass is reached.
+     * @return the number of changes made to the schedule
+     */
+    int optimize(long deadline, ScheduleLimit limit) {
+        int changes = 0;
+        boolean isImproved = true;
+        for (int pass = 0; isImproved && pass < MAX_PASSES; pass++) {
+            isImproved = false;
+
+            // Persons from the fewest points to the most, as candidates to take on duties
+            int[] order = IntStream.range(0, index.size()).boxed()
+                    .sorted(Comparator.comparingInt(id -> points[id]))
+                    .mapToInt(Integer::intValue).toArray();
+
+            for (int rank = order.length - 1; rank >= 0; rank--) {
+                if (System.nanoTime() >= deadline || limit.isReached()) {
+                    isCutShort = true;
+                    return changes;
+                }
+                int from = order[rank];
+                for (int day = 1; day <= MAX_DAYS_IN_MONTH; day++) {
+                    if (isOnDuty(from, day) && (tryMove(from, day, order) || trySwap(from, day, order))) {
+                        isImproved = true;
+                        changes++;
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns true if the last search was stopped by the clock, or by the limit of its pass,
+     * so the changes it made depend on how fast it ran.
+     */
+    boolean isCutShort() {
+        return isCutShort;
+    }
+
+    /**
+     * Hands the duty of {@code from} on {@code day} to the person with the fewest points who can take it,
+     * if that lowers the sum of squared points.
+     */
+    private boolean tryMove(int from, int day, int[] order) {
+        Duty duty = dutyOfDay[day - 1];
+        for (int to : order) {
+            if (moveDelta(points[from], points[to], duty.getPoints()) >= 0) {
+                return false;
+            }
+            if (canTake(to, day) && index.isAllowed(to, duty)) {
+                index.unassign(from, duty);
+                index.assign(to, duty);
+                points[from] -= duty.getPoints();
+                points[to] += duty.getPoints();
+                dutyMasks[from] &= ~(1 << (day - 1));
+                dutyMasks[to] |= 1 << (day - 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Swaps the duty of {@code from} on {@code day} with a lighter duty of a person with fewer points,
+     * if that lowers the sum of squared points.
+     */
+    private boolean trySwap(int from, int day, int[] order) {
+        Duty duty = dutyOfDay[day - 1];
+        for (int to : order) {
+            if (points[to] >= points[from]) {
+                return false;
+            }
+            if (!canTake(to, day)) {
+                continue;
+            }
+            for (int otherDay = 1; otherDay <= MAX_DAYS_IN_MONTH; otherDay++) {
+                if (!isOnDuty(to, otherDay) || !canTake(from, otherDay)) {
+                    continue;
+                }
+                Duty other = dutyOfDay[otherDay - 1];
+                if (moveDelta(points[from], points[to], duty.getPoints() - other.getPoints()) < 0
+                        && swap(from, duty, to, other)) {
+                    points[from] += other.getPoints() - duty.getPoints();
+                    points[to] += duty.getPoints() - other.getPoints();
+                    dutyMasks[from] ^= (1 << (day - 1)) | (1 << (otherDay - 1));
+                    dutyMasks[to] ^= (1 << (day - 1)) | (1 << (otherDay - 1));
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gives {@code duty} of {@code from} to {@code to} and {@code other} of {@code to} to {@code from},
+     * if the constraints of the index allow both once each has given up their own duty.
+     * Otherwise leaves both duties as they were.
+     * @return true if the duties were swapped
+     */
+    private boolean swap(int from, Duty duty, int to, Duty other) {
+        index.unassign(from, duty);
+        index.unassign(to, other);
+        if (index.isAllowed(to, duty) && index.isAllowed(from, other)) {
+            index.assign(to, duty);
+            index.assign(from, other);
+            return true;
+        }
+        index.assign(from, duty);
+        index.assign(to, other);
+        return false;
+    }
+
+    /**
+     * Returns the change in the sum of squared points when {@code amount} points move
+     * from a person with {@code fromPoints} to a person with {@code toPoints}.
+     */
+    static long moveDelta(long fromPoints, long toPoints, long amount) {
+        return 2 * amount * (toPoints - fromPoints + amount);
+    }
+
+    private boolean isOnDuty(int id, int day) {
+        return (dutyMasks[id] & (1 << (day - 1))) != 0;
+    }
+
+    private boolean canTake(int id, int day) {
+        return dutyOfDay[day - 1] != null && !isOnDuty(id, day) && !index.isBlocked(id, day);
+    }
+}
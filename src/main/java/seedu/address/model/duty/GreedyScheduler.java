@@ -0,0 +1,36 @@
+package seedu.address.model.duty;
+
+import java.util.List;
+
+/**
+ * Fills duties one at a time, in the order given, with the assignable persons holding the fewest points.
+ * The limit is polled before each duty, so a pass stopped early leaves the duties of the lowest points open.
+ */
+class GreedyScheduler implements DutyScheduler {
+
+    @Override
+    public void schedule(List<Duty> duties, ScheduleIndex index, int[] points, ScheduleLimit limit) {
+
+        // Indexed heap of person ids, persons who cannot take a duty are skipped rather than taken out
+        PersonQueue personQueue = new PersonQueue(points);
+
+        int filledDuties = 0;
+        for (Duty duty : duties) {
+            if (limit.isReached()) {
+                return;
+            }
+            int placesLeft = duty.getCapacity() - duty.getPersons().size();
+            if (placesLeft > 0) {
+                for (int id : personQueue.findLowest(placesLeft, id -> index.isAssignable(id, duty))) {
+                    index.assign(id, duty);
+                    points[id] += duty.getPoints();
+                    personQueue.update(id);
+                }
+            }
+            if (duty.isFilled()) {
+                filledDuties++;
+            }
+            limit.reportFilled(filledDuties, duties.size(), points);
+        }
+    }
+}
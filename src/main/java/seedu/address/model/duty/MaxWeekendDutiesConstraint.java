@@ -0,0 +1,63 @@
+package seedu.address.model.duty;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Limits the number of duties on Saturdays and Sundays a person may be given in a month.
+ * Compiles into a count of the weekend duties held by each person.
+ */
+public class MaxWeekendDutiesConstraint implements DutyConstraint {
+
+    private static final int SUNDAY = 1;
+    private static final int SATURDAY = 7;
+
+    private final int maxDuties;
+
+    public MaxWeekendDutiesConstraint(int maxDuties) {
+        this.maxDuties = maxDuties;
+    }
+
+    @Override
+    public Check compile(List<Person> persons) {
+        int[] weekendDuties = new int[persons.size()];
+
+        return new Check() {
+            @Override
+            public boolean allows(int id, Duty duty) {
+                return !isWeekend(duty) || weekendDuties[id] < maxDuties;
+            }
+
+            @Override
+            public void assigned(int id, Duty duty) {
+                if (isWeekend(duty)) {
+                    weekendDuties[id]++;
+                }
+            }
+
+            @Override
+            public void unassigned(int id, Duty duty) {
+                if (isWeekend(duty)) {
+                    weekendDuties[id]--;
+                }
+            }
+        };
+    }
+
+    private static boolean isWeekend(Duty duty) {
+        return duty.getDayOfWeekIndex() == SUNDAY || duty.getDayOfWeekIndex() == SATURDAY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MaxWeekendDutiesConstraint // instanceof handles nulls
+                && maxDuties == ((MaxWeekendDutiesConstraint) other).maxDuties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(maxDuties);
+    }
+}
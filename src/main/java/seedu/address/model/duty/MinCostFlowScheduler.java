@@ -0,0 +1,327 @@
+package seedu.address.model.duty;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Fills duties by solving a min-cost max-flow problem over the bipartite network of persons and duties.
+ *
+ * Every unit of flow is one person doing one duty: source -> person -> duty -> sink, where a person is joined
+ * to every duty on a day they have not blocked and each duty can take flow up to its capacity. As the flow is
+ * maximum, no other assignment can fill more places. Among maximum assignments, the cost approximates the sum
+ * of the squared points of every person: giving the k-th duty of the month, worth {@code w}, to a person with
+ * {@code b} points costs {@code 2bw + w^2} on the person -> duty edge and {@code 2(k - 1)W^2} on the
+ * source -> person edge, where {@code W} is the average points of a duty.
+ *
+ * The network is never built explicitly. Edges are derived from the blocked days in the {@link ScheduleIndex} and
+ * from the current assignment, and the problem is solved by successive shortest paths using Dijkstra's algorithm
+ * with node potentials, stopping each search as soon as the sink is reached.
+ *
+ * The limit is polled before each augmenting path. A search stopped early writes back the flow found so far,
+ * which is a valid assignment that fills fewer places.
+ *
+ * Constraints of the index are checked against the duties held before the run when deciding which edges exist,
+ * which covers rules on who may take which duty. Rules on the combination of duties a person holds cannot be
+ * expressed as edges, so the assignment is written back through {@link ScheduleIndex#isAssignable}, and places
+ * left open by assignments it turns down are filled by a {@link GreedyScheduler} pass.
+ */
+class MinCostFlowScheduler implements DutyScheduler {
+
+    private static final long INFINITY = Long.MAX_VALUE / 4;
+    private static final int FROM_SOURCE = -1;
+    private static final int UNREACHED = -2;
+
+    @Override
+    public void schedule(List<Duty> duties, ScheduleIndex index, int[] points, ScheduleLimit limit) {
+        new Network(duties, index, points).solve(limit);
+    }
+
+    /**
+     * Residual network of a single scheduling run.
+     * Nodes {@code [0, n)} are persons, {@code [n, n + d)} are duties and {@code n + d} is the sink.
+     * The source is implicit.
+     */
+    private static class Network {
+
+        private final List<Duty> duties;
+        private final ScheduleIndex index;
+        private final int[] points;
+
+        private final int numOfPersons;
+        private final int numOfDuties;
+        private final int sink;
+
+        // Points of each person above the lowest, so that every edge cost starts out non-negative
+        private final long[] basePoints;
+        private final long averageDutyPoints;
+
+        // Current flow: number of duties given to each person, and persons on each duty
+        private final int[] dutiesTaken;
+        private final BitSet[] onDuty;
+        private final int[][] members;
+        private final int[] filled;
+
+        private final long[] potential;
+        private final long[] dist;
+        private final int[] prev;
+        private final NodeHeap heap;
+
+        Network(List<Duty> duties, ScheduleIndex index, int[] points) {
+            this.duties = duties;
+            this.index = index;
+            this.points = points;
+            this.numOfPersons = index.size();
+            this.numOfDuties = duties.size();
+            this.sink = numOfPersons + numOfDuties;
+
+            int lowest = Arrays.stream(points).min().orElse(0);
+            this.basePoints = new long[numOfPersons];
+            for (int p = 0; p < numOfPersons; p++) {
+                basePoints[p] = (long) points[p] - lowest;
+            }
+
+            long totalPoints = 0;
+            long totalPlaces = 0;
+            this.onDuty = new BitSet[numOfDuties];
+            this.members = new int[numOfDuties][];
+            for (int j = 0; j < numOfDuties; j++) {
+                Duty duty = duties.get(j);
+                totalPoints += (long) duty.getPoints() * duty.getCapacity();
+                totalPlaces += duty.getCapacity();
+                onDuty[j] = new BitSet(numOfPersons);
+                members[j] = new int[duty.getCapacity()];
+            }
+            this.averageDutyPoints = totalPlaces == 0 ? 1 : Math.max(1, totalPoints / totalPlaces);
+
+            this.dutiesTaken = new int[numOfPersons];
+            this.filled = new int[numOfDuties];
+            this.potential = new long[sink + 1];
+            this.dist = new long[sink + 1];
+            this.prev = new int[sink + 1];
+            this.heap = new NodeHeap(sink + 1);
+        }
+
+        /**
+         * Augments along shortest paths until the sink can no longer be reached or {@code limit} is reached,
+         * then writes the assignment back into the duties.
+         */
+        void solve(ScheduleLimit limit) {
+            int filledDuties = 0;
+            while (!limit.isReached() && findShortestPath()) {
+                if (augment()) {
+                    filledDuties++;
+                    limit.reportFilled(filledDuties, numOfDuties, points);
+                }
+            }
+            boolean isTurnedDown = false;
+            for (int j = 0; j < numOfDuties; j++) {
+                Duty duty = duties.get(j);
+                for (int i = 0; i < filled[j]; i++) {
+                    if (index.isAssignable(members[j][i], duty)) {
+                        index.assign(members[j][i], duty);
+                        points[members[j][i]] += duty.getPoints();
+                    } else {
+                        isTurnedDown = true;
+                    }
+                }
+            }
+            if (isTurnedDown) {
+                new GreedyScheduler().schedule(duties, index, points, limit);
+            }
+        }
+
+        private long unitCost(int person) {
+            long taken = dutiesTaken[person];
+            return 2 * taken * averageDutyPoints * averageDutyPoints;
+        }
+
+        private long edgeCost(int person, int duty) {
+            long dutyPoints = duties.get(duty).getPoints();
+            return 2 * basePoints[person] * dutyPoints + dutyPoints * dutyPoints;
+        }
+
+        /**
+         * Returns true if there is an edge from {@code person} to {@code duty} with room for flow.
+         */
+        private boolean isOpen(int person, int duty) {
+            int day = duties.get(duty).getDayIndex();
+            return !onDuty[duty].get(person) && !index.isBlocked(person, day)
+                    && index.isAllowed(person, duties.get(duty));
+        }
+
+        /**
+         * Runs Dijkstra's algorithm on reduced costs from the source and updates the potentials.
+         * Returns false if the sink cannot be reached.
+         */
+        private boolean findShortestPath() {
+            Arrays.fill(dist, INFINITY);
+            Arrays.fill(prev, UNREACHED);
+            heap.clear();
+
+            for (int p = 0; p < numOfPersons; p++) {
+                relax(p, unitCost(p) - potential[p], FROM_SOURCE);
+            }
+
+            while (!heap.isEmpty()) {
+                long d = heap.peekKey();
+                int u = heap.pop();
+                if (d > dist[u]) {
+                    continue;
+                }
+                if (u == sink) {
+                    break;
+                }
+                if (u < numOfPersons) {
+                    for (int j = 0; j < numOfDuties; j++) {
+                        if (isOpen(u, j)) {
+                            int v = numOfPersons + j;
+                            relax(v, d + edgeCost(u, j) + potential[u] - potential[v], u);
+                        }
+                    }
+                } else {
+                    int j = u - numOfPersons;
+                    if (filled[j] < members[j].length) {
+                        relax(sink, d + potential[u] - potential[sink], u);
+                    }
+                    for (int i = 0; i < filled[j]; i++) {
+                        int p = members[j][i];
+                        relax(p, d - edgeCost(p, j) + potential[u] - potential[p], u);
+                    }
+                }
+            }
+
+            if (dist[sink] >= INFINITY) {
+                return false;
+            }
+            long sinkDist = dist[sink];
+            for (int v = 0; v <= sink; v++) {
+                potential[v] += Math.min(dist[v], sinkDist);
+            }
+            return true;
+        }
+
+        /**
+         * Records a shorter path to {@code node} through {@code from}, if {@code newDist} is shorter.
+         */
+        private void relax(int node, long newDist, int from) {
+            if (newDist < dist[node]) {
+                dist[node] = newDist;
+                prev[node] = from;
+                heap.push(newDist, node);
+            }
+        }
+
+        /**
+         * Pushes one unit of flow along the path found by the last search.
+         * Returns true if the duty the flow reaches the sink through is now full.
+         */
+        private boolean augment() {
+            int lastDuty = prev[sink] - numOfPersons;
+            int duty = lastDuty;
+            while (true) {
+                int person = prev[numOfPersons + duty];
+                addMember(duty, person);
+                int from = prev[person];
+                if (from == FROM_SOURCE) {
+                    dutiesTaken[person]++;
+                    return filled[lastDuty] == members[lastDuty].length;
+                }
+                duty = from - numOfPersons;
+                removeMember(duty, person);
+            }
+        }
+
+        private void addMember(int duty, int person) {
+            members[duty][filled[duty]++] = person;
+            onDuty[duty].set(person);
+        }
+
+        /**
+         * Removes {@code person} from {@code duty}, as flow is pushed back along a reverse edge.
+         */
+        private void removeMember(int duty, int person) {
+            for (int i = 0; i < filled[duty]; i++) {
+                if (members[duty][i] == person) {
+                    members[duty][i] = members[duty][--filled[duty]];
+                    break;
+                }
+            }
+            onDuty[duty].clear(person);
+        }
+    }
+
+    /**
+     * Binary min-heap of nodes keyed by distance, allowing stale entries.
+     */
+    private static class NodeHeap {
+
+        private long[] keys;
+        private int[] nodes;
+        private int size;
+
+        NodeHeap(int capacity) {
+            this.keys = new long[capacity];
+            this.nodes = new int[capacity];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long peekKey() {
+            return keys[0];
+        }
+
+        /**
+         * Adds {@code node} with the given key, growing the heap if needed.
+         */
+        void push(long key, int node) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+
+        /**
+         * Removes and returns the node with the smallest key.
+         */
+        int pop() {
+            int top = nodes[0];
+            long key = keys[--size];
+            int node = nodes[size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                keys[i] = keys[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.duty;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Requires at least the given number of free days between any two duties of a person.
+ * Compiles into a bitmask of the duty days of each person and, for every day, a mask of the days too close to it,
+ * so each check is a single AND.
+ */
+public class MinRestDaysConstraint implements DutyConstraint {
+
+    private static final int MAX_DAYS_IN_MONTH = 31;
+
+    private final int restDays;
+
+    public MinRestDaysConstraint(int restDays) {
+        this.restDays = restDays;
+    }
+
+    @Override
+    public Check compile(List<Person> persons) {
+        int[] dutyMasks = new int[persons.size()];
+
+        // Bit (d - 1) is set in closeDays[day - 1] if a duty on day d leaves too little rest before or after day
+        int[] closeDays = new int[MAX_DAYS_IN_MONTH];
+        for (int day = 1; day <= MAX_DAYS_IN_MONTH; day++) {
+            int first = Math.max(1, day - restDays);
+            int last = Math.min(MAX_DAYS_IN_MONTH, day + restDays);
+            for (int d = first; d <= last; d++) {
+                closeDays[day - 1] |= 1 << (d - 1);
+            }
+        }
+
+        return new Check() {
+            @Override
+            public boolean allows(int id, Duty duty) {
+                return (dutyMasks[id] & closeDays[duty.getDayIndex() - 1]) == 0;
+            }
+
+            @Override
+            public void assigned(int id, Duty duty) {
+                dutyMasks[id] |= 1 << (duty.getDayIndex() - 1);
+            }
+
+            @Override
+            public void unassigned(int id, Duty duty) {
+                dutyMasks[id] &= ~(1 << (duty.getDayIndex() - 1));
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MinRestDaysConstraint // instanceof handles nulls
+                && restDays == ((MinRestDaysConstraint) other).restDays);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(restDays);
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.duty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs several independently seeded scheduling attempts for a month in parallel and keeps the best one.
+ * Attempts that have not started when the time budget runs out are skipped, but the first attempt always runs.
+ * Attempts still running then stop where they are, and the best of the attempts made so far is kept.
+ * The best attempt so far is reported to the {@link ScheduleMonitor} as each attempt finishes.
+ */
+class MultiStartScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(MultiStartScheduler.class);
+
+    private final ForkJoinPool pool;
+
+    MultiStartScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    MultiStartScheduler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Runs {@code attempts} attempts made by {@code scheduler}, with seeds drawn from {@code masterSeed}.
+     * Among equally good attempts, the one with the lowest attempt number wins.
+     * @throws CancellationException if {@code monitor} is cancelled before the attempts end
+     */
+    ScheduleAttempt run(SeededScheduler scheduler, int attempts, long timeBudget, long masterSeed,
+                        ScheduleMonitor monitor) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget);
+        Random seeds = new Random(masterSeed);
+        ProgressTracker tracker = new ProgressTracker(attempts, monitor);
+
+        List<Callable<ScheduleAttempt>> tasks = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            boolean isFirst = i == 0;
+            long seed = isFirst ? masterSeed : seeds.nextLong();
+            tasks.add(() -> {
+                if (monitor.isCancelled() || (!isFirst && System.nanoTime() >= deadline)) {
+                    return null;
+                }
+                return tracker.completed(scheduler.attempt(seed, new ScheduleLimit(monitor, deadline, false)));
+            });
+        }
+
+        ScheduleAttempt best = null;
+        int completed = 0;
+        for (Future<ScheduleAttempt> future : pool.invokeAll(tasks)) {
+            ScheduleAttempt attempt = getResult(future);
+            if (attempt == null) {
+                continue;
+            }
+            completed++;
+            if (best == null || attempt.isBetterThan(best)) {
+                best = attempt;
+            }
+        }
+        if (monitor.isCancelled()) {
+            throw new CancellationException("Scheduling cancelled after " + completed + " attempts");
+        }
+
+        logger.info(String.format("Completed %d of %d scheduling attempts, seed %d won with %d unfilled duties "
+                + "and a points spread of %d", completed, attempts, best.getSeed(), best.getUnfilledDuties(),
+                best.getPointsSpread()));
+        return best;
+    }
+
+    private static ScheduleAttempt getResult(Future<ScheduleAttempt> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scheduling", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scheduling attempt failed", e.getCause());
+        }
+    }
+
+    /**
+     * Keeps the best attempt finished so far, reporting it every time an attempt finishes.
+     */
+    private static class ProgressTracker {
+
+        private final int attempts;
+        private final ScheduleMonitor monitor;
+        private ScheduleAttempt best;
+        private int completed;
+
+        ProgressTracker(int attempts, ScheduleMonitor monitor) {
+            this.attempts = attempts;
+            this.monitor = monitor;
+        }
+
+        /**
+         * Records that {@code attempt} has finished and returns it.
+         */
+        synchronized ScheduleAttempt completed(ScheduleAttempt attempt) {
+            completed++;
+            if (best == null || attempt.isBetterThan(best)) {
+                best = attempt;
+            }
+            monitor.report(new ScheduleProgress(completed, attempts,
+                    best.getTotalDuties() - best.getUnfilledDuties(), best.getTotalDuties(), best.getPointsSpread()));
+            return attempt;
+        }
+    }
+
+    /**
+     * Makes a single scheduling attempt with a given seed, stopping early once {@code limit} is reached.
+     */
+    @FunctionalInterface
+    interface SeededScheduler {
+        ScheduleAttempt attempt(long seed, ScheduleLimit limit);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.duty;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from NRIC strings to the dense ids of persons, holding the ids as plain ints.
+ * Uses linear probing on a power-of-two table kept at most half full, and backward-shift deletion,
+ * so lookups, insertions and removals take constant time on average without boxing or tombstones.
+ */
+class NricIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] keys;
+    private int[] values;
+    private int size;
+
+    NricIndex() {
+        keys = new String[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+    }
+
+    NricIndex(NricIndex index) {
+        keys = Arrays.copyOf(index.keys, index.keys.length);
+        values = Arrays.copyOf(index.values, index.values.length);
+        size = index.size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id stored for {@code nric}, or {@link #NOT_FOUND} if there is none.
+     */
+    int get(String nric) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(nric, mask); keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(nric)) {
+                return values[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Stores {@code id} for {@code nric}, replacing any id stored for it before.
+     */
+    void put(String nric, int id) {
+        int mask = keys.length - 1;
+        int slot = slotOf(nric, mask);
+        while (keys[slot] != null) {
+            if (keys[slot].equals(nric)) {
+                values[slot] = id;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = nric;
+        values[slot] = id;
+        size++;
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes the id stored for {@code nric}, if any.
+     * The entries after it in its probe run are shifted back, so no run is left with a gap.
+     */
+    void remove(String nric) {
+        int mask = keys.length - 1;
+        int slot = slotOf(nric, mask);
+        while (keys[slot] != null && !keys[slot].equals(nric)) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == null) {
+            return;
+        }
+
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+            int home = slotOf(keys[next], mask);
+            // The entry at next may fill the gap only if its home slot is not between the gap and next
+            boolean canMove = gap <= next ? (home <= gap || home > next) : (home <= gap && home > next);
+            if (canMove) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = null;
+        size--;
+    }
+
+    /**
+     * Rehashes every entry into a table of {@code capacity} slots.
+     */
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new String[capacity];
+        values = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slotOf(String nric, int mask) {
+        int hash = nric.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.duty;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Ways of splitting personnel into partitions that are scheduled separately, each with its own duty roster.
+ */
+public enum PartitionMode {
+    NONE("none"),
+    COMPANY("company"),
+    SECTION("section");
+
+    public static final String MESSAGE_CONSTRAINTS = "Partition should be either none, company or section";
+
+    private final String name;
+
+    PartitionMode(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the partition mode with the given name, ignoring case.
+     * @throws IllegalArgumentException if there is no partition mode with that name
+     */
+    public static PartitionMode fromName(String name) {
+        for (PartitionMode mode : values()) {
+            if (mode.name.equalsIgnoreCase(name.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the name of the partition {@code person} belongs to.
+     */
+    public String getPartition(Person person) {
+        switch (this) {
+        case COMPANY:
+            return person.getCompany().value;
+        case SECTION:
+            return person.getCompany().value + " " + person.getSection().value;
+        default:
+            return "";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
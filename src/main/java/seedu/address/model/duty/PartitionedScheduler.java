@@ -0,0 +1,129 @@
+package seedu.address.model.duty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Schedules partitions of personnel that never share duties in parallel, each into its own copy of a month.
+ * The time taken follows the largest partition rather than the whole unit.
+ * Each partition is scheduled with its own child of the {@link ScheduleMonitor}, and progress is reported
+ * per partition as each one finishes.
+ */
+class PartitionedScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedScheduler.class);
+
+    private final ForkJoinPool pool;
+
+    PartitionedScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    PartitionedScheduler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Schedules every partition in {@code partitions} into a copy of {@code template} using {@code scheduler},
+     * with seeds drawn from {@code masterSeed} in the order of the partitions.
+     * @return the scheduled month of each partition, in the order of {@code partitions}
+     * @throws CancellationException if {@code monitor} is cancelled before every partition is scheduled
+     */
+    Map<String, DutyMonth> run(DutyMonth template, Map<String, List<Person>> partitions,
+                               PartitionScheduler scheduler, long masterSeed, ScheduleMonitor monitor) {
+        Random seeds = new Random(masterSeed);
+        ProgressTracker tracker = new ProgressTracker(partitions.size(), monitor);
+
+        List<Callable<DutyMonth>> tasks = new ArrayList<>();
+        for (Map.Entry<String, List<Person>> entry : partitions.entrySet()) {
+            long seed = seeds.nextLong();
+            tasks.add(() -> {
+                DutyMonth partition = new DutyMonth(template, false);
+                tracker.completed(scheduler.schedule(entry.getKey(), partition, entry.getValue(), seed,
+                        monitor.createChild()));
+                return partition;
+            });
+        }
+
+        long start = System.nanoTime();
+        Map<String, DutyMonth> results = new LinkedHashMap<>();
+        List<Future<DutyMonth>> futures = pool.invokeAll(tasks);
+        int i = 0;
+        for (String name : partitions.keySet()) {
+            results.put(name, getResult(futures.get(i++)));
+        }
+
+        long elapsed = (System.nanoTime() - start) / 1000000;
+        logger.info(String.format("Scheduled %d partitions in %d ms", partitions.size(), elapsed));
+        return results;
+    }
+
+    /**
+     * Returns the month scheduled by {@code future}, passing on a cancellation of the partition.
+     */
+    private static DutyMonth getResult(Future<DutyMonth> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scheduling", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw (CancellationException) e.getCause();
+            }
+            throw new IllegalStateException("Scheduling partition failed", e.getCause());
+        }
+    }
+
+    /**
+     * Adds up the duties filled in the partitions finished so far, reporting them every time a partition finishes.
+     */
+    private static class ProgressTracker {
+
+        private final int numOfPartitions;
+        private final ScheduleMonitor monitor;
+        private int completed;
+        private int filledDuties;
+        private int totalDuties;
+        private int pointsSpread;
+
+        ProgressTracker(int numOfPartitions, ScheduleMonitor monitor) {
+            this.numOfPartitions = numOfPartitions;
+            this.monitor = monitor;
+        }
+
+        /**
+         * Records that a partition has been scheduled with {@code attempt}.
+         * The points spread reported is the largest within any partition.
+         */
+        synchronized void completed(ScheduleAttempt attempt) {
+            completed++;
+            totalDuties += attempt.getTotalDuties();
+            filledDuties += attempt.getTotalDuties() - attempt.getUnfilledDuties();
+            pointsSpread = Math.max(pointsSpread, attempt.getPointsSpread());
+            monitor.report(new ScheduleProgress(completed, numOfPartitions, filledDuties, totalDuties,
+                    pointsSpread));
+        }
+    }
+
+    /**
+     * Schedules the persons of the partition {@code name} into its month with a given seed, returning the attempt kept.
+     */
+    @FunctionalInterface
+    interface PartitionScheduler {
+        ScheduleAttempt schedule(String name, DutyMonth partition, List<Person> persons, long seed,
+                                 ScheduleMonitor monitor);
+    }
+}
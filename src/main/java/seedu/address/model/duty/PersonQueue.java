@@ -0,0 +1,117 @@
+package seedu.address.model.duty;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
+
+/**
+ * Indexed binary min-heap of person ids, ordered by their points and then by id.
+ * The position of every id in the heap is tracked, so the points of a person can be changed in place
+ * with {@link #update}, and the persons with the fewest points who meet a condition can be found
+ * without taking anyone else out of the heap.
+ */
+class PersonQueue {
+
+    private final int[] points;
+
+    // Person id at each position of the heap
+    private final int[] heap;
+
+    // Position in the heap of each person id
+    private final int[] positions;
+
+    /**
+     * Builds the heap over every person id in {@code points}.
+     * @param points the points of each person, indexed by person id, read whenever two persons are compared
+     */
+    PersonQueue(int[] points) {
+        this.points = points;
+        this.heap = new int[points.length];
+        this.positions = new int[points.length];
+        for (int id = 0; id < points.length; id++) {
+            heap[id] = id;
+            positions[id] = id;
+        }
+        for (int pos = points.length / 2 - 1; pos >= 0; pos--) {
+            siftDown(pos);
+        }
+    }
+
+    /**
+     * Restores the order of the heap after the points of {@code id} have changed.
+     */
+    void update(int id) {
+        siftUp(positions[id]);
+        siftDown(positions[id]);
+    }
+
+    /**
+     * Returns up to {@code count} persons with the fewest points who satisfy {@code condition}, fewest first.
+     * The heap is searched best-first from its root, so only persons with fewer points than the last one
+     * returned are looked at, and the heap itself is left untouched.
+     */
+    int[] findLowest(int count, IntPredicate condition) {
+        int[] found = new int[count];
+        int numFound = 0;
+
+        // Positions in the heap to be looked at next, closest to the root first
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((p1, p2) -> compare(heap[p1], heap[p2]));
+        if (heap.length > 0) {
+            frontier.add(0);
+        }
+        while (numFound < count && !frontier.isEmpty()) {
+            int pos = frontier.poll();
+            if (condition.test(heap[pos])) {
+                found[numFound++] = heap[pos];
+            }
+            for (int child = 2 * pos + 1; child <= 2 * pos + 2 && child < heap.length; child++) {
+                frontier.add(child);
+            }
+        }
+        return numFound == count ? found : Arrays.copyOf(found, numFound);
+    }
+
+    private int compare(int id1, int id2) {
+        return points[id1] != points[id2] ? Integer.compare(points[id1], points[id2]) : Integer.compare(id1, id2);
+    }
+
+    /**
+     * Moves the person at {@code pos} towards the root until its parent comes before it.
+     */
+    private void siftUp(int pos) {
+        int id = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) / 2;
+            if (compare(heap[parent], id) <= 0) {
+                break;
+            }
+            place(heap[parent], pos);
+            pos = parent;
+        }
+        place(id, pos);
+    }
+
+    /**
+     * Moves the person at {@code pos} away from the root until both its children come after it.
+     */
+    private void siftDown(int pos) {
+        int id = heap[pos];
+        while (2 * pos + 1 < heap.length) {
+            int child = 2 * pos + 1;
+            if (child + 1 < heap.length && compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (compare(heap[child], id) >= 0) {
+                break;
+            }
+            place(heap[child], pos);
+            pos = child;
+        }
+        place(id, pos);
+    }
+
+    private void place(int id, int pos) {
+        heap[pos] = id;
+        positions[id] = pos;
+    }
+}
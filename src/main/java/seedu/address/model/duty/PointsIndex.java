@@ -0,0 +1,289 @@
+package seedu.address.model.duty;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the ids of persons sorted by their points, as an order-statistic treap held in int arrays by id.
+ * Ties in points are broken by id. Each node records the size of its subtree, so changing the points of a person,
+ * counting the persons above or below some points and finding the k-th person all take logarithmic time,
+ * and listing the k persons with the most points takes time in proportion to k on top of that.
+ */
+class PointsIndex {
+
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int root = NIL;
+    private int[] keys;
+    private int[] lefts;
+    private int[] rights;
+    private int[] sizes;
+    private boolean[] isPresent;
+
+    // Results of the last split
+    private int splitLeft;
+    private int splitRight;
+
+    PointsIndex() {
+        keys = new int[INITIAL_CAPACITY];
+        lefts = new int[INITIAL_CAPACITY];
+        rights = new int[INITIAL_CAPACITY];
+        sizes = new int[INITIAL_CAPACITY];
+        isPresent = new boolean[INITIAL_CAPACITY];
+    }
+
+    PointsIndex(PointsIndex index) {
+        root = index.root;
+        keys = Arrays.copyOf(index.keys, index.keys.length);
+        lefts = Arrays.copyOf(index.lefts, index.lefts.length);
+        rights = Arrays.copyOf(index.rights, index.rights.length);
+        sizes = Arrays.copyOf(index.sizes, index.sizes.length);
+        isPresent = Arrays.copyOf(index.isPresent, index.isPresent.length);
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Sets the points of the person with {@code id}, adding them to the index if they are not in it.
+     */
+    void set(int id, int points) {
+        if (id >= keys.length) {
+            grow(Math.max(id + 1, keys.length * 2));
+        }
+        if (isPresent[id]) {
+            if (keys[id] == points) {
+                return;
+            }
+            root = removeNode(root, id);
+        }
+        keys[id] = points;
+        lefts[id] = NIL;
+        rights[id] = NIL;
+        sizes[id] = 1;
+        isPresent[id] = true;
+        root = insertNode(root, id);
+    }
+
+    /**
+     * Removes the person with {@code id} from the index, if they are in it.
+     */
+    void remove(int id) {
+        if (id < isPresent.length && isPresent[id]) {
+            root = removeNode(root, id);
+            isPresent[id] = false;
+        }
+    }
+
+    /**
+     * Returns the number of persons with fewer than {@code points}.
+     */
+    int countBelow(int points) {
+        int count = 0;
+        for (int node = root; node != NIL;) {
+            if (keys[node] < points) {
+                count += sizeOf(lefts[node]) + 1;
+                node = rights[node];
+            } else {
+                node = lefts[node];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of persons with more than {@code points}.
+     */
+    int countAbove(int points) {
+        int count = 0;
+        for (int node = root; node != NIL;) {
+            if (keys[node] > points) {
+                count += sizeOf(rights[node]) + 1;
+                node = lefts[node];
+            } else {
+                node = rights[node];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the points of the person with the {@code k}-th fewest points, counting from 0.
+     */
+    int getPointsAt(int k) {
+        int node = root;
+        while (k != sizeOf(lefts[node])) {
+            if (k < sizeOf(lefts[node])) {
+                node = lefts[node];
+            } else {
+                k -= sizeOf(lefts[node]) + 1;
+                node = rights[node];
+            }
+        }
+        return keys[node];
+    }
+
+    /**
+     * Returns the ids of the {@code k} persons with the most points, most points first.
+     */
+    int[] getTop(int k) {
+        int[] ids = new int[Math.min(k, size())];
+        collectDescending(root, ids, 0);
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the persons with fewer than {@code points}, fewest points first.
+     */
+    int[] getBelow(int points) {
+        int[] ids = new int[countBelow(points)];
+        collectAscending(root, ids, 0);
+        return ids;
+    }
+
+    /**
+     * Fills {@code ids} from index {@code filled} with the nodes under {@code node}, most points first,
+     * until {@code ids} is full. Returns the number of entries of {@code ids} filled.
+     */
+    private int collectDescending(int node, int[] ids, int filled) {
+        if (node == NIL || filled == ids.length) {
+            return filled;
+        }
+        filled = collectDescending(rights[node], ids, filled);
+        if (filled < ids.length) {
+            ids[filled++] = node;
+        }
+        return collectDescending(lefts[node], ids, filled);
+    }
+
+    /**
+     * Fills {@code ids} from index {@code filled} with the nodes under {@code node}, fewest points first,
+     * until {@code ids} is full. Returns the number of entries of {@code ids} filled.
+     */
+    private int collectAscending(int node, int[] ids, int filled) {
+        if (node == NIL || filled == ids.length) {
+            return filled;
+        }
+        filled = collectAscending(lefts[node], ids, filled);
+        if (filled < ids.length) {
+            ids[filled++] = node;
+        }
+        return collectAscending(rights[node], ids, filled);
+    }
+
+    /**
+     * Inserts {@code node} into the treap rooted at {@code tree} and returns the new root.
+     */
+    private int insertNode(int tree, int node) {
+        if (tree == NIL) {
+            return node;
+        }
+        if (priorityOf(node) > priorityOf(tree)) {
+            split(tree, node);
+            lefts[node] = splitLeft;
+            rights[node] = splitRight;
+            update(node);
+            return node;
+        }
+        if (isBefore(node, tree)) {
+            lefts[tree] = insertNode(lefts[tree], node);
+        } else {
+            rights[tree] = insertNode(rights[tree], node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    /**
+     * Removes {@code node} from the treap rooted at {@code tree} and returns the new root.
+     */
+    private int removeNode(int tree, int node) {
+        if (tree == node) {
+            return merge(lefts[tree], rights[tree]);
+        }
+        if (isBefore(node, tree)) {
+            lefts[tree] = removeNode(lefts[tree], node);
+        } else {
+            rights[tree] = removeNode(rights[tree], node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    /**
+     * Splits the treap rooted at {@code tree} into the nodes before {@code node}, left in {@code splitLeft},
+     * and the nodes after it, left in {@code splitRight}.
+     */
+    private void split(int tree, int node) {
+        if (tree == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+        } else if (isBefore(tree, node)) {
+            split(rights[tree], node);
+            rights[tree] = splitLeft;
+            update(tree);
+            splitLeft = tree;
+        } else {
+            split(lefts[tree], node);
+            lefts[tree] = splitRight;
+            update(tree);
+            splitRight = tree;
+        }
+    }
+
+    /**
+     * Joins the treaps rooted at {@code left} and {@code right}, where every node of {@code left} comes before
+     * every node of {@code right}, and returns the new root.
+     */
+    private int merge(int left, int right) {
+        if (left == NIL) {
+            return right;
+        }
+        if (right == NIL) {
+            return left;
+        }
+        if (priorityOf(left) > priorityOf(right)) {
+            rights[left] = merge(rights[left], right);
+            update(left);
+            return left;
+        }
+        lefts[right] = merge(left, lefts[right]);
+        update(right);
+        return right;
+    }
+
+    private boolean isBefore(int first, int second) {
+        return keys[first] < keys[second] || (keys[first] == keys[second] && first < second);
+    }
+
+    private void update(int node) {
+        sizes[node] = sizeOf(lefts[node]) + sizeOf(rights[node]) + 1;
+    }
+
+    private int sizeOf(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    /**
+     * Returns a fixed pseudo-random priority for {@code node}, so the treap is balanced in expectation
+     * and the same ids always give the same shape.
+     */
+    private static int priorityOf(int node) {
+        int hash = node * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        return hash ^ (hash >>> 13);
+    }
+
+    /**
+     * Grows the arrays to hold ids up to {@code capacity - 1}.
+     */
+    private void grow(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        lefts = Arrays.copyOf(lefts, capacity);
+        rights = Arrays.copyOf(rights, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        isPresent = Arrays.copyOf(isPresent, capacity);
+    }
+}
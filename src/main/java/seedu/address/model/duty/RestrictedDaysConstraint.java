@@ -0,0 +1,65 @@
+package seedu.address.model.duty;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps persons with a given tag or rank off duties on given days of the week.
+ * Compiles into a bitmask of the days of the week each person may not take, joining every tag and rank they have,
+ * so tags and ranks are only looked at once per run.
+ */
+public class RestrictedDaysConstraint implements DutyConstraint {
+
+    // Days of the week restricted for each tag name or rank
+    private final Map<String, Set<Integer>> restrictedDays;
+
+    public RestrictedDaysConstraint(Map<String, Set<Integer>> restrictedDays) {
+        this.restrictedDays = new HashMap<>(restrictedDays);
+    }
+
+    @Override
+    public Check compile(List<Person> persons) {
+        Map<String, Integer> keyMasks = new HashMap<>();
+        restrictedDays.forEach((key, daysOfWeek) -> keyMasks.put(key, toMask(daysOfWeek)));
+
+        // Bit (dayOfWeek - 1) is set if the person with that id may not take duties on that day of the week
+        int[] restrictedMasks = new int[persons.size()];
+        for (int id = 0; id < persons.size(); id++) {
+            Person person = persons.get(id);
+            restrictedMasks[id] = keyMasks.getOrDefault(person.getRank().toString(), 0);
+            for (Tag tag : person.getTags()) {
+                restrictedMasks[id] |= keyMasks.getOrDefault(tag.tagName, 0);
+            }
+        }
+
+        return (id, duty) -> (restrictedMasks[id] & (1 << (duty.getDayOfWeekIndex() - 1))) == 0;
+    }
+
+    /**
+     * Returns a bitmask with bit (dayOfWeek - 1) set for each of {@code daysOfWeek}.
+     */
+    private static int toMask(Set<Integer> daysOfWeek) {
+        int mask = 0;
+        for (int dayOfWeek : daysOfWeek) {
+            mask |= 1 << (dayOfWeek - 1);
+        }
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RestrictedDaysConstraint // instanceof handles nulls
+                && restrictedDays.equals(((RestrictedDaysConstraint) other).restrictedDays));
+    }
+
+    @Override
+    public int hashCode() {
+        return restrictedDays.hashCode();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.duty;
+
+import java.util.List;
+
+/**
+ * Result of a single scheduling pass over a month, made with a given seed.
+ * Attempts are compared by the number of duties left unfilled, then by the spread of the points
+ * held by the persons scheduled.
+ */
+class ScheduleAttempt {
+
+    private final long seed;
+    private final List<Duty> duties;
+    private final int unfilledDuties;
+    private final int pointsSpread;
+    private final boolean isCutShort;
+
+    /**
+     * @param seed the seed used to order duties of equal points
+     * @param duties the duties generated and filled in this attempt
+     * @param points the points of each person after this attempt, indexed by person id
+     * @param isCutShort whether the attempt was stopped by a time budget before it ended by itself
+     */
+    ScheduleAttempt(long seed, List<Duty> duties, int[] points, boolean isCutShort) {
+        this.seed = seed;
+        this.duties = duties;
+        this.unfilledDuties = (int) duties.stream().filter(duty -> !duty.isFilled()).count();
+        this.pointsSpread = spreadOf(points);
+        this.isCutShort = isCutShort;
+    }
+
+    /**
+     * Returns the difference between the most and the fewest of {@code points}, or 0 if there are none.
+     */
+    static int spreadOf(int[] points) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int point : points) {
+            min = Math.min(min, point);
+            max = Math.max(max, point);
+        }
+        return points.length == 0 ? 0 : max - min;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    List<Duty> getDuties() {
+        return duties;
+    }
+
+    int getTotalDuties() {
+        return duties.size();
+    }
+
+    int getUnfilledDuties() {
+        return unfilledDuties;
+    }
+
+    int getPointsSpread() {
+        return pointsSpread;
+    }
+
+    /**
+     * Returns true if the attempt was stopped by a time budget, so its seed does not make it again.
+     */
+    boolean isCutShort() {
+        return isCutShort;
+    }
+
+    /**
+     * Returns true if this attempt leaves fewer duties unfilled than {@code other},
+     * or as many but with a smaller points spread.
+     */
+    boolean isBetterThan(ScheduleAttempt other) {
+        if (unfilledDuties != other.unfilledDuties) {
+            return unfilledDuties < other.unfilledDuties;
+        }
+        return pointsSpread < other.pointsSpread;
+    }
+}
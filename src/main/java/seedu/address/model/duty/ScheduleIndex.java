@@ -0,0 +1,135 @@
+package seedu.address.model.duty;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Compact index over the persons taking part in a single scheduling run.
+ * Each person is given a dense id (its position in the person list) so that blocked days and
+ * duty assignments can be checked in constant time without scanning any lists.
+ * Any {@link DutyConstraint} in force is compiled against the same ids when the index is built, and is told
+ * of every assignment made through the index.
+ */
+class ScheduleIndex {
+
+    private static final int MAX_DAYS_IN_MONTH = 31;
+
+    private final List<Person> persons;
+
+    // Bit (day - 1) is set if the person with that id has blocked the day
+    private final int[] blockedMasks;
+
+    // Persons assigned to the duty on each day, indexed by (day - 1)
+    private final BitSet[] assigned;
+
+    private final DutyConstraint.Check[] checks;
+
+    /**
+     * Builds the index for {@code persons} using the blocked dates of the month being scheduled.
+     * @param persons the persons to be scheduled, the position of each person is used as its id
+     * @param blockedDays the blocked dates of the month
+     */
+    ScheduleIndex(List<Person> persons, Map<Person, List<Integer>> blockedDays) {
+        this(persons, blockedDays, Collections.emptyList());
+    }
+
+    /**
+     * Builds the index for {@code persons} using the blocked dates of the month being scheduled,
+     * and compiles {@code constraints} for them.
+     * @param persons the persons to be scheduled, the position of each person is used as its id
+     * @param blockedDays the blocked dates of the month
+     * @param constraints the rules every assignment must also meet
+     */
+    ScheduleIndex(List<Person> persons, Map<Person, List<Integer>> blockedDays, List<DutyConstraint> constraints) {
+        this.persons = persons;
+        this.checks = constraints.stream().map(constraint -> constraint.compile(persons))
+                .toArray(DutyConstraint.Check[]::new);
+        this.blockedMasks = new int[persons.size()];
+        this.assigned = new BitSet[MAX_DAYS_IN_MONTH];
+
+        for (int id = 0; id < persons.size(); id++) {
+            List<Integer> days = blockedDays.get(persons.get(id));
+            if (days == null) {
+                continue;
+            }
+            for (int day : days) {
+                blockedMasks[id] |= 1 << (day - 1);
+            }
+        }
+        for (int day = 0; day < MAX_DAYS_IN_MONTH; day++) {
+            assigned[day] = new BitSet(persons.size());
+        }
+    }
+
+    int size() {
+        return persons.size();
+    }
+
+    Person getPerson(int id) {
+        return persons.get(id);
+    }
+
+    boolean isBlocked(int id, int day) {
+        return (blockedMasks[id] & (1 << (day - 1))) != 0;
+    }
+
+    boolean isAssigned(int id, int day) {
+        return assigned[day - 1].get(id);
+    }
+
+    /**
+     * Checks if the person with the given id can be assigned to {@code duty}
+     */
+    boolean isAssignable(int id, Duty duty) {
+        return !duty.isFilled()
+                && !isAssigned(id, duty.getDayIndex())
+                && !isBlocked(id, duty.getDayIndex())
+                && isAllowed(id, duty);
+    }
+
+    /**
+     * Checks if every constraint allows the person with the given id to take {@code duty},
+     * given the duties they hold so far.
+     */
+    boolean isAllowed(int id, Duty duty) {
+        for (DutyConstraint.Check check : checks) {
+            if (!check.allows(id, duty)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Assigns the person with the given id to {@code duty} and records the assignment in the index.
+     */
+    void assign(int id, Duty duty) {
+        duty.addPerson(persons.get(id));
+        markAssigned(id, duty);
+    }
+
+    /**
+     * Records that the person with the given id already holds {@code duty}, without changing the duty.
+     */
+    void markAssigned(int id, Duty duty) {
+        assigned[duty.getDayIndex() - 1].set(id);
+        for (DutyConstraint.Check check : checks) {
+            check.assigned(id, duty);
+        }
+    }
+
+    /**
+     * Removes the person with the given id from {@code duty} and from the index.
+     */
+    void unassign(int id, Duty duty) {
+        duty.removePerson(persons.get(id));
+        assigned[duty.getDayIndex() - 1].clear(id);
+        for (DutyConstraint.Check check : checks) {
+            check.unassigned(id, duty);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.duty;
+
+/**
+ * Tells a single scheduling pass when to stop filling duties: once its {@link ScheduleMonitor} is cancelled
+ * or its deadline has passed. The schedulers poll it between duties, or between augmenting paths,
+ * and leave the duties not yet reached as they are, so the pass ends with the part of the schedule made so far.
+ * If the pass is the only one in its run, the duties filled are reported through it as it goes.
+ */
+class ScheduleLimit {
+
+    /**
+     * A limit that is never reached, for passes that must run to the end.
+     */
+    static final ScheduleLimit NONE = new ScheduleLimit(new ScheduleMonitor(), Long.MAX_VALUE, false);
+
+    private final ScheduleMonitor monitor;
+    private final long deadline;
+    private final boolean isReporting;
+    private boolean isReached;
+
+    /**
+     * @param monitor the monitor of the run the pass is in
+     * @param deadline the time to stop at, in {@link System#nanoTime} terms, or {@code Long.MAX_VALUE} for none
+     * @param isReporting whether the pass is the only one in its run, so it reports the duties it fills
+     */
+    ScheduleLimit(ScheduleMonitor monitor, long deadline, boolean isReporting) {
+        this.monitor = monitor;
+        this.deadline = deadline;
+        this.isReporting = isReporting;
+    }
+
+    /**
+     * Returns a limit stopping at {@code timeBudget} milliseconds from now, or at no time if it is not positive.
+     */
+    static ScheduleLimit after(ScheduleMonitor monitor, long timeBudget, boolean isReporting) {
+        long deadline = timeBudget > 0 ? System.nanoTime() + timeBudget * 1000000 : Long.MAX_VALUE;
+        return new ScheduleLimit(monitor, deadline, isReporting);
+    }
+
+    /**
+     * Returns true if the pass should stop, remembering it so that {@link #wasReached} tells afterwards.
+     */
+    boolean isReached() {
+        if (!isReached && (monitor.isCancelled() || (deadline != Long.MAX_VALUE && System.nanoTime() >= deadline))) {
+            isReached = true;
+        }
+        return isReached;
+    }
+
+    /**
+     * Returns true if the pass was stopped by this limit before it ended by itself.
+     */
+    boolean wasReached() {
+        return isReached;
+    }
+
+    /**
+     * Reports that {@code filledDuties} of {@code totalDuties} are filled so far, if the pass reports its progress.
+     * @param points the points of each person so far, indexed by person id
+     */
+    void reportFilled(int filledDuties, int totalDuties, int[] points) {
+        if (isReporting) {
+            monitor.report(new ScheduleProgress(0, 1, filledDuties, totalDuties, ScheduleAttempt.spreadOf(points)));
+        }
+    }
+}
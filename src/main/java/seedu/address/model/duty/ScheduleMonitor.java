@@ -0,0 +1,62 @@
+package seedu.address.model.duty;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Lets a scheduling run be watched and cancelled from another thread.
+ * The schedulers check {@link #isCancelled} between duties and report their progress after each step,
+ * and after each duty filled when a run is a single step.
+ * Listeners are called on the scheduling threads, so they should hand the progress over rather than act on it.
+ */
+public class ScheduleMonitor {
+
+    private final ScheduleMonitor parent;
+    private final List<Consumer<ScheduleProgress>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean isCancelled;
+
+    public ScheduleMonitor() {
+        this(null);
+    }
+
+    private ScheduleMonitor(ScheduleMonitor parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Adds a listener told of the progress of the run after each step.
+     */
+    public void addProgressListener(Consumer<ScheduleProgress> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Asks the run to stop. Steps already started stop at the next duty, no further steps are started,
+     * and the run ends with a {@link java.util.concurrent.CancellationException}.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled || (parent != null && parent.isCancelled());
+    }
+
+    /**
+     * Returns a monitor cancelled along with this one, whose progress is not passed on.
+     * Used for the runs within each partition, whose progress is reported per partition instead.
+     */
+    ScheduleMonitor createChild() {
+        return new ScheduleMonitor(this);
+    }
+
+    /**
+     * Tells every listener of {@code progress}.
+     */
+    void report(ScheduleProgress progress) {
+        for (Consumer<ScheduleProgress> listener : listeners) {
+            listener.accept(progress);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.duty;
+
+/**
+ * Snapshot of how far a scheduling run has got, and how good the best schedule found so far is.
+ * A run is made of steps, which are scheduling attempts, or partitions when personnel are partitioned.
+ */
+public class ScheduleProgress {
+
+    private final int completedSteps;
+    private final int totalSteps;
+    private final int filledDuties;
+    private final int totalDuties;
+    private final int pointsSpread;
+
+    public ScheduleProgress(int completedSteps, int totalSteps, int filledDuties, int totalDuties, int pointsSpread) {
+        this.completedSteps = completedSteps;
+        this.totalSteps = totalSteps;
+        this.filledDuties = filledDuties;
+        this.totalDuties = totalDuties;
+        this.pointsSpread = pointsSpread;
+    }
+
+    public int getCompletedSteps() {
+        return completedSteps;
+    }
+
+    public int getTotalSteps() {
+        return totalSteps;
+    }
+
+    public int getFilledDuties() {
+        return filledDuties;
+    }
+
+    public int getTotalDuties() {
+        return totalDuties;
+    }
+
+    public int getPointsSpread() {
+        return pointsSpread;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d done, best so far fills %d of %d duties with a points spread of %d",
+                completedSteps, totalSteps, filledDuties, totalDuties, pointsSpread);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.duty;
+
+/**
+ * Engines available to schedule the duties of a month.
+ */
+public enum SchedulerType {
+    GREEDY("greedy"),
+    OPTIMAL("optimal");
+
+    public static final String MESSAGE_CONSTRAINTS = "Scheduler should be either greedy or optimal";
+
+    private final String name;
+
+    SchedulerType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the scheduler type with the given name, ignoring case.
+     * @throws IllegalArgumentException if there is no scheduler type with that name
+     */
+    public static SchedulerType fromName(String name) {
+        for (SchedulerType type : values()) {
+            if (type.name.equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns a new scheduler of this type.
+     */
+    DutyScheduler createScheduler() {
+        switch (this) {
+        case OPTIMAL:
+            return new MinCostFlowScheduler();
+        default:
+            return new GreedyScheduler();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.edit;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
+import seedu.address.model.person.Person;
+import seedu.address.model.request.Request;
+
+/**
+ * The accepter set on a swap request, found again by its index in the request list and replaced with or without it.
+ * The list may hold other requests equal to the one accepted, so the request is not looked up by its details.
+ */
+public class AcceptRequestEdit implements PersonnelDatabaseEdit {
+
+    private final int requestIndex;
+    private final Person accepter;
+
+    public AcceptRequestEdit(int requestIndex, Person accepter) {
+        requireNonNull(accepter);
+        this.requestIndex = requestIndex;
+        this.accepter = accepter;
+    }
+
+    public int getRequestIndex() {
+        return requestIndex;
+    }
+
+    public Person getAccepter() {
+        return accepter;
+    }
+
+    @Override
+    public void undo(PersonnelDatabase personnelDatabase) {
+        Request request = personnelDatabase.getRequestList().get(requestIndex);
+        personnelDatabase.setRequest(requestIndex, request.withAccepter(null));
+    }
+
+    @Override
+    public void redo(PersonnelDatabase personnelDatabase) {
+        Request request = personnelDatabase.getRequestList().get(requestIndex);
+        personnelDatabase.setRequest(requestIndex, request.withAccepter(accepter));
+    }
+}
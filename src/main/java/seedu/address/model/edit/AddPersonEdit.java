@@ -0,0 +1,35 @@
+package seedu.address.model.edit;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
+import seedu.address.model.person.Person;
+
+/**
+ * A person added while the schedule of next month was not confirmed, so adding them changed nothing else.
+ */
+public class AddPersonEdit implements PersonnelDatabaseEdit {
+
+    private final Person added;
+
+    public AddPersonEdit(Person added) {
+        requireNonNull(added);
+        this.added = added;
+    }
+
+    public Person getAdded() {
+        return added;
+    }
+
+    @Override
+    public void undo(PersonnelDatabase personnelDatabase) {
+        personnelDatabase.removePerson(added);
+        personnelDatabase.getDutyCalendar().getDutyStorage().removePerson(added);
+    }
+
+    @Override
+    public void redo(PersonnelDatabase personnelDatabase) {
+        personnelDatabase.addPerson(added);
+    }
+}
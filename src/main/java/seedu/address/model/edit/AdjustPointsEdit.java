@@ -0,0 +1,76 @@
+package seedu.address.model.edit;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
+import seedu.address.model.duty.DutyEvent;
+import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.person.Person;
+
+/**
+ * Points rewarded to or penalized from persons, taken back as the rows they added to the ledger of the duty storage.
+ * The points are given again under the date they were first given, however much later that is.
+ */
+public class AdjustPointsEdit implements PersonnelDatabaseEdit {
+
+    private final List<Person> persons;
+    private final int points;
+    private final DutyEvent.Kind kind;
+    private final LocalDate date;
+
+    /**
+     * Creates an edit giving {@code points} to each of {@code persons} on {@code date} as a reward or a penalty,
+     * as {@code kind} says.
+     */
+    public AdjustPointsEdit(List<Person> persons, int points, DutyEvent.Kind kind, LocalDate date) {
+        requireNonNull(persons);
+        requireNonNull(kind);
+        requireNonNull(date);
+        if (kind != DutyEvent.Kind.REWARD && kind != DutyEvent.Kind.PENALTY) {
+            throw new IllegalArgumentException("Points can only be adjusted as a reward or a penalty");
+        }
+        this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+        this.points = points;
+        this.kind = kind;
+        this.date = date;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public DutyEvent.Kind getKind() {
+        return kind;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    @Override
+    public void undo(PersonnelDatabase personnelDatabase) {
+        personnelDatabase.getDutyCalendar().getDutyStorage().takeBack(persons.size());
+    }
+
+    @Override
+    public void redo(PersonnelDatabase personnelDatabase) {
+        DutyStorage dutyStorage = personnelDatabase.getDutyCalendar().getDutyStorage();
+        for (Person person : persons) {
+            if (kind == DutyEvent.Kind.REWARD) {
+                dutyStorage.reward(person, points, date);
+            } else {
+                dutyStorage.penalize(person, points, date);
+            }
+        }
+    }
+}
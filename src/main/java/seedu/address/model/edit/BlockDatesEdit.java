@@ -0,0 +1,75 @@
+package seedu.address.model.edit;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
+import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.person.Person;
+
+/**
+ * Days newly blocked by a person in the next month, taken back one by one.
+ * Once the calendar has rolled over past that month, there is nothing left to take back or block again.
+ */
+public class BlockDatesEdit implements PersonnelDatabaseEdit {
+
+    private final Person person;
+    private final int year;
+    private final int monthIndex;
+    private final List<Integer> days;
+
+    public BlockDatesEdit(Person person, int year, int monthIndex, List<Integer> days) {
+        requireNonNull(person);
+        requireNonNull(days);
+        this.person = person;
+        this.year = year;
+        this.monthIndex = monthIndex;
+        this.days = Collections.unmodifiableList(new ArrayList<>(days));
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonthIndex() {
+        return monthIndex;
+    }
+
+    public List<Integer> getDays() {
+        return days;
+    }
+
+    @Override
+    public void undo(PersonnelDatabase personnelDatabase) {
+        DutyMonth nextMonth = personnelDatabase.getDutyCalendar().getNextMonth();
+        if (!isSameMonth(nextMonth)) {
+            return;
+        }
+        for (Integer day : days) {
+            nextMonth.removeBlockedDay(person, day);
+        }
+    }
+
+    @Override
+    public void redo(PersonnelDatabase personnelDatabase) {
+        DutyMonth nextMonth = personnelDatabase.getDutyCalendar().getNextMonth();
+        if (!isSameMonth(nextMonth)) {
+            return;
+        }
+        for (Integer day : days) {
+            nextMonth.addBlockedDay(person, day);
+        }
+    }
+
+    private boolean isSameMonth(DutyMonth month) {
+        return month.getYear() == year && month.getMonthIndex() == monthIndex;
+    }
+}
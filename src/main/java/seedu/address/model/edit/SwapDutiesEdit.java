@@ -0,0 +1,102 @@
+package seedu.address.model.edit;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
+import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.person.Person;
+
+/**
+ * Duties swapped between two persons in the next month, the requester giving up their allocated day
+ * for the day the accepter was on.
+ * The points of the swap are undone and redone as the one operation they were in the duty storage, if it is still
+ * at the top of the storage's stacks. Otherwise the swap is made again the other way, or the same way.
+ */
+public class SwapDutiesEdit implements PersonnelDatabaseEdit {
+
+    private final Person requester;
+    private final Person accepter;
+    private final int year;
+    private final int monthIndex;
+    private final int allocatedDay;
+    private final int requestedDay;
+
+    // The operation of the swap in the duty storage, changed when the swap has to be made again
+    private long operationId;
+
+    /**
+     * Creates an edit for the swap that moved {@code requester} from {@code allocatedDay} to {@code requestedDay}
+     * and {@code accepter} the other way, whose points were the operation {@code operationId} in the duty storage.
+     */
+    public SwapDutiesEdit(Person requester, Person accepter, int year, int monthIndex, int allocatedDay,
+                          int requestedDay, long operationId) {
+        requireNonNull(requester);
+        requireNonNull(accepter);
+        this.requester = requester;
+        this.accepter = accepter;
+        this.year = year;
+        this.monthIndex = monthIndex;
+        this.allocatedDay = allocatedDay;
+        this.requestedDay = requestedDay;
+        this.operationId = operationId;
+    }
+
+    public Person getRequester() {
+        return requester;
+    }
+
+    public Person getAccepter() {
+        return accepter;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonthIndex() {
+        return monthIndex;
+    }
+
+    public int getAllocatedDay() {
+        return allocatedDay;
+    }
+
+    public int getRequestedDay() {
+        return requestedDay;
+    }
+
+    @Override
+    public void undo(PersonnelDatabase personnelDatabase) {
+        DutyMonth nextMonth = personnelDatabase.getDutyCalendar().getNextMonth();
+        if (!isSameMonth(nextMonth)) {
+            return;
+        }
+        DutyStorage dutyStorage = personnelDatabase.getDutyCalendar().getDutyStorage();
+        if (nextMonth.isConfirmed() && dutyStorage.undo(operationId)) {
+            nextMonth.swapRoster(accepter, requester, allocatedDay, requestedDay);
+        } else {
+            nextMonth.swap(accepter, requester, allocatedDay, requestedDay, dutyStorage);
+        }
+    }
+
+    @Override
+    public void redo(PersonnelDatabase personnelDatabase) {
+        DutyMonth nextMonth = personnelDatabase.getDutyCalendar().getNextMonth();
+        if (!isSameMonth(nextMonth)) {
+            return;
+        }
+        DutyStorage dutyStorage = personnelDatabase.getDutyCalendar().getDutyStorage();
+        if (nextMonth.isConfirmed() && dutyStorage.redo(operationId)) {
+            nextMonth.swapRoster(requester, accepter, allocatedDay, requestedDay);
+        } else if (nextMonth.swap(requester, accepter, allocatedDay, requestedDay, dutyStorage)
+                && nextMonth.isConfirmed()) {
+            operationId = dutyStorage.getLastOperationId();
+        }
+    }
+
+    private boolean isSameMonth(DutyMonth month) {
+        return month.getYear() == year && month.getMonthIndex() == monthIndex;
+    }
+}
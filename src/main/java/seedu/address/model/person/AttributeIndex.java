@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Index of persons by the values of one of their attributes, such as their company or their tags.
+ * A person is in the set of each value of the attribute they have.
+ */
+class AttributeIndex<K> {
+
+    private final Function<Person, Collection<K>> valuesOf;
+    private final Map<K, Set<Person>> personsByValue = new HashMap<>();
+
+    AttributeIndex(Function<Person, Collection<K>> valuesOf) {
+        this.valuesOf = valuesOf;
+    }
+
+    AttributeIndex(AttributeIndex<K> index) {
+        this.valuesOf = index.valuesOf;
+        for (Map.Entry<K, Set<Person>> entry : index.personsByValue.entrySet()) {
+            personsByValue.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+    }
+
+    /**
+     * Adds {@code person} to the set of each of their values.
+     */
+    void add(Person person) {
+        for (K value : valuesOf.apply(person)) {
+            personsByValue.computeIfAbsent(value, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the set of each of their values, dropping sets left empty.
+     */
+    void remove(Person person) {
+        for (K value : valuesOf.apply(person)) {
+            Set<Person> persons = personsByValue.get(value);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByValue.remove(value);
+            }
+        }
+    }
+
+    void clear() {
+        personsByValue.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with {@code value}.
+     */
+    Set<Person> get(K value) {
+        return Collections.unmodifiableSet(personsByValue.getOrDefault(value, Collections.emptySet()));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's company in the duty planner.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompany(String)}
@@ -17,6 +19,8 @@ public class Company {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Company> POOL = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,15 @@ public class Company {
         value = company;
     }
 
+    /**
+     * Returns the shared {@code Company} of the given value, so that persons with the same company share one instance.
+     *
+     * @param company A valid company.
+     */
+    public static Company of(String company) {
+        return POOL.intern(company, Company::new);
+    }
+
     /**
      * Returns true if a given string is a valid company.
      */
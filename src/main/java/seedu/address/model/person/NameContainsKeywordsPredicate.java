@@ -1,12 +1,13 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Keywords match whole words of the name, ignoring case. A keyword ending in {@code *} matches the words starting
+ * with the rest of it, and one ending in {@code ~} matches the words within one typo of the rest of it.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
@@ -17,8 +18,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
+        String[] words = person.getName().fullName.split("\\s+");
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+                .anyMatch(keyword -> Arrays.stream(words).anyMatch(word -> NameIndex.matches(keyword, word)));
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
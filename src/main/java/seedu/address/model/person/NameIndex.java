@@ -0,0 +1,214 @@
+package seedu.address.model.person;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index of persons by the words of their names, ignoring case.
+ * Words are kept in a sorted dictionary, so all the words starting with some prefix are next to each other.
+ * For keywords that tolerate a typo, each word is also filed under itself and every way of deleting one of its
+ * letters; two words within one edit of each other share such a key, so the words near a keyword are found by
+ * looking up the keyword and its own deletions only. That part of the index is built the first time it is needed.
+ */
+class NameIndex {
+
+    static final String PREFIX_WILDCARD = "*";
+    static final String FUZZY_MARKER = "~";
+
+    private final TreeMap<String, Set<Person>> personsByWord;
+    private Map<String, Set<String>> wordsByDeletion;
+
+    NameIndex() {
+        personsByWord = new TreeMap<>();
+    }
+
+    NameIndex(NameIndex index) {
+        personsByWord = new TreeMap<>();
+        for (Map.Entry<String, Set<Person>> entry : index.personsByWord.entrySet()) {
+            personsByWord.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+    }
+
+    /**
+     * Adds {@code person} under each of the words of their name.
+     */
+    void add(Person person) {
+        for (String word : wordsOf(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                persons = new HashSet<>();
+                personsByWord.put(word, persons);
+                if (wordsByDeletion != null) {
+                    addDeletions(word);
+                }
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each of the words of their name, dropping words no one has left.
+     */
+    void remove(Person person) {
+        for (String word : wordsOf(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByWord.remove(word);
+                if (wordsByDeletion != null) {
+                    removeDeletions(word);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        personsByWord.clear();
+        wordsByDeletion = null;
+    }
+
+    /**
+     * Returns the persons with a word in their name matching any of {@code keywords}.
+     * A keyword ending in {@value #PREFIX_WILDCARD} matches the words starting with the rest of it,
+     * and one ending in {@value #FUZZY_MARKER} matches the words within one edit of the rest of it.
+     * Any other keyword matches only the same word.
+     */
+    Set<Person> find(List<String> keywords) {
+        Set<Person> found = new HashSet<>();
+        for (String keyword : keywords) {
+            String normalized = keyword.toLowerCase();
+            if (isPrefix(normalized)) {
+                String prefix = stripMarker(normalized);
+                for (Set<Person> persons : personsByWord.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+                    found.addAll(persons);
+                }
+            } else if (isFuzzy(normalized)) {
+                for (String word : findWordsNear(stripMarker(normalized))) {
+                    found.addAll(personsByWord.get(word));
+                }
+            } else if (personsByWord.containsKey(normalized)) {
+                found.addAll(personsByWord.get(normalized));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns true if {@code word} matches {@code keyword}, in the way {@link #find} matches them.
+     */
+    static boolean matches(String keyword, String word) {
+        String normalizedKeyword = keyword.toLowerCase();
+        String normalizedWord = word.toLowerCase();
+        if (isPrefix(normalizedKeyword)) {
+            return normalizedWord.startsWith(stripMarker(normalizedKeyword));
+        } else if (isFuzzy(normalizedKeyword)) {
+            return isWithinOneEdit(stripMarker(normalizedKeyword), normalizedWord);
+        }
+        return normalizedWord.equals(normalizedKeyword);
+    }
+
+    /**
+     * Returns true if {@code first} can be turned into {@code second} by inserting, deleting or changing
+     * one letter, or by swapping two letters next to each other.
+     */
+    static boolean isWithinOneEdit(String first, String second) {
+        if (first.length() > second.length()) {
+            return isWithinOneEdit(second, first);
+        }
+        if (second.length() - first.length() > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < first.length() && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        if (i == first.length()) {
+            return true;
+        }
+        if (first.length() < second.length()) {
+            return first.substring(i).equals(second.substring(i + 1));
+        }
+        return first.substring(i + 1).equals(second.substring(i + 1))
+                || (i + 1 < first.length() && first.charAt(i) == second.charAt(i + 1)
+                && first.charAt(i + 1) == second.charAt(i)
+                && first.substring(i + 2).equals(second.substring(i + 2)));
+    }
+
+    /**
+     * Returns the words in the index within one edit of {@code keyword}.
+     */
+    private Set<String> findWordsNear(String keyword) {
+        if (wordsByDeletion == null) {
+            wordsByDeletion = new HashMap<>();
+            for (String word : personsByWord.keySet()) {
+                addDeletions(word);
+            }
+        }
+        Set<String> candidates = new HashSet<>(wordsByDeletion.getOrDefault(keyword, new HashSet<>()));
+        for (String deletion : deletionsOf(keyword)) {
+            candidates.addAll(wordsByDeletion.getOrDefault(deletion, new HashSet<>()));
+        }
+        candidates.removeIf(word -> !isWithinOneEdit(keyword, word));
+        return candidates;
+    }
+
+    /**
+     * Files {@code word} under itself and each of its deletions.
+     */
+    private void addDeletions(String word) {
+        wordsByDeletion.computeIfAbsent(word, unused -> new HashSet<>()).add(word);
+        for (String deletion : deletionsOf(word)) {
+            wordsByDeletion.computeIfAbsent(deletion, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from under itself and each of its deletions.
+     */
+    private void removeDeletions(String word) {
+        removeDeletion(word, word);
+        for (String deletion : deletionsOf(word)) {
+            removeDeletion(deletion, word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from under {@code deletion}, dropping the key if no other word is under it.
+     */
+    private void removeDeletion(String deletion, String word) {
+        Set<String> words = wordsByDeletion.get(deletion);
+        if (words != null && words.remove(word) && words.isEmpty()) {
+            wordsByDeletion.remove(deletion);
+        }
+    }
+
+    /**
+     * Returns every way of deleting one letter of {@code word}.
+     */
+    private static Set<String> deletionsOf(String word) {
+        Set<String> deletions = new HashSet<>();
+        for (int i = 0; i < word.length(); i++) {
+            deletions.add(word.substring(0, i) + word.substring(i + 1));
+        }
+        return deletions;
+    }
+
+    private static String[] wordsOf(Person person) {
+        return person.getName().fullName.toLowerCase().split("\\s+");
+    }
+
+    private static boolean isPrefix(String keyword) {
+        return keyword.length() > PREFIX_WILDCARD.length() && keyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    private static boolean isFuzzy(String keyword) {
+        return keyword.length() > FUZZY_MARKER.length() && keyword.endsWith(FUZZY_MARKER);
+    }
+
+    private static String stripMarker(String keyword) {
+        return keyword.substring(0, keyword.length() - 1);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Selects the persons with the given company, section and rank, if given, and with all of the given tags.
+ * Guarantees: immutable.
+ */
+public class PersonFilter {
+
+    private final Company company;
+    private final Section section;
+    private final Rank rank;
+    private final Set<Tag> tags = new HashSet<>();
+
+    /**
+     * Company, section and rank may be null, to select persons with any of them.
+     */
+    public PersonFilter(Company company, Section section, Rank rank, Set<Tag> tags) {
+        requireAllNonNull(tags);
+        this.company = company;
+        this.section = section;
+        this.rank = rank;
+        this.tags.addAll(tags);
+    }
+
+    public Optional<Company> getCompany() {
+        return Optional.ofNullable(company);
+    }
+
+    public Optional<Section> getSection() {
+        return Optional.ofNullable(section);
+    }
+
+    public Optional<Rank> getRank() {
+        return Optional.ofNullable(rank);
+    }
+
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    /**
+     * Returns true if the filter selects every person.
+     */
+    public boolean isEmpty() {
+        return company == null && section == null && rank == null && tags.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersonFilter)) {
+            return false;
+        }
+        PersonFilter otherFilter = (PersonFilter) other;
+        return Objects.equals(company, otherFilter.company)
+                && Objects.equals(section, otherFilter.section)
+                && Objects.equals(rank, otherFilter.rank)
+                && tags.equals(otherFilter.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(company, section, rank, tags);
+    }
+}
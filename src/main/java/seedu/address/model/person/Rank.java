@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's rank in the duty planner.
  * Guarantees: immutable; is valid as declared in {@link #isValidRank(String)}
@@ -14,6 +16,8 @@ public class Rank {
 
     public static final String VALIDATION_REGEX = "[A-Z0-9]{3}";
 
+    private static final Interner<Rank> POOL = new Interner<>();
+
     public final String value;
 
     /**
@@ -27,6 +31,15 @@ public class Rank {
         value = rank;
     }
 
+    /**
+     * Returns the shared {@code Rank} of the given value, so that persons with the same rank share one instance.
+     *
+     * @param rank A valid rank.
+     */
+    public static Rank of(String rank) {
+        return POOL.intern(rank, Rank::new);
+    }
+
     /**
      * Returns true if a given string is a valid rank.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's section in the duty planner.
  * Guarantees: immutable; is valid as declared in {@link #isValidSection(String)}
@@ -17,6 +19,8 @@ public class Section {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Section> POOL = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,15 @@ public class Section {
         value = section;
     }
 
+    /**
+     * Returns the shared {@code Section} of the given value, so that persons with the same section share one instance.
+     *
+     * @param section A valid section.
+     */
+    public static Section of(String section) {
+        return POOL.intern(section, Section::new);
+    }
+
     /**
      * Returns true if a given string is a valid section.
      */
@@ -3,13 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StampUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -17,6 +26,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * persons uses Person#isSamePerson(Person) for equality so as to ensure that the person being added or updated is
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
+ * As persons with the same NRIC are the same person, the list keeps an index of its persons by NRIC,
+ * so finding or checking for a person takes constant time however many persons there are.
+ * It also keeps indexes of its persons by company, section, rank and tag, so that filtering by them only
+ * looks at the persons selected, and an inverted index of the words of their names for {@code find}.
+ * The list takes a new stamp whenever it changes, so a copy of it can be reused for as long as the stamp is the same.
  *
  * Supports a minimal set of list operations.
  *
@@ -27,21 +41,75 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<String, Person> personsByNric = new HashMap<>();
+    private AttributeIndex<Company> personsByCompany = new AttributeIndex<>(person ->
+            Collections.singleton(person.getCompany()));
+    private AttributeIndex<Section> personsBySection = new AttributeIndex<>(person ->
+            Collections.singleton(person.getSection()));
+    private AttributeIndex<Rank> personsByRank = new AttributeIndex<>(person ->
+            Collections.singleton(person.getRank()));
+    private AttributeIndex<Tag> personsByTag = new AttributeIndex<>(Person::getTags);
+    private NameIndex personsByName = new NameIndex();
+    private long stamp = StampUtil.nextStamp();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
-
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByNric.containsKey(toCheck.getNric().value);
     }
 
+    /**
+     * Returns true if the list contains a person with the given {@code nric}.
+     */
+    public boolean containsNric(String nric) {
+        return personsByNric.containsKey(nric);
+    }
 
     /**
-     *
+     * Returns the person with the given {@code nric}, or null if there is none in the list.
+     */
+    public Person findByNric(String nric) {
+        return personsByNric.get(nric);
+    }
+
+    /**
+     * Returns the persons selected by {@code filter}.
+     * The sets of persons with each value in the filter are intersected from the smallest up.
+     */
+    public Set<Person> filter(PersonFilter filter) {
+        requireNonNull(filter);
+        List<Set<Person>> selections = new ArrayList<>();
+        filter.getCompany().ifPresent(company -> selections.add(personsByCompany.get(company)));
+        filter.getSection().ifPresent(section -> selections.add(personsBySection.get(section)));
+        filter.getRank().ifPresent(rank -> selections.add(personsByRank.get(rank)));
+        for (Tag tag : filter.getTags()) {
+            selections.add(personsByTag.get(tag));
+        }
+        if (selections.isEmpty()) {
+            return new HashSet<>(internalList);
+        }
+
+        selections.sort(Comparator.comparingInt(Set::size));
+        Set<Person> selected = new HashSet<>(selections.get(0));
+        for (int i = 1; i < selections.size() && !selected.isEmpty(); i++) {
+            selected.retainAll(selections.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the persons whose names match any of the keywords of {@code predicate}, found through the name index.
+     */
+    public Set<Person> findByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return personsByName.find(predicate.getKeywords());
+    }
+
+    /**
+     * Adds a person to the list.
      * The person must not already exist in the list.
-     *
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
@@ -49,11 +117,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByNric.put(toAdd.getNric().value, toAdd);
+        addToAttributeIndexes(toAdd);
+        stamp = StampUtil.nextStamp();
     }
 
-    // Sort the list by name
+    /**
+     * Sorts the list by name.
+     */
     public void sort() {
         this.internalList.sort((p1, p2) -> p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName));
+        stamp = StampUtil.nextStamp();
     }
 
     /**
@@ -64,8 +138,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByNric.get(target.getNric().value))) {
             throw new PersonNotFoundException();
         }
 
@@ -73,7 +146,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        internalList.set(internalList.indexOf(target), editedPerson);
+        personsByNric.remove(target.getNric().value);
+        personsByNric.put(editedPerson.getNric().value, editedPerson);
+        removeFromAttributeIndexes(target);
+        addToAttributeIndexes(editedPerson);
+        stamp = StampUtil.nextStamp();
     }
 
     /**
@@ -82,27 +160,54 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(personsByNric.get(toRemove.getNric().value)) || !internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByNric.remove(toRemove.getNric().value);
+        removeFromAttributeIndexes(toRemove);
+        stamp = StampUtil.nextStamp();
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}, which are already known to be unique,
+     * firing a single change to listeners.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByNric = new HashMap<>(replacement.personsByNric);
+        personsByCompany = new AttributeIndex<>(replacement.personsByCompany);
+        personsBySection = new AttributeIndex<>(replacement.personsBySection);
+        personsByRank = new AttributeIndex<>(replacement.personsByRank);
+        personsByTag = new AttributeIndex<>(replacement.personsByTag);
+        personsByName = new NameIndex(replacement.personsByName);
         internalList.setAll(replacement.internalList);
+        stamp = StampUtil.nextStamp();
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, firing a single change to listeners.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        personsByNric = indexByNric(persons);
+        personsByCompany.clear();
+        personsBySection.clear();
+        personsByRank.clear();
+        personsByTag.clear();
+        personsByName.clear();
+        for (Person person : persons) {
+            addToAttributeIndexes(person);
         }
-
         internalList.setAll(persons);
+        stamp = StampUtil.nextStamp();
+    }
+
+    /**
+     * Returns the stamp the list took when it last changed.
+     */
+    public long getStamp() {
+        return stamp;
     }
 
     /**
@@ -130,16 +235,39 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Adds {@code person} to the indexes by company, section, rank, tag and name.
+     */
+    private void addToAttributeIndexes(Person person) {
+        personsByCompany.add(person);
+        personsBySection.add(person);
+        personsByRank.add(person);
+        personsByTag.add(person);
+        personsByName.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the indexes by company, section, rank, tag and name.
+     */
+    private void removeFromAttributeIndexes(Person person) {
+        personsByCompany.remove(person);
+        personsBySection.remove(person);
+        personsByRank.remove(person);
+        personsByTag.remove(person);
+        personsByName.remove(person);
+    }
+
+    /**
+     * Returns an index of {@code persons} by NRIC, checking in the same pass that they are unique.
+     *
+     * @throws DuplicatePersonException if two of {@code persons} are the same person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexByNric(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>(persons.size() * 4 / 3 + 1);
+        for (Person person : persons) {
+            if (index.put(person.getNric().value, person) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -6,13 +6,14 @@ import seedu.address.model.person.Person;
 
 /**
  * Request class to get requested info such as duty dates and requester
+ * Guarantees: immutable, so a request is accepted by replacing it with one that has an accepter.
  */
 public class Request {
 
-    private Person requester;
-    private LocalDate allocatedDate;
-    private LocalDate requestedDate;
-    private Person accepter;
+    private final Person requester;
+    private final LocalDate allocatedDate;
+    private final LocalDate requestedDate;
+    private final Person accepter;
 
     public Request(Person requester, LocalDate allocatedDate, LocalDate requestedDate) {
         this.requester = requester;
@@ -52,16 +53,22 @@ public class Request {
         return requester;
     }
 
-    public void setRequester(Person requester) {
-        this.requester = requester;
-    }
-
     public Person getAccepter() {
         return accepter;
     }
 
-    public void setAccepter(Person accepter) {
-        this.accepter = accepter;
+    /**
+     * Returns a request for the same swap as this one, made by {@code requester}.
+     */
+    public Request withRequester(Person requester) {
+        return new Request(requester, allocatedDate, requestedDate, accepter);
+    }
+
+    /**
+     * Returns a request for the same swap as this one, accepted by {@code accepter}, or not accepted if it is null.
+     */
+    public Request withAccepter(Person accepter) {
+        return new Request(requester, allocatedDate, requestedDate, accepter);
     }
 
     @Override
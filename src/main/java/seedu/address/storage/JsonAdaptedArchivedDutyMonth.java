@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.duty.ArchivedDutyMonth;
+
+/**
+ * Jackson-friendly version of {@link ArchivedDutyMonth}
+ */
+public class JsonAdaptedArchivedDutyMonth {
+
+    public static final String MESSAGE_INVALID_MONTH = "Archived duties of %d-%d are invalid: %s";
+
+    private final int year;
+    private final int monthIndex;
+    private final int[] dayIndexes;
+    private final int[] points;
+    private final int[] assigneeCounts;
+    private final int[] assignees;
+
+    /**
+     * Constructs a {@code JsonAdaptedArchivedDutyMonth} with the given month details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchivedDutyMonth(@JsonProperty("year") int year, @JsonProperty("monthIndex") int monthIndex,
+                                        @JsonProperty("dayIndexes") int[] dayIndexes,
+                                        @JsonProperty("points") int[] points,
+                                        @JsonProperty("assigneeCounts") int[] assigneeCounts,
+                                        @JsonProperty("assignees") int[] assignees) {
+        this.year = year;
+        this.monthIndex = monthIndex;
+        this.dayIndexes = dayIndexes;
+        this.points = points;
+        this.assigneeCounts = assigneeCounts;
+        this.assignees = assignees;
+    }
+
+    /**
+     * Converts a given {@code ArchivedDutyMonth} into this class for Jackson use.
+     */
+    public JsonAdaptedArchivedDutyMonth(ArchivedDutyMonth source) {
+        year = source.getYear();
+        monthIndex = source.getMonthIndex();
+        dayIndexes = source.getDayIndexes();
+        points = source.getPoints();
+        assigneeCounts = source.getAssigneeCounts();
+        assignees = source.getAssignees();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted month into the model's {@code ArchivedDutyMonth} object.
+     *
+     * @throws IllegalValueException if the duties of the month do not match their assignees.
+     */
+    public ArchivedDutyMonth toModelType() throws IllegalValueException {
+        try {
+            return new ArchivedDutyMonth(year, monthIndex, dayIndexes, points, assigneeCounts, assignees);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, year, monthIndex + 1,
+                    e.getMessage()));
+        }
+    }
+}
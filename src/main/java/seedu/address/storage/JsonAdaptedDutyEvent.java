@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.duty.DutyEvent;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link DutyEvent}
+ */
+public class JsonAdaptedDutyEvent {
+
+    public static final String INVALID_KIND = "Invalid duty event kind: %s";
+
+    private final String nric;
+    private final int year;
+    private final int monthIndex;
+    private final int dayIndex;
+    private final int points;
+    private final String kind;
+
+    /**
+     * Constructs a {@code JsonAdaptedDutyEvent} with the given event details.
+     */
+    @JsonCreator
+    public JsonAdaptedDutyEvent(@JsonProperty("nric") String nric, @JsonProperty("year") int year,
+                                @JsonProperty("monthIndex") int monthIndex, @JsonProperty("dayIndex") int dayIndex,
+                                @JsonProperty("points") int points, @JsonProperty("kind") String kind) {
+        this.nric = nric;
+        this.year = year;
+        this.monthIndex = monthIndex;
+        this.dayIndex = dayIndex;
+        this.points = points;
+        this.kind = kind;
+    }
+
+    /**
+     * Converts a given {@code DutyEvent} into this class for Jackson use.
+     */
+    public JsonAdaptedDutyEvent(DutyEvent source) {
+        nric = source.getPerson().getNric().toString();
+        year = source.getYear();
+        monthIndex = source.getMonthIndex();
+        dayIndex = source.getDayIndex();
+        points = source.getPoints();
+        kind = source.getKind().name();
+    }
+
+    public String getNric() {
+        return nric;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event into the model's {@code DutyEvent} for {@code person}.
+     *
+     * @throws IllegalValueException if the kind of the event is not known.
+     */
+    public DutyEvent toModelType(Person person) throws IllegalValueException {
+        try {
+            return new DutyEvent(person, year, monthIndex, dayIndex, points, DutyEvent.Kind.valueOf(kind));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalValueException(String.format(INVALID_KIND, kind));
+        }
+    }
+}
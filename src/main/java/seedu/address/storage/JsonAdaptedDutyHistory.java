@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.duty.ArchivedDutyMonth;
+import seedu.address.model.duty.DutyHistory;
+
+/**
+ * Jackson-friendly version of {@link DutyHistory}
+ */
+public class JsonAdaptedDutyHistory {
+
+    private final List<String> nrics = new ArrayList<>();
+    private final List<JsonAdaptedArchivedDutyMonth> months = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedDutyHistory} with the given nrics and archived months.
+     */
+    @JsonCreator
+    public JsonAdaptedDutyHistory(@JsonProperty("nrics") List<String> nrics,
+                                  @JsonProperty("months") List<JsonAdaptedArchivedDutyMonth> months) {
+        if (nrics != null) {
+            this.nrics.addAll(nrics);
+        }
+        if (months != null) {
+            this.months.addAll(months);
+        }
+    }
+
+    /**
+     * Converts a given {@code DutyHistory} into this class for Jackson use.
+     */
+    public JsonAdaptedDutyHistory(DutyHistory source) {
+        nrics.addAll(source.getNrics());
+        for (ArchivedDutyMonth month : source.getArchivedMonths()) {
+            months.add(new JsonAdaptedArchivedDutyMonth(month));
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted history into the model's {@code DutyHistory} object.
+     * Persons are kept by NRIC, so the history of persons no longer in the database is loaded too.
+     *
+     * @throws IllegalValueException if an archived month is invalid or refers to an unknown person.
+     */
+    public DutyHistory toModelType() throws IllegalValueException {
+        List<ArchivedDutyMonth> modelMonths = new ArrayList<>();
+        for (JsonAdaptedArchivedDutyMonth month : months) {
+            modelMonths.add(month.toModelType());
+        }
+        try {
+            return new DutyHistory(nrics, modelMonths);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.duty.Duty;
 import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.duty.PartitionMode;
 import seedu.address.model.person.Person;
 
 /**
@@ -29,6 +30,8 @@ public class JsonAdaptedDutyMonth {
     private final int firstDayWeekIndex;
     private final List<JsonAdaptedDuty> duties = new ArrayList<>();
     private final JsonAdaptedBlockHashMap blockedDays;
+    private final long seed;
+    private final String partitionMode;
 
     /**
      * Constructs a {@code JsonAdaptedDutyMonth} with the given duty month details.
@@ -40,7 +43,9 @@ public class JsonAdaptedDutyMonth {
                            @JsonProperty("confirmed") String confirmed,
                            @JsonProperty("needsRollover") String needsRollover,
                            @JsonProperty("duties") List<JsonAdaptedDuty> duties,
-                           @JsonProperty("blockedDays") JsonAdaptedBlockHashMap blockedDays) {
+                           @JsonProperty("blockedDays") JsonAdaptedBlockHashMap blockedDays,
+                           @JsonProperty("seed") long seed,
+                           @JsonProperty("partitionMode") String partitionMode) {
         this.year = year;
         this.monthIndex = monthIndex;
         this.firstDayWeekIndex = firstDayWeekIndex;
@@ -50,6 +55,8 @@ public class JsonAdaptedDutyMonth {
             this.duties.addAll(duties);
         }
         this.blockedDays = blockedDays;
+        this.seed = seed;
+        this.partitionMode = partitionMode;
     }
 
     /**
@@ -73,6 +80,8 @@ public class JsonAdaptedDutyMonth {
         }
 
         blockedDays = new JsonAdaptedBlockHashMap(source.getBlockedDates());
+        seed = source.getSeed();
+        partitionMode = source.getPartitionMode().toString();
     }
 
     /**
@@ -97,8 +106,18 @@ public class JsonAdaptedDutyMonth {
         }
         final HashMap<Person, List<Integer>> modelBlockedDays = blockedDays.toModelType(personList);
 
+        // Months saved before partitioning was added were never partitioned
+        PartitionMode modelPartitionMode = PartitionMode.NONE;
+        if (partitionMode != null) {
+            try {
+                modelPartitionMode = PartitionMode.fromName(partitionMode);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(PartitionMode.MESSAGE_CONSTRAINTS);
+            }
+        }
+
         return new DutyMonth(modelConfirmed, modelRollover, year, monthIndex, firstDayWeekIndex, monthDuties,
-                modelBlockedDays);
+                modelBlockedDays, seed, modelPartitionMode);
     }
 
 }
@@ -2,14 +2,15 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.duty.DutyEvent;
 import seedu.address.model.duty.DutyStorage;
 import seedu.address.model.person.Person;
 
@@ -20,57 +21,94 @@ public class JsonAdaptedDutyStorage {
 
     private final List<JsonAdaptedDutyStoragePerson> dutyStorageList = new ArrayList<>();
 
+    // Null in files written before the duty ledger, whose history is kept as text in dutyStorageList
+    private final List<JsonAdaptedDutyEvent> dutyLedger;
+    private final int undoMark;
+
     /**
-     * Constructs a {@code JsonAdaptedDutyStoragePerson} with the given details.
+     * Constructs a {@code JsonAdaptedDutyStorage} with the given details.
      */
     @JsonCreator
-    public JsonAdaptedDutyStorage(@JsonProperty("dutyStorageList") List<JsonAdaptedDutyStoragePerson> dutyStorageList) {
-        this.dutyStorageList.addAll(dutyStorageList);
+    public JsonAdaptedDutyStorage(@JsonProperty("dutyStorageList") List<JsonAdaptedDutyStoragePerson> dutyStorageList,
+                                  @JsonProperty("dutyLedger") List<JsonAdaptedDutyEvent> dutyLedger,
+                                  @JsonProperty("undoMark") int undoMark) {
+        if (dutyStorageList != null) {
+            this.dutyStorageList.addAll(dutyStorageList);
+        }
+        this.dutyLedger = dutyLedger;
+        this.undoMark = undoMark;
     }
 
     /**
-     * Constucts a {@code JsonAdaptedDutyStorage} with the given hashmap details.
+     * Constucts a {@code JsonAdaptedDutyStorage} with the given dutyStorage details.
      */
     public JsonAdaptedDutyStorage(DutyStorage source) {
-        Set<Person> persons = new HashSet<>();
-        persons.addAll(source.getDutyPoints().keySet());
-        persons.addAll(source.getDutyRecords().keySet());
-        persons.addAll(source.getPrevDutyPoints().keySet());
-        persons.addAll(source.getPrevDutyRecords().keySet());
-        for (Person person : persons) {
-            String nric = person.getNric().toString();
-            int dutyPoints = source.getDutyPoints().getOrDefault(person, 0);
-            List<String> dutyRecords = source.getDutyRecords().getOrDefault(person, new ArrayList<>());
-            int prevDutyPoints = source.getPrevDutyPoints().getOrDefault(person, 0);
-            List<String> prevDutyRecords = source.getPrevDutyRecords().getOrDefault(person, new ArrayList<>());
-            JsonAdaptedDutyStoragePerson jsonAdaptedDutyStoragePerson = new JsonAdaptedDutyStoragePerson(nric,
-                    dutyPoints, dutyRecords, prevDutyPoints, prevDutyRecords);
-            this.dutyStorageList.add(jsonAdaptedDutyStoragePerson);
+        HashMap<Person, Integer> dutyPoints = source.getDutyPoints();
+        for (Person person : dutyPoints.keySet()) {
+            this.dutyStorageList.add(new JsonAdaptedDutyStoragePerson(person.getNric().toString(),
+                    dutyPoints.get(person)));
+        }
+        this.dutyLedger = new ArrayList<>();
+        for (DutyEvent event : source.getEvents()) {
+            this.dutyLedger.add(new JsonAdaptedDutyEvent(event));
         }
+        this.undoMark = source.getUndoMark();
     }
 
     /**
      * Converts this Jackson-friendly adapted dutyStorage object into the model's {@code DutyStorage} object.
+     * Points and events of persons not in {@code personList} are left out.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the events.
      */
-    public DutyStorage toModelType (ObservableList<Person> personList) {
+    public DutyStorage toModelType (ObservableList<Person> personList) throws IllegalValueException {
+        Map<String, Person> personsByNric = new HashMap<>();
+        for (Person person : personList) {
+            personsByNric.put(person.getNric().toString(), person);
+        }
+
         HashMap<Person, Integer> dutyPoints = new HashMap<>();
-        HashMap<Person, List<String>> dutyRecords = new HashMap<>();
-        HashMap<Person, Integer> prevDutyPoints = new HashMap<>();
-        HashMap<Person, List<String>> prevDutyRecords = new HashMap<>();
         for (JsonAdaptedDutyStoragePerson jsonAdaptedDutyStoragePerson : this.dutyStorageList) {
-            Person person = null;
-            for (Person p : personList) {
-                if (p.getNric().toString().equals(jsonAdaptedDutyStoragePerson.getNric())) {
-                    person = p;
-                }
-            }
+            Person person = personsByNric.get(jsonAdaptedDutyStoragePerson.getNric());
             if (person != null) {
                 dutyPoints.put(person, jsonAdaptedDutyStoragePerson.getDutyPoints());
-                dutyRecords.put(person, jsonAdaptedDutyStoragePerson.getDutyRecords());
-                prevDutyPoints.put(person, jsonAdaptedDutyStoragePerson.getPrevDutyPoints());
-                prevDutyRecords.put(person, jsonAdaptedDutyStoragePerson.getPrevDutyRecords());
             }
         }
-        return new DutyStorage(dutyPoints, dutyRecords, prevDutyPoints, prevDutyRecords);
+
+        if (dutyLedger == null) {
+            return toModelTypeFromLegacyRecords(personsByNric, dutyPoints);
+        }
+
+        List<DutyEvent> events = new ArrayList<>();
+        int modelUndoMark = 0;
+        for (int i = 0; i < dutyLedger.size(); i++) {
+            Person person = personsByNric.get(dutyLedger.get(i).getNric());
+            if (person != null) {
+                events.add(dutyLedger.get(i).toModelType(person));
+                modelUndoMark += i < undoMark ? 1 : 0;
+            }
+        }
+        return new DutyStorage(dutyPoints, events, modelUndoMark);
+    }
+
+    /**
+     * Builds the {@code DutyStorage} from the text records of each person, in files written before the duty ledger.
+     * Records from before the last update of every person come first in the ledger, then those added by it.
+     */
+    private DutyStorage toModelTypeFromLegacyRecords(Map<String, Person> personsByNric,
+                                                     HashMap<Person, Integer> dutyPoints) {
+        List<DutyEvent> eventsBeforeUpdate = new ArrayList<>();
+        List<DutyEvent> eventsSinceUpdate = new ArrayList<>();
+        for (JsonAdaptedDutyStoragePerson jsonAdaptedDutyStoragePerson : this.dutyStorageList) {
+            Person person = personsByNric.get(jsonAdaptedDutyStoragePerson.getNric());
+            if (person != null) {
+                eventsBeforeUpdate.addAll(jsonAdaptedDutyStoragePerson.getLegacyEventsBeforeUpdate(person));
+                eventsSinceUpdate.addAll(jsonAdaptedDutyStoragePerson.getLegacyEventsSinceUpdate(person));
+            }
+        }
+
+        List<DutyEvent> events = new ArrayList<>(eventsBeforeUpdate);
+        events.addAll(eventsSinceUpdate);
+        return new DutyStorage(dutyPoints, events, eventsBeforeUpdate.size());
     }
 }
@@ -1,36 +1,51 @@
 package seedu.address.storage;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.duty.DutyEvent;
+import seedu.address.model.person.Person;
+
 /**
- * Jackson-friendly class to hold a person in dutyStorage
+ * Jackson-friendly class to hold a person in dutyStorage.
+ * Files written before the duty ledger keep the records of each person as text, which are read back into events.
  */
 public class JsonAdaptedDutyStoragePerson {
+
+    private static final Pattern LEGACY_DUTY_RECORD =
+            Pattern.compile("Duty : (\\d+) (\\w+) (\\d+) \\| \\w+ \\| (-?\\d+) points\\s*");
+    private static final Pattern LEGACY_REWARD_RECORD = Pattern.compile("Reward: (\\d+) points added\\s*");
+    private static final Pattern LEGACY_PENALTY_RECORD = Pattern.compile("Penalty: (\\d+) points deducted\\s*");
+    private static final int NUM_OF_MONTHS = 12;
+
     private String nric;
     private int dutyPoints;
     private List<String> dutyRecords;
-    private int prevDutyPoints;
     private List<String> prevDutyRecords;
 
     /**
      * Constructs a {@code JsonAdaptedDutyStoragePerson} with the given details.
      */
     @JsonCreator
-    public JsonAdaptedDutyStoragePerson(@JsonProperty("person") String nric,
+    public JsonAdaptedDutyStoragePerson(@JsonProperty("nric") String nric,
                                         @JsonProperty("dutyPoints") int dutyPoints,
                                         @JsonProperty("dutyRecords") List<String> dutyRecords,
-                                        @JsonProperty("PrevDutyPoints") int prevDutyPoints,
-                                        @JsonProperty("PrevDutyRecord") List<String> prevDutyRecords) {
+                                        @JsonProperty("prevDutyRecords") List<String> prevDutyRecords) {
         this.nric = nric;
         this.dutyPoints = dutyPoints;
         this.dutyRecords = dutyRecords;
-        this.prevDutyPoints = prevDutyPoints;
         this.prevDutyRecords = prevDutyRecords;
     }
 
+    public JsonAdaptedDutyStoragePerson(String nric, int dutyPoints) {
+        this(nric, dutyPoints, null, null);
+    }
 
     public String getNric() {
         return nric;
@@ -40,15 +55,62 @@ public class JsonAdaptedDutyStoragePerson {
         return dutyPoints;
     }
 
-    public List<String> getDutyRecords() {
-        return dutyRecords;
+    /**
+     * Returns the events read from the text records of {@code person} that were there before the last update.
+     */
+    public List<DutyEvent> getLegacyEventsBeforeUpdate(Person person) {
+        return toEvents(person, 0, getLegacyUpdateIndex());
+    }
+
+    /**
+     * Returns the events read from the text records of {@code person} that were added by the last update.
+     */
+    public List<DutyEvent> getLegacyEventsSinceUpdate(Person person) {
+        return toEvents(person, getLegacyUpdateIndex(), dutyRecords == null ? 0 : dutyRecords.size());
+    }
+
+    /**
+     * Returns the index of the first text record added by the last update.
+     * The records from before the last update are a prefix of the current ones.
+     */
+    private int getLegacyUpdateIndex() {
+        int numOfRecords = dutyRecords == null ? 0 : dutyRecords.size();
+        return prevDutyRecords == null ? numOfRecords : Math.min(prevDutyRecords.size(), numOfRecords);
     }
 
-    public int getPrevDutyPoints() {
-        return prevDutyPoints;
+    /**
+     * Returns the events read from text records {@code from} to {@code to}, skipping any that cannot be read.
+     */
+    private List<DutyEvent> toEvents(Person person, int from, int to) {
+        List<DutyEvent> events = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            String record = dutyRecords.get(i);
+            Matcher duty = LEGACY_DUTY_RECORD.matcher(record);
+            Matcher reward = LEGACY_REWARD_RECORD.matcher(record);
+            Matcher penalty = LEGACY_PENALTY_RECORD.matcher(record);
+            if (duty.matches() && toMonthIndex(duty.group(2)) >= 0) {
+                events.add(new DutyEvent(person, Integer.parseInt(duty.group(3)), toMonthIndex(duty.group(2)),
+                        Integer.parseInt(duty.group(1)), Integer.parseInt(duty.group(4)),
+                        DutyEvent.Kind.DUTY_SERVED));
+            } else if (reward.matches()) {
+                events.add(new DutyEvent(person, 0, 0, 0, Integer.parseInt(reward.group(1)), DutyEvent.Kind.REWARD));
+            } else if (penalty.matches()) {
+                events.add(new DutyEvent(person, 0, 0, 0, -Integer.parseInt(penalty.group(1)),
+                        DutyEvent.Kind.PENALTY));
+            }
+        }
+        return events;
     }
 
-    public List<String> getPrevDutyRecords() {
-        return prevDutyRecords;
+    /**
+     * Returns the index, starting from 0, of the month named {@code month}, or -1 if there is none.
+     */
+    private static int toMonthIndex(String month) {
+        for (int monthIndex = 0; monthIndex < NUM_OF_MONTHS; monthIndex++) {
+            if (DateUtil.getMonth(monthIndex).equals(month)) {
+                return monthIndex;
+            }
+        }
+        return -1;
     }
 }
@@ -103,7 +103,7 @@ class JsonAdaptedPerson {
         if (!Company.isValidCompany(company)) {
             throw new IllegalValueException(Company.MESSAGE_CONSTRAINTS);
         }
-        final Company modelCompany = new Company(company);
+        final Company modelCompany = Company.of(company);
 
         if (section == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Section.class.getSimpleName()));
@@ -111,7 +111,7 @@ class JsonAdaptedPerson {
         if (!Section.isValidSection(section)) {
             throw new IllegalValueException(Section.MESSAGE_CONSTRAINTS);
         }
-        final Section modelSection = new Section(section);
+        final Section modelSection = Section.of(section);
 
         if (rank == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Rank.class.getSimpleName()));
@@ -119,7 +119,7 @@ class JsonAdaptedPerson {
         if (!Rank.isValidRank(rank)) {
             throw new IllegalValueException(Rank.MESSAGE_CONSTRAINTS);
         }
-        final Rank modelRank = new Rank(rank);
+        final Rank modelRank = Rank.of(rank);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
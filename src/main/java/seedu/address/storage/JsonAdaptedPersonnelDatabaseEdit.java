@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.PersonnelDatabaseEdit;
+import seedu.address.model.duty.DutyEvent;
+import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.edit.AcceptRequestEdit;
+import seedu.address.model.edit.AddPersonEdit;
+import seedu.address.model.edit.AdjustPointsEdit;
+import seedu.address.model.edit.BlockDatesEdit;
+import seedu.address.model.edit.SwapDutiesEdit;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link PersonnelDatabaseEdit}, holding the fields used by its kind of edit.
+ */
+class JsonAdaptedPersonnelDatabaseEdit {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Edit's %s field is missing!";
+    public static final String INVALID_KIND = "Invalid edit kind: %s";
+    public static final String INVALID_DATE = "Invalid edit date: %s";
+
+    private static final String ADD_PERSON = "addPerson";
+    private static final String ADJUST_POINTS = "adjustPoints";
+    private static final String BLOCK_DATES = "blockDates";
+    private static final String ACCEPT_REQUEST = "acceptRequest";
+    private static final String SWAP_DUTIES = "swapDuties";
+
+    private final String kind;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final Integer points;
+    private final String pointsKind;
+    private final String date;
+    private final Integer year;
+    private final Integer monthIndex;
+    private final List<Integer> days = new ArrayList<>();
+    private final Integer requestIndex;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonnelDatabaseEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonnelDatabaseEdit(@JsonProperty("kind") String kind,
+                                            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                            @JsonProperty("points") Integer points,
+                                            @JsonProperty("pointsKind") String pointsKind,
+                                            @JsonProperty("date") String date,
+                                            @JsonProperty("year") Integer year,
+                                            @JsonProperty("monthIndex") Integer monthIndex,
+                                            @JsonProperty("days") List<Integer> days,
+                                            @JsonProperty("requestIndex") Integer requestIndex) {
+        this.kind = kind;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.points = points;
+        this.pointsKind = pointsKind;
+        this.date = date;
+        this.year = year;
+        this.monthIndex = monthIndex;
+        if (days != null) {
+            this.days.addAll(days);
+        }
+        this.requestIndex = requestIndex;
+    }
+
+    /**
+     * Converts a given {@code PersonnelDatabaseEdit} into this class for Jackson use.
+     *
+     * @throws IllegalArgumentException if the edit is not of a kind that can be stored.
+     */
+    public JsonAdaptedPersonnelDatabaseEdit(PersonnelDatabaseEdit source) {
+        Integer sourcePoints = null;
+        String sourcePointsKind = null;
+        String sourceDate = null;
+        Integer sourceYear = null;
+        Integer sourceMonthIndex = null;
+        Integer sourceRequestIndex = null;
+        if (source instanceof AddPersonEdit) {
+            kind = ADD_PERSON;
+            persons.add(new JsonAdaptedPerson(((AddPersonEdit) source).getAdded()));
+        } else if (source instanceof AdjustPointsEdit) {
+            AdjustPointsEdit adjustPointsEdit = (AdjustPointsEdit) source;
+            kind = ADJUST_POINTS;
+            adjustPointsEdit.getPersons().forEach(person -> persons.add(new JsonAdaptedPerson(person)));
+            sourcePoints = adjustPointsEdit.getPoints();
+            sourcePointsKind = adjustPointsEdit.getKind().name();
+            sourceDate = adjustPointsEdit.getDate().toString();
+        } else if (source instanceof BlockDatesEdit) {
+            BlockDatesEdit blockDatesEdit = (BlockDatesEdit) source;
+            kind = BLOCK_DATES;
+            persons.add(new JsonAdaptedPerson(blockDatesEdit.getPerson()));
+            sourceYear = blockDatesEdit.getYear();
+            sourceMonthIndex = blockDatesEdit.getMonthIndex();
+            days.addAll(blockDatesEdit.getDays());
+        } else if (source instanceof AcceptRequestEdit) {
+            AcceptRequestEdit acceptRequestEdit = (AcceptRequestEdit) source;
+            kind = ACCEPT_REQUEST;
+            persons.add(new JsonAdaptedPerson(acceptRequestEdit.getAccepter()));
+            sourceRequestIndex = acceptRequestEdit.getRequestIndex();
+        } else if (source instanceof SwapDutiesEdit) {
+            SwapDutiesEdit swapDutiesEdit = (SwapDutiesEdit) source;
+            kind = SWAP_DUTIES;
+            persons.add(new JsonAdaptedPerson(swapDutiesEdit.getRequester()));
+            persons.add(new JsonAdaptedPerson(swapDutiesEdit.getAccepter()));
+            sourceYear = swapDutiesEdit.getYear();
+            sourceMonthIndex = swapDutiesEdit.getMonthIndex();
+            days.add(swapDutiesEdit.getAllocatedDay());
+            days.add(swapDutiesEdit.getRequestedDay());
+        } else {
+            throw new IllegalArgumentException(String.format(INVALID_KIND, source.getClass().getSimpleName()));
+        }
+        points = sourcePoints;
+        pointsKind = sourcePointsKind;
+        date = sourceDate;
+        year = sourceYear;
+        monthIndex = sourceMonthIndex;
+        requestIndex = sourceRequestIndex;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit into the model's {@code PersonnelDatabaseEdit} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public PersonnelDatabaseEdit toModelType() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+
+        final List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+
+        switch (kind) {
+        case ADD_PERSON:
+            return new AddPersonEdit(getOnlyPerson(modelPersons));
+        case ADJUST_POINTS:
+            if (points == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "points"));
+            }
+            if (!DutyEvent.Kind.REWARD.name().equals(pointsKind)
+                    && !DutyEvent.Kind.PENALTY.name().equals(pointsKind)) {
+                throw new IllegalValueException(String.format(JsonAdaptedDutyEvent.INVALID_KIND, pointsKind));
+            }
+            return new AdjustPointsEdit(modelPersons, points, DutyEvent.Kind.valueOf(pointsKind), toDate());
+        case BLOCK_DATES:
+            if (year == null || monthIndex == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "month"));
+            }
+            return new BlockDatesEdit(getOnlyPerson(modelPersons), year, monthIndex, days);
+        case ACCEPT_REQUEST:
+            if (requestIndex == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "requestIndex"));
+            }
+            return new AcceptRequestEdit(requestIndex, getOnlyPerson(modelPersons));
+        case SWAP_DUTIES:
+            if (year == null || monthIndex == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "month"));
+            }
+            if (modelPersons.size() != 2 || days.size() != 2) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "swap"));
+            }
+            // The swap is made afresh when the journal is replayed, so no operation of the storage is known
+            return new SwapDutiesEdit(modelPersons.get(0), modelPersons.get(1), year, monthIndex, days.get(0),
+                    days.get(1), DutyStorage.NO_OPERATION);
+        default:
+            throw new IllegalValueException(String.format(INVALID_KIND, kind));
+        }
+    }
+
+    /**
+     * Returns the date on which the points of an edit were given.
+     *
+     * @throws IllegalValueException if the date is missing or not a valid date.
+     */
+    private LocalDate toDate() throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(String.format(INVALID_DATE, date));
+        }
+    }
+
+    /**
+     * Returns the one person of an edit of a single person.
+     *
+     * @throws IllegalValueException if there is not exactly one person.
+     */
+    private Person getOnlyPerson(List<Person> modelPersons) throws IllegalValueException {
+        if (modelPersons.size() != 1) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return modelPersons.get(0);
+    }
+}
@@ -1,11 +1,13 @@
 package seedu.address.storage;
 
 import java.time.LocalDate;
+import java.util.function.UnaryOperator;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.PersonnelDatabase;
 import seedu.address.model.person.Person;
 import seedu.address.model.request.Request;
 
@@ -56,11 +58,34 @@ class JsonAdaptedRequest {
      * @throws IllegalValueException if there were any data constraints violated in the adapted request.
      */
     public Request toModelType() throws IllegalValueException {
+        return toModelType(person -> person);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted request object into the model's {@code Request} object,
+     * sharing the persons already loaded into {@code personnelDatabase} instead of keeping copies of them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted request.
+     */
+    public Request toModelType(PersonnelDatabase personnelDatabase) throws IllegalValueException {
+        return toModelType(person -> {
+            Person loaded = personnelDatabase.findPerson(person.getNric().value);
+            return person.equals(loaded) ? loaded : person;
+        });
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted request object into the model's {@code Request} object,
+     * passing each of its persons through {@code toShared}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted request.
+     */
+    private Request toModelType(UnaryOperator<Person> toShared) throws IllegalValueException {
         if (requester == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "requester"));
         }
 
-        Person modelRequester = requester.toModelType();
+        Person modelRequester = toShared.apply(requester.toModelType());
 
         if (allocatedDate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "allocated date"));
@@ -75,7 +100,7 @@ class JsonAdaptedRequest {
         final LocalDate modelRequestedDate = LocalDate.parse(requestedDate);
 
         if (accepter != null) {
-            Person modelAccepter = accepter.toModelType();
+            Person modelAccepter = toShared.apply(accepter.toModelType());
             return new Request(modelRequester, modelAllocatedDate, modelRequestedDate, modelAccepter);
         } else {
             return new Request(modelRequester, modelAllocatedDate, modelRequestedDate);
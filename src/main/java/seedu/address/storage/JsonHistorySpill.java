@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.HistorySpill;
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.ReadOnlyPersonnelDatabase;
+
+/**
+ * Spills versions of the personnel database to a temporary file as json, one after the other.
+ * Each version is written as its length in bytes followed by its json, and is read back from where it starts.
+ * The file is created on the first spill, and closed and deleted by {@link #close()} or else when the app exits.
+ */
+public class JsonHistorySpill implements HistorySpill {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonHistorySpill.class);
+
+    private static final String FILE_PREFIX = "personneldatabase-history";
+    private static final String FILE_SUFFIX = ".json";
+
+    private RandomAccessFile file;
+    private Path filePath;
+
+    @Override
+    public long write(ReadOnlyPersonnelDatabase version) throws IOException {
+        byte[] json = JsonUtil.toJsonString(new JsonSerializablePersonnelDatabase(version)).getBytes(UTF_8);
+        RandomAccessFile spillFile = getFile();
+        long position = spillFile.length();
+        spillFile.seek(position);
+        spillFile.writeInt(json.length);
+        spillFile.write(json);
+        return position;
+    }
+
+    @Override
+    public PersonnelDatabase read(long position) throws IOException {
+        RandomAccessFile spillFile = getFile();
+        spillFile.seek(position);
+        byte[] json = new byte[spillFile.readInt()];
+        spillFile.readFully(json);
+        try {
+            return JsonUtil.fromJsonString(new String(json, UTF_8), JsonSerializablePersonnelDatabase.class)
+                    .toModelTypeAsWritten();
+        } catch (IllegalValueException ive) {
+            throw new IOException("Spilled version is not valid: " + ive.getMessage(), ive);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.setLength(0);
+        } catch (IOException e) {
+            logger.warning("Failed to clear history spill file " + filePath + ", its room is given back on exit: "
+                    + e);
+        }
+    }
+
+    /**
+     * Closes and deletes the spill file, if there is one, forgetting every version written.
+     * A later spill starts a new file.
+     */
+    public void close() {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to close history spill file " + filePath + ": " + e);
+        }
+        file = null;
+        filePath = null;
+    }
+
+    /**
+     * Returns the spill file, creating it if there is none yet.
+     */
+    private RandomAccessFile getFile() throws IOException {
+        if (file == null) {
+            filePath = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+            filePath.toFile().deleteOnExit();
+            file = new RandomAccessFile(filePath.toFile(), "rw");
+        }
+        return file;
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
+
+/**
+ * A journal of the edits made to the personnel database since its data file was last saved, kept in a file as json.
+ * The file starts with the checksum of the data file the edits were made on, followed by each edit as its length
+ * in bytes and its json. The file is synced to disk each time edits are appended.
+ * Edits are only replayed onto the data file they were made on, so a journal left behind by a crash after the data
+ * file was saved, but before the journal was started afresh, is ignored. An edit torn by a crash is dropped.
+ */
+public class JsonPersonnelDatabaseJournal {
+
+    public static final int DEFAULT_MAX_EDITS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonPersonnelDatabaseJournal.class);
+
+    private final Path filePath;
+    private final int maxEdits;
+
+    private RandomAccessFile file;
+    private int numOfEdits;
+
+    // Whether the journal follows on from the data file as it is on disk, so edits can be appended to it
+    private boolean isStarted;
+
+    public JsonPersonnelDatabaseJournal(Path filePath) {
+        this(filePath, DEFAULT_MAX_EDITS);
+    }
+
+    public JsonPersonnelDatabaseJournal(Path filePath, int maxEdits) {
+        this.filePath = filePath;
+        this.maxEdits = maxEdits;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if edits were appended since the journal was last started.
+     */
+    public boolean hasEdits() {
+        return numOfEdits > 0;
+    }
+
+    /**
+     * Starts the journal afresh for edits made on the data file with {@code checksum}.
+     */
+    public void start(long checksum) throws IOException {
+        isStarted = false;
+        RandomAccessFile journalFile = getFile();
+        journalFile.setLength(0);
+        journalFile.writeLong(checksum);
+        journalFile.getFD().sync();
+        numOfEdits = 0;
+        isStarted = true;
+    }
+
+    /**
+     * Makes the edits in the journal again on {@code personnelDatabase}, which was read from the data file with
+     * {@code checksum}, and carries on the journal after them.
+     * A journal kept for another data file is started afresh instead. Edits after one that cannot be read back or
+     * made again are dropped.
+     */
+    public void replay(PersonnelDatabase personnelDatabase, long checksum) throws IOException {
+        if (!Files.exists(filePath) || Files.size(filePath) < Long.BYTES) {
+            start(checksum);
+            return;
+        }
+        RandomAccessFile journalFile = getFile();
+        journalFile.seek(0);
+        if (journalFile.readLong() != checksum) {
+            logger.info("Journal " + filePath + " was kept for another data file, starting it afresh");
+            start(checksum);
+            return;
+        }
+
+        numOfEdits = 0;
+        long end = journalFile.getFilePointer();
+        while (end < journalFile.length()) {
+            try {
+                readEdit(journalFile).redo(personnelDatabase);
+            } catch (EOFException e) {
+                logger.warning("Dropping an edit torn at the end of journal " + filePath);
+                break;
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                logger.warning("Dropping the edits from one that could not be replayed in journal " + filePath
+                        + ": " + e.getMessage());
+                break;
+            }
+            end = journalFile.getFilePointer();
+            numOfEdits++;
+        }
+        journalFile.setLength(end);
+        isStarted = true;
+    }
+
+    /**
+     * Appends {@code edits} to the journal and syncs it to disk.
+     * Returns false, appending nothing, if the journal has not been started or has no room for them.
+     *
+     * @throws IOException if the edits could not be appended, after which the journal must be started afresh.
+     */
+    public boolean append(List<PersonnelDatabaseEdit> edits) throws IOException {
+        if (!isStarted || numOfEdits + edits.size() > maxEdits) {
+            return false;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(bytes);
+        for (PersonnelDatabaseEdit edit : edits) {
+            byte[] json = JsonUtil.toJsonString(new JsonAdaptedPersonnelDatabaseEdit(edit)).getBytes(UTF_8);
+            records.writeInt(json.length);
+            records.write(json);
+        }
+
+        isStarted = false;
+        RandomAccessFile journalFile = getFile();
+        journalFile.seek(journalFile.length());
+        journalFile.write(bytes.toByteArray());
+        journalFile.getFD().sync();
+        numOfEdits += edits.size();
+        isStarted = true;
+        return true;
+    }
+
+    /**
+     * Reads the edit starting at the position of {@code journalFile}.
+     *
+     * @throws EOFException if the journal ends before the edit does.
+     */
+    private PersonnelDatabaseEdit readEdit(RandomAccessFile journalFile) throws IOException, IllegalValueException {
+        int length = journalFile.readInt();
+        if (length < 0 || length > journalFile.length() - journalFile.getFilePointer()) {
+            throw new EOFException();
+        }
+        byte[] json = new byte[length];
+        journalFile.readFully(json);
+        return JsonUtil.fromJsonString(new String(json, UTF_8), JsonAdaptedPersonnelDatabaseEdit.class)
+                .toModelType();
+    }
+
+    /**
+     * Returns the journal file, creating it if there is none yet.
+     */
+    private RandomAccessFile getFile() throws IOException {
+        if (file == null) {
+            FileUtil.createIfMissing(filePath);
+            file = new RandomAccessFile(filePath.toFile(), "rw");
+        }
+        return file;
+    }
+}
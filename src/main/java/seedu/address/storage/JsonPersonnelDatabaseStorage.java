@@ -3,15 +3,20 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
 
 /**
@@ -23,17 +28,37 @@ public class JsonPersonnelDatabaseStorage implements PersonnelDatabaseStorage {
 
     private Path filePath;
 
+    // Journal of the edits made since the data file was last saved, or null if edits are not journaled
+    private final JsonPersonnelDatabaseJournal journal;
+
     public JsonPersonnelDatabaseStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    public JsonPersonnelDatabaseStorage(Path filePath, JsonPersonnelDatabaseJournal journal) {
         this.filePath = filePath;
+        this.journal = journal;
     }
 
     public Path getPersonnelDatabaseFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the data in the data file, with the edits in the journal, if any, made on it again.
+     * If the journal cannot be read, the data in the data file is returned as it is.
+     */
     @Override
     public Optional<ReadOnlyPersonnelDatabase> readPersonnelDatabase() throws DataConversionException {
-        return readPersonnelDatabase(filePath);
+        Optional<PersonnelDatabase> personnelDatabase = readDataFile(filePath);
+        if (journal != null && personnelDatabase.isPresent()) {
+            try {
+                journal.replay(personnelDatabase.get(), checksumOf(filePath));
+            } catch (IOException ioe) {
+                logger.warning("Problem while replaying journal " + journal.getFilePath() + ": " + ioe);
+            }
+        }
+        return personnelDatabase.map(database -> database);
     }
 
     /**
@@ -43,6 +68,15 @@ public class JsonPersonnelDatabaseStorage implements PersonnelDatabaseStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyPersonnelDatabase> readPersonnelDatabase(Path filePath) throws DataConversionException {
+        return readDataFile(filePath).map(database -> database);
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, without replaying the journal.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    private Optional<PersonnelDatabase> readDataFile(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
         Optional<JsonSerializablePersonnelDatabase> jsonPersonnelDatabase = JsonUtil.readJsonFile(
@@ -59,13 +93,20 @@ public class JsonPersonnelDatabaseStorage implements PersonnelDatabaseStorage {
         }
     }
 
+    /**
+     * Saves {@code personnelDatabase} to the data file, and starts the journal, if any, afresh for edits made on it.
+     */
     @Override
     public void savePersonnelDatabase(ReadOnlyPersonnelDatabase personnelDatabase) throws IOException {
         savePersonnelDatabase(personnelDatabase, filePath);
+        if (journal != null) {
+            journal.start(checksumOf(filePath));
+        }
     }
 
     /**
      * Similar to {@link #savePersonnelDatabase(ReadOnlyPersonnelDatabase)}.
+     * The file is synced to disk before this returns.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +114,28 @@ public class JsonPersonnelDatabaseStorage implements PersonnelDatabaseStorage {
         requireNonNull(personnelDatabase);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePersonnelDatabase(personnelDatabase), filePath);
+        FileUtil.writeToFileDurably(filePath,
+                JsonUtil.toJsonString(new JsonSerializablePersonnelDatabase(personnelDatabase)));
+    }
+
+    @Override
+    public boolean journalPersonnelDatabaseEdits(List<PersonnelDatabaseEdit> edits) throws IOException {
+        requireNonNull(edits);
+        return journal != null && journal.append(edits);
+    }
+
+    @Override
+    public boolean hasJournaledPersonnelDatabaseEdits() {
+        return journal != null && journal.hasEdits();
+    }
+
+    /**
+     * Returns the checksum of the contents of the file at {@code filePath}.
+     */
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(filePath));
+        return checksum.getValue();
     }
 
 }
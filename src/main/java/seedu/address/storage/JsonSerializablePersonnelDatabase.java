@@ -13,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.DutyCalendar;
 import seedu.address.model.PersonnelDatabase;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
+import seedu.address.model.duty.DutyHistory;
 import seedu.address.model.duty.DutyMonth;
 import seedu.address.model.person.Person;
 import seedu.address.model.request.Request;
@@ -30,6 +31,7 @@ class JsonSerializablePersonnelDatabase {
     private final JsonAdaptedDutyMonth currentMonth;
     private final JsonAdaptedDutyMonth nextMonth;
     private final JsonAdaptedDutyStorage dutyStorage;
+    private final JsonAdaptedDutyHistory dutyHistory;
 
     /**
      * Constructs a {@code JsonSerializablePersonnelDatabase} with the given persons and duty months.
@@ -39,12 +41,14 @@ class JsonSerializablePersonnelDatabase {
                                              @JsonProperty("requests") List<JsonAdaptedRequest> requests,
                                              @JsonProperty("currentMonth") JsonAdaptedDutyMonth currentMonth,
                                              @JsonProperty("nextMonth") JsonAdaptedDutyMonth nextMonth,
-                                             @JsonProperty("dutyStorage") JsonAdaptedDutyStorage dutyStorage) {
+                                             @JsonProperty("dutyStorage") JsonAdaptedDutyStorage dutyStorage,
+                                             @JsonProperty("dutyHistory") JsonAdaptedDutyHistory dutyHistory) {
         this.persons.addAll(persons);
         this.requests.addAll(requests);
         this.currentMonth = currentMonth;
         this.nextMonth = nextMonth;
         this.dutyStorage = dutyStorage;
+        this.dutyHistory = dutyHistory;
     }
 
     /**
@@ -58,6 +62,7 @@ class JsonSerializablePersonnelDatabase {
         this.currentMonth = new JsonAdaptedDutyMonth(source.getDutyCalendar().getCurrentMonth());
         this.nextMonth = new JsonAdaptedDutyMonth(source.getDutyCalendar().getNextMonth());
         this.dutyStorage = new JsonAdaptedDutyStorage(source.getDutyCalendar().getDutyStorage());
+        this.dutyHistory = new JsonAdaptedDutyHistory(source.getDutyCalendar().getDutyHistory());
     }
 
     /**
@@ -66,6 +71,36 @@ class JsonSerializablePersonnelDatabase {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public PersonnelDatabase toModelType() throws IllegalValueException {
+        PersonnelDatabase personnelDatabase = toPersonnelDatabase(true);
+
+        if (personnelDatabase.getDutyCalendar().getCurrentMonth().getMonthIndex() != personnelDatabase
+            .getDutyCalendar().getNextMonth().getMonthIndex() - 1 && personnelDatabase.getDutyCalendar()
+                .getCurrentMonth().getMonthIndex() != 12) {
+            throw new IllegalValueException("The month indices of the current month and the next month do not match!");
+        } else if (personnelDatabase.getDutyCalendar().getCurrentMonth().getMonthIndex() != 11 && personnelDatabase
+                .getDutyCalendar().getCurrentMonth().getYear() != personnelDatabase
+                .getDutyCalendar().getNextMonth().getYear()) {
+            throw new IllegalValueException("The year indices of the current month and the next month do not match!");
+        }
+
+        return personnelDatabase;
+    }
+
+    /**
+     * Converts this personnel database into the model's {@code PersonnelDatabase} object as it was written,
+     * without rolling its calendar over to the current month.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public PersonnelDatabase toModelTypeAsWritten() throws IllegalValueException {
+        return toPersonnelDatabase(false);
+    }
+
+    /**
+     * Converts this personnel database into the model's {@code PersonnelDatabase} object, rolling its calendar
+     * over to the current month if {@code canRollover} and the current month written asks for it.
+     */
+    private PersonnelDatabase toPersonnelDatabase(boolean canRollover) throws IllegalValueException {
         PersonnelDatabase personnelDatabase = new PersonnelDatabase();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
@@ -76,31 +111,21 @@ class JsonSerializablePersonnelDatabase {
         }
         ObservableList<Person> personList = personnelDatabase.getPersonList();
         for (JsonAdaptedRequest jsonAdaptedRequest : requests) {
-            Request request = jsonAdaptedRequest.toModelType();
+            Request request = jsonAdaptedRequest.toModelType(personnelDatabase);
             personnelDatabase.addRequest(request);
         }
 
         DutyMonth modelCurrentMonth = currentMonth.toModelType(personList);
-        if (modelCurrentMonth.isRollover()) {
+        // Files written before the duty history have none
+        DutyHistory modelDutyHistory = dutyHistory == null ? new DutyHistory() : dutyHistory.toModelType();
+        if (canRollover && modelCurrentMonth.isRollover()) {
             personnelDatabase.setDutyCalendar(new DutyCalendar(modelCurrentMonth,
-                    nextMonth.toModelType(personList), dutyStorage.toModelType(personList)));
+                    nextMonth.toModelType(personList), dutyStorage.toModelType(personList), modelDutyHistory));
         } else {
             personnelDatabase.setDutyCalendar(new DutyCalendar(modelCurrentMonth,
-                    nextMonth.toModelType(personList), dutyStorage.toModelType(personList)), false);
+                    nextMonth.toModelType(personList), dutyStorage.toModelType(personList), modelDutyHistory),
+                    false);
         }
-
-
-
-        if (personnelDatabase.getDutyCalendar().getCurrentMonth().getMonthIndex() != personnelDatabase
-            .getDutyCalendar().getNextMonth().getMonthIndex() - 1 && personnelDatabase.getDutyCalendar()
-                .getCurrentMonth().getMonthIndex() != 12) {
-            throw new IllegalValueException("The month indices of the current month and the next month do not match!");
-        } else if (personnelDatabase.getDutyCalendar().getCurrentMonth().getMonthIndex() != 11 && personnelDatabase
-                .getDutyCalendar().getCurrentMonth().getYear() != personnelDatabase
-                .getDutyCalendar().getNextMonth().getYear()) {
-            throw new IllegalValueException("The year indices of the current month and the next month do not match!");
-        }
-
         return personnelDatabase;
     }
 
@@ -0,0 +1,210 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.PersonnelDatabaseEdit;
+import seedu.address.model.ReadOnlyPersonnelDatabase;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Saves the personnel database to a {@code Storage} on a write executor, away from the thread changing it.
+ * Each change hands over a snapshot of the database, which never changes. Changes handed over while a write is
+ * waiting or in progress are saved together by the next write, from the latest snapshot.
+ * Edits are journaled while every change since the data file was last saved came with its edits, and the data file
+ * is saved otherwise. A write only counts as done once it is synced to disk.
+ * If a write fails, the changes are kept and saved again by the next write, and the failure is reported.
+ */
+public class PersonnelDatabaseSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(PersonnelDatabaseSaver.class);
+
+    private final Storage storage;
+    private final SimpleObjectProperty<IOException> saveFailure = new SimpleObjectProperty<>();
+
+    // Writes the changes, and reports their outcome, in the calling thread by default
+    private Executor writeExecutor = Runnable::run;
+    private Executor completionExecutor = Runnable::run;
+
+    // Guards the changes not saved yet, which are handed over and taken by different threads
+    private final Object pendingLock = new Object();
+    // Held while changes are written, so that only one write runs at a time
+    private final Object writeLock = new Object();
+
+    // Latest snapshot not saved yet, or null if every change handed over has been saved
+    private ReadOnlyPersonnelDatabase pendingSnapshot;
+    private ReadOnlyUserPrefs pendingUserPrefs;
+    // Edits made since the data file was last saved, valid only while isDataFileSaveNeeded is false
+    private final List<PersonnelDatabaseEdit> pendingEdits = new ArrayList<>();
+    private boolean isDataFileSaveNeeded;
+    private boolean isWriteQueued;
+
+    public PersonnelDatabaseSaver(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the executor writing the changes, and the executor the outcome of each write is reported on.
+     */
+    public void setExecutors(Executor writeExecutor, Executor completionExecutor) {
+        requireAllNonNull(writeExecutor, completionExecutor);
+        this.writeExecutor = writeExecutor;
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Returns the failure of the last write, or null if it succeeded, as reported on the completion executor.
+     */
+    public ReadOnlyProperty<IOException> saveFailureProperty() {
+        return saveFailure;
+    }
+
+    /**
+     * Returns true if some of the changes handed over have not been saved yet.
+     */
+    public boolean isDirty() {
+        synchronized (pendingLock) {
+            return pendingSnapshot != null;
+        }
+    }
+
+    /**
+     * Hands over a change to the personnel database, leaving it as in {@code snapshot}, to be saved along with
+     * {@code userPrefs}. {@code edits} holds the edits that made the change, or is empty if the change
+     * was not made through edits alone, in which case the whole data file is saved.
+     */
+    public void save(ReadOnlyPersonnelDatabase snapshot, ReadOnlyUserPrefs userPrefs,
+                     Optional<List<PersonnelDatabaseEdit>> edits) {
+        requireAllNonNull(snapshot, userPrefs, edits);
+        synchronized (pendingLock) {
+            pendingSnapshot = snapshot;
+            pendingUserPrefs = new UserPrefs(userPrefs);
+            if (edits.isPresent() && !isDataFileSaveNeeded) {
+                pendingEdits.addAll(edits.get());
+            } else {
+                isDataFileSaveNeeded = true;
+                pendingEdits.clear();
+            }
+        }
+        queueWrite();
+    }
+
+    /**
+     * Writes the changes not saved yet, if any, again on the write executor.
+     */
+    public void retry() {
+        if (isDirty()) {
+            queueWrite();
+        }
+    }
+
+    /**
+     * Writes the changes not saved yet, if any, in the calling thread, after the write in progress, if any.
+     *
+     * @throws IOException if the changes could not be saved, in which case they are kept.
+     */
+    public void flush() throws IOException {
+        writePending();
+    }
+
+    /**
+     * Queues a write on the write executor, unless one is already waiting to take the changes.
+     */
+    private void queueWrite() {
+        synchronized (pendingLock) {
+            if (isWriteQueued) {
+                return;
+            }
+            isWriteQueued = true;
+        }
+        writeExecutor.execute(this::writeQueued);
+    }
+
+    /**
+     * Writes the changes not saved yet as the queued write, and reports the outcome on the completion executor.
+     */
+    private void writeQueued() {
+        synchronized (pendingLock) {
+            isWriteQueued = false;
+        }
+        IOException failure = null;
+        try {
+            writePending();
+        } catch (IOException ioe) {
+            failure = ioe;
+        }
+        IOException outcome = failure;
+        completionExecutor.execute(() -> saveFailure.set(outcome));
+    }
+
+    /**
+     * Takes the changes not saved yet, if any, and writes them.
+     *
+     * @throws IOException if the changes could not be saved, in which case they are kept.
+     */
+    private void writePending() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyPersonnelDatabase snapshot;
+            ReadOnlyUserPrefs userPrefs;
+            List<PersonnelDatabaseEdit> edits;
+            boolean isDataFileSave;
+            synchronized (pendingLock) {
+                if (pendingSnapshot == null) {
+                    return;
+                }
+                snapshot = pendingSnapshot;
+                userPrefs = pendingUserPrefs;
+                edits = new ArrayList<>(pendingEdits);
+                isDataFileSave = isDataFileSaveNeeded;
+                pendingSnapshot = null;
+                pendingUserPrefs = null;
+                pendingEdits.clear();
+                isDataFileSaveNeeded = false;
+            }
+
+            try {
+                if (!isDataFileSave && storage.journalPersonnelDatabaseEdits(edits)) {
+                    logger.info("Journaled " + edits.size() + " edits to the personnel database.");
+                } else {
+                    logger.info("Saving the personnel database to file.");
+                    storage.savePersonnelDatabase(snapshot);
+                    storage.saveUserPrefs(userPrefs);
+                }
+            } catch (IOException ioe) {
+                logger.warning("Could not save the personnel database, keeping the changes "
+                        + StringUtil.getDetails(ioe));
+                keepUnsaved(snapshot, userPrefs);
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Keeps the changes up to {@code snapshot}, which could not be saved, to be saved by the next write.
+     * The journal may hold part of the edits written, so the next write saves the whole data file.
+     */
+    private void keepUnsaved(ReadOnlyPersonnelDatabase snapshot, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(snapshot);
+        synchronized (pendingLock) {
+            if (pendingSnapshot == null) {
+                // No change was handed over since, so the unsaved snapshot is still the latest
+                pendingSnapshot = snapshot;
+                pendingUserPrefs = userPrefs;
+            }
+            isDataFileSaveNeeded = true;
+            pendingEdits.clear();
+        }
+    }
+}
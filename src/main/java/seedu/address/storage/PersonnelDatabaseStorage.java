@@ -2,10 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
 
 /**
@@ -44,4 +46,17 @@ public interface PersonnelDatabaseStorage {
      */
     void savePersonnelDatabase(ReadOnlyPersonnelDatabase personnelDatabase, Path filePath) throws IOException;
 
+    /**
+     * Appends {@code edits}, made on the personnel database since it was last saved or journaled, to the journal.
+     * Returns false, journaling nothing, if there is no journal or it has no room for them, in which case the
+     * whole personnel database should be saved instead.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    boolean journalPersonnelDatabaseEdits(List<PersonnelDatabaseEdit> edits) throws IOException;
+
+    /**
+     * Returns true if edits were journaled since the personnel database was last saved.
+     */
+    boolean hasJournaledPersonnelDatabaseEdits();
+
 }
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.PersonnelDatabaseEdit;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -28,4 +30,7 @@ public interface Storage extends PersonnelDatabaseStorage, UserPrefsStorage {
 
     @Override
     void savePersonnelDatabase(ReadOnlyPersonnelDatabase personnelDatabase) throws IOException;
+
+    @Override
+    boolean journalPersonnelDatabaseEdits(List<PersonnelDatabaseEdit> edits) throws IOException;
 }
@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.PersonnelDatabaseEdit;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -53,7 +55,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyPersonnelDatabase> readPersonnelDatabase() throws DataConversionException, IOException {
-        return readPersonnelDatabase(personnelDatabaseStorage.getPersonnelDatabaseFilePath());
+        logger.fine("Attempting to read data from file: " + getPersonnelDatabaseFilePath());
+        return personnelDatabaseStorage.readPersonnelDatabase();
     }
 
     @Override
@@ -65,7 +68,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void savePersonnelDatabase(ReadOnlyPersonnelDatabase personnelDatabase) throws IOException {
-        savePersonnelDatabase(personnelDatabase, personnelDatabaseStorage.getPersonnelDatabaseFilePath());
+        logger.fine("Attempting to write to data file: " + getPersonnelDatabaseFilePath());
+        personnelDatabaseStorage.savePersonnelDatabase(personnelDatabase);
     }
 
     @Override
@@ -74,4 +78,15 @@ public class StorageManager implements Storage {
         personnelDatabaseStorage.savePersonnelDatabase(personnelDatabase, filePath);
     }
 
+    @Override
+    public boolean journalPersonnelDatabaseEdits(List<PersonnelDatabaseEdit> edits) throws IOException {
+        logger.fine("Attempting to journal " + edits.size() + " edits");
+        return personnelDatabaseStorage.journalPersonnelDatabaseEdits(edits);
+    }
+
+    @Override
+    public boolean hasJournaledPersonnelDatabaseEdits() {
+        return personnelDatabaseStorage.hasJournaledPersonnelDatabaseEdits();
+    }
+
 }
@@ -145,9 +145,15 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.saveFailureProperty().addListener((observable, oldFailure, newFailure) -> {
+            if (newFailure != null) {
+                resultDisplay.setFeedbackToUser(newFailure);
+            }
+        });
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getPersonnelDatabaseFilePath(),
                 logic.getPersonnelDatabase());
+        statusBarFooter.showScheduleProgress(logic.scheduleProgressProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CalendarView calendarView = new CalendarView(logic.getCurrentDutyMonth());
@@ -254,6 +260,11 @@ public class MainWindow extends UiPart<Stage> {
             }
 
             browserPanel.refreshRequestListDisplay();
+            commandResult.getPendingFeedback().ifPresent(pendingFeedback -> pendingFeedback.thenAccept(feedback -> {
+                logger.info("Result: " + feedback);
+                resultDisplay.setFeedbackToUser(feedback);
+                refreshCalendar(null);
+            }));
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
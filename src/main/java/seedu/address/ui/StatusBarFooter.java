@@ -5,10 +5,12 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
+import seedu.address.model.duty.ScheduleProgress;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,6 +19,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SCHEDULE_STATUS_RUNNING = "Scheduling: %s";
 
     /**
      * Used to generate time stamps.
@@ -33,6 +36,8 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label syncStatus;
     @FXML
+    private Label scheduleStatus;
+    @FXML
     private Label saveLocationStatus;
 
 
@@ -43,6 +48,14 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the progress of the scheduling running, if any, as {@code scheduleProgress} changes.
+     */
+    public void showScheduleProgress(ObservableValue<ScheduleProgress> scheduleProgress) {
+        scheduleProgress.addListener((observable, oldProgress, newProgress) -> updateScheduleStatus(newProgress));
+        updateScheduleStatus(scheduleProgress.getValue());
+    }
+
     /**
      * Sets the clock used to determine the current time.
      */
@@ -66,4 +79,8 @@ public class StatusBarFooter extends UiPart<Region> {
         syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
+    private void updateScheduleStatus(ScheduleProgress progress) {
+        scheduleStatus.setText(progress == null ? "" : String.format(SCHEDULE_STATUS_RUNNING, progress));
+    }
+
 }
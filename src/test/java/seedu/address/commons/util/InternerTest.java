@@ -0,0 +1,31 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Company;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.Assert;
+
+public class InternerTest {
+
+    @Test
+    public void intern_equalStrings_returnsSameInstance() {
+        Interner<StringBuilder> interner = new Interner<>();
+        StringBuilder first = interner.intern(new String("value"), StringBuilder::new);
+        assertSame(first, interner.intern(new String("value"), StringBuilder::new));
+        assertNotSame(first, interner.intern("other", StringBuilder::new));
+        Assert.assertThrows(NullPointerException.class, () -> interner.intern(null, StringBuilder::new));
+    }
+
+    @Test
+    public void of_equalValues_returnsSharedInstance() {
+        assertSame(Company.of("Alpha"), Company.of(new String("Alpha")));
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+        assertEquals(new Company("Alpha"), Company.of("Alpha"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Company.of(" "));
+    }
+}
@@ -82,7 +82,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void executeStorageThrowsIoExceptionThrowsCommandException() throws Exception {
+    public void executeStorageThrowsIoExceptionReportsSaveFailure() throws Exception {
         // Setup LogicManager with JsonPersonnelDatabaseIoExceptionThrowingStub
         JsonPersonnelDatabaseStorage personnelDatabaseStorage =
                 new JsonPersonnelDatabaseIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
@@ -98,9 +98,14 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         expectedModel.getDutyCalendar().getNextMonth().unconfirm();
         expectedModel.commitPersonnelDatabase();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedPerson);
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
         assertHistoryCorrect(addCommand);
+        assertEquals(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, logic.saveFailureProperty().getValue());
+
+        // The changes are kept to be saved again
+        thrown.expect(IOException.class);
+        logic.flush();
     }
 
     @Test
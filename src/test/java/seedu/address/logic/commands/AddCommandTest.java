@@ -10,6 +10,10 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -25,12 +29,17 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.DutyCalendar;
 import seedu.address.model.Model;
 import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.PersonnelDatabaseEdit;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.duty.DutyMonth;
 import seedu.address.model.duty.DutySettings;
 import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.duty.ScheduleProgress;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.request.Request;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -195,6 +204,16 @@ public class AddCommandTest {
             throw new AssertionError(CALLED_ERROR);
         }
 
+        @Override
+        public Set<Person> getPersons(PersonFilter filter) {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
+        @Override
+        public Set<Person> getPersons(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
         @Override
         public boolean canUndoPersonnelDatabase() {
             throw new AssertionError(CALLED_ERROR);
@@ -220,6 +239,21 @@ public class AddCommandTest {
             throw new AssertionError(CALLED_ERROR);
         }
 
+        @Override
+        public void commitPersonnelDatabase(PersonnelDatabaseEdit edit) {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
+        @Override
+        public ReadOnlyPersonnelDatabase getPersonnelDatabaseSnapshot() {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
+        @Override
+        public Optional<List<PersonnelDatabaseEdit>> takeCommittedEdits() {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
         @Override
         public ReadOnlyProperty<Person> selectedPersonProperty() {
             throw new AssertionError(CALLED_ERROR);
@@ -281,7 +315,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public void scheduleDutyForNextMonth() {
+        public CompletableFuture<DutyMonth> scheduleDutyForNextMonth() {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
+        @Override
+        public CompletableFuture<DutyMonth> scheduleDutyForNextMonth(long seed) {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
+        @Override
+        public boolean cancelScheduling() {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
+        @Override
+        public ReadOnlyProperty<ScheduleProgress> scheduleProgressProperty() {
             throw new AssertionError(CALLED_ERROR);
         }
 
@@ -290,6 +339,16 @@ public class AddCommandTest {
             throw new AssertionError(CALLED_ERROR);
         }
 
+        @Override
+        public void setSwapRequest(int index, Request request) {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
+        @Override
+        public void removeSwapRequest(int index) {
+            throw new AssertionError(CALLED_ERROR);
+        }
+
         @Override
         public boolean checkSwapRequestExists(String nric, LocalDate allocatedDate, LocalDate requestedDate) {
             throw new AssertionError(CALLED_ERROR);
@@ -343,6 +402,11 @@ public class AddCommandTest {
             // called by {@code AddCommand#execute()}
         }
 
+        @Override
+        public void commitPersonnelDatabase(PersonnelDatabaseEdit edit) {
+            // called by {@code AddCommand#execute()}
+        }
+
         @Override
         public ReadOnlyPersonnelDatabase getPersonnelDatabase() {
             return new PersonnelDatabase();
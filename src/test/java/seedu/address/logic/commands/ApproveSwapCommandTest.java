@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_NRIC;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabaseWithDuties;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.duty.Duty;
+import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for ApproveSwapCommand.
+ */
+public class ApproveSwapCommandTest {
+
+    private Model model = new ModelManager(getTypicalPersonnelDatabaseWithDuties(), new UserPrefs());
+
+    @Test
+    public void execute_undoAndRedo_swapTakenBackAndMadeAgain() throws Exception {
+        DutyMonth nextMonth = model.getDutyCalendar().getNextMonth();
+        DutyStorage dutyStorage = model.getDutyStorage();
+        nextMonth.confirm();
+        dutyStorage.update(nextMonth.getScheduledDuties());
+        model.commitPersonnelDatabase();
+
+        List<Duty> duties = nextMonth.getScheduledDuties();
+        Duty allocated = null;
+        Duty requested = null;
+        Person accepter = null;
+        for (Duty duty : duties) {
+            if (allocated == null && duty.getPersons().contains(ALICE)) {
+                allocated = duty;
+            }
+        }
+        for (Duty duty : duties) {
+            if (requested == null && !duty.getPersons().contains(ALICE)) {
+                for (Person person : duty.getPersons()) {
+                    if (!allocated.getPersons().contains(person)) {
+                        requested = duty;
+                        accepter = person;
+                        break;
+                    }
+                }
+            }
+        }
+        LocalDate allocatedDate = LocalDate.of(nextMonth.getYear(), nextMonth.getMonthIndex() + 1,
+                allocated.getDayIndex());
+        LocalDate requestedDate = LocalDate.of(nextMonth.getYear(), nextMonth.getMonthIndex() + 1,
+                requested.getDayIndex());
+        CommandHistory history = new CommandHistory();
+        new SwapCommand(allocatedDate, requestedDate, ALICE_NRIC).executeGeneral(model, history);
+        new AcceptSwapCommand(accepter.getNric().toString(), Index.fromOneBased(1)).executeGeneral(model, history);
+
+        HashMap<Person, Integer> pointsBefore = dutyStorage.getDutyPoints();
+        int eventsBefore = dutyStorage.getEvents().size();
+        new ApproveSwapCommand(Index.fromOneBased(1)).executeAdmin(model, history);
+        HashMap<Person, Integer> pointsAfter = dutyStorage.getDutyPoints();
+        assertTrue(nextMonth.isAssignedToDuty(ALICE_NRIC, requested.getDayIndex()));
+        assertEquals(eventsBefore + 4, dutyStorage.getEvents().size());
+
+        // The swap is undone as its own operation in the storage, so it can be redone from there
+        model.undoPersonnelDatabase();
+        assertTrue(nextMonth.isAssignedToDuty(ALICE_NRIC, allocated.getDayIndex()));
+        assertFalse(nextMonth.isAssignedToDuty(ALICE_NRIC, requested.getDayIndex()));
+        assertEquals(pointsBefore, dutyStorage.getDutyPoints());
+        assertEquals(eventsBefore, dutyStorage.getEvents().size());
+        assertTrue(dutyStorage.canRedo());
+
+        model.redoPersonnelDatabase();
+        assertTrue(nextMonth.isAssignedToDuty(ALICE_NRIC, requested.getDayIndex()));
+        assertEquals(pointsAfter, dutyStorage.getDutyPoints());
+        assertEquals(eventsBefore + 4, dutyStorage.getEvents().size());
+        assertFalse(dutyStorage.canRedo());
+    }
+}
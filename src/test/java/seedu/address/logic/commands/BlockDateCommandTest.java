@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static seedu.address.logic.commands.BlockDateCommand.MESSAGE_BLOCK_DATES_SUCCESS;
 import static seedu.address.logic.commands.BlockDateCommand.MESSAGE_DUTY_CONFIRMED;
 import static seedu.address.logic.commands.BlockDateCommand.MESSAGE_TOO_MANY_BLOCKED_DATES;
@@ -10,7 +12,7 @@ import static seedu.address.testutil.TypicalPersons.GENERAL_DAN_USERNAME;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabase;
 
 import java.util.ArrayList;
-//import java.util.Arrays;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,6 +23,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 
 /**
@@ -55,4 +58,22 @@ public class BlockDateCommandTest {
                 new CommandHistory(), MESSAGE_DUTY_CONFIRMED);
 
     }
+
+    @Test
+    public void execute_undoRedo_onlyNewlyBlockedDaysTakenBack() throws Exception {
+        Person dan = model.findPerson(GENERAL_DAN_USERNAME);
+        new BlockDateCommand(Arrays.asList(2, 4), GENERAL_DAN_USERNAME).executeGeneral(model, new CommandHistory());
+        // a whole new state between the edits is undone by replaying the edits before it
+        model.commitPersonnelDatabase();
+        new BlockDateCommand(Arrays.asList(4, 6), GENERAL_DAN_USERNAME).executeGeneral(model, new CommandHistory());
+
+        model.undoPersonnelDatabase();
+        assertEquals(Arrays.asList(2, 4), model.getNextDutyMonth().getBlockedDates().get(dan));
+        model.redoPersonnelDatabase();
+        assertEquals(Arrays.asList(2, 4, 6), model.getNextDutyMonth().getBlockedDates().get(dan));
+        model.undoPersonnelDatabase();
+        model.undoPersonnelDatabase();
+        model.undoPersonnelDatabase();
+        assertNull(model.getNextDutyMonth().getBlockedDates().get(dan));
+    }
 }
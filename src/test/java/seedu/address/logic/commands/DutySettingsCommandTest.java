@@ -21,7 +21,9 @@ public class DutySettingsCommandTest {
     public void execute() {
         assertCommandSuccess(new DutySettingsCommand(), model, new CommandHistory(),
                 new CommandResult(String.format(MESSAGE_VIEW_SETTINGS,
-                        model.getDutySettings().printDayOfWeek())), model);
+                        model.getDutySettings().printDayOfWeek(),
+                        model.getDutySettings().printScheduleOptions(),
+                        model.getDutySettings().printConstraints())), model);
         assertCommandFailureGeneral(new DutySettingsCommand(), model, new CommandHistory(),
                 Messages.MESSAGE_NO_AUTHORITY);
     }
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabase;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Section;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalPersonnelDatabase(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalPersonnelDatabase(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        PersonFilter firstFilter = new PersonFilter(null, new Section("1"), null, Collections.emptySet());
+        PersonFilter secondFilter = new PersonFilter(null, new Section("2"), null, Collections.emptySet());
+        FilterCommand filterFirstCommand = new FilterCommand(firstFilter);
+
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+        assertTrue(filterFirstCommand.equals(new FilterCommand(
+                new PersonFilter(null, new Section("1"), null, Collections.emptySet()))));
+        assertFalse(filterFirstCommand.equals(1));
+        assertFalse(filterFirstCommand.equals(null));
+        assertFalse(filterFirstCommand.equals(new FilterCommand(secondFilter)));
+    }
+
+    @Test
+    public void execute_section_personsInSectionFound() {
+        PersonFilter filter = new PersonFilter(null, new Section("1"), null, Collections.emptySet());
+        expectedModel.updateFilteredPersonList(person -> person.getSection().equals(new Section("1")));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW,
+                expectedModel.getFilteredPersonList().size());
+        assertCommandSuccess(new FilterCommand(filter), model, commandHistory, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().containsAll(Arrays.asList(ALICE, FIONA)));
+    }
+
+    @Test
+    public void execute_sectionAndTag_onlyPersonsWithBothFound() {
+        PersonFilter filter = new PersonFilter(null, new Section("1"), null,
+                Collections.singleton(new Tag("outstanding")));
+        expectedModel.updateFilteredPersonList(person -> person.getSection().equals(new Section("1"))
+                && person.getTags().contains(new Tag("outstanding")));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(new FilterCommand(filter), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownCompany_noPersonFound() {
+        PersonFilter filter = new PersonFilter(new Company("Nowhere"), null, new Rank("CFC"),
+                Collections.emptySet());
+        expectedModel.updateFilteredPersonList(person -> false);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        assertCommandSuccess(new FilterCommand(filter), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+}
@@ -1,28 +1,39 @@
 package seedu.address.logic.commands;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabase;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.duty.Duty;
+import seedu.address.model.duty.PartitionMode;
 import seedu.address.testutil.Assert;
 
 public class ScheduleCommandTest {
 
-    private Model model;
+    private ModelManager model;
     private CommandHistory commandHistory;
 
+    // Scheduling work handed to the model's schedule executor, run when the test chooses
+    private List<Runnable> scheduleQueue;
+
     @Before
     public void setUp() {
         model = new ModelManager(getTypicalPersonnelDatabase(), new UserPrefs());
         commandHistory = new CommandHistory();
+        scheduleQueue = new ArrayList<>();
     }
 
     @Test
@@ -35,4 +46,66 @@ public class ScheduleCommandTest {
         assertEquals(model.getNextDutyMonth().getScheduledDuties().size(), 0);
         assertEquals(model.getDummyNextMonth().getScheduledDuties().size(), model.getNextDutyMonth().getNumOfDays());
     }
+
+    @Test
+    public void executeWithSeedTest() throws CommandException {
+        new ScheduleCommand(1234).executeAdmin(model, commandHistory);
+        List<Duty> firstDuties = model.getDummyNextMonth().getScheduledDuties();
+        assertEquals(model.getDummyNextMonth().getSeed(), 1234);
+
+        new ScheduleCommand(1234).executeAdmin(model, commandHistory);
+        List<Duty> secondDuties = model.getDummyNextMonth().getScheduledDuties();
+        for (int i = 0; i < firstDuties.size(); i++) {
+            assertEquals(firstDuties.get(i).getPersons(), secondDuties.get(i).getPersons());
+        }
+    }
+
+    @Test
+    public void executeInBackgroundTest() throws CommandException {
+        model.setScheduleExecutors(scheduleQueue::add, Runnable::run);
+        CommandResult result = new ScheduleCommand(1234).executeAdmin(model, commandHistory);
+        assertEquals(result.getFeedbackToUser(), ScheduleCommand.SCHEDULE_STARTED);
+        CompletableFuture<String> feedback = result.getPendingFeedback().get().toCompletableFuture();
+        assertFalse(feedback.isDone());
+        assertNull(model.getDummyNextMonth());
+
+        scheduleQueue.forEach(Runnable::run);
+        assertTrue(feedback.isDone());
+        assertEquals(model.getDummyNextMonth().getSeed(), 1234);
+        assertTrue(feedback.join().contains(String.format(ScheduleCommand.SCHEDULE_GIVEN_SEED, 1234)));
+        assertNull(model.scheduleProgressProperty().getValue());
+    }
+
+    @Test
+    public void executePartitionedTest() throws CommandException {
+        model.getDutySettings().setPartitionMode(PartitionMode.COMPANY);
+        model.getDutySettings().setScheduleAttempts(4);
+        model.setScheduleExecutors(scheduleQueue::add, Runnable::run);
+        CommandResult result = new ScheduleCommand().executeAdmin(model, commandHistory);
+        model.getDutySettings().setPartitionMode(PartitionMode.NONE);
+        model.getDutySettings().setScheduleAttempts(1);
+
+        scheduleQueue.forEach(Runnable::run);
+        String feedback = result.getPendingFeedback().get().toCompletableFuture().join();
+        assertTrue(feedback.contains(String.format(ScheduleCommand.SCHEDULE_PARTITION_ATTEMPTS, 4)));
+        assertFalse(feedback.contains("used seed"));
+        assertTrue(feedback.contains(String.format(ScheduleCommand.SCHEDULE_PARTITIONS,
+                model.getDummyNextMonth().getPartitionNames().size(), PartitionMode.COMPANY)));
+    }
+
+    @Test
+    public void executeCancelTest() throws CommandException {
+        assertEquals(ScheduleCommand.createCancel().executeAdmin(model, commandHistory).getFeedbackToUser(),
+                ScheduleCommand.SCHEDULE_NOT_RUNNING);
+
+        model.setScheduleExecutors(scheduleQueue::add, Runnable::run);
+        CommandResult result = new ScheduleCommand().executeAdmin(model, commandHistory);
+        assertEquals(ScheduleCommand.createCancel().executeAdmin(model, commandHistory).getFeedbackToUser(),
+                ScheduleCommand.SCHEDULE_CANCELLED);
+
+        scheduleQueue.forEach(Runnable::run);
+        assertNull(model.getDummyNextMonth());
+        assertEquals(result.getPendingFeedback().get().toCompletableFuture().join(),
+                ScheduleCommand.SCHEDULE_CANCELLED);
+    }
 }
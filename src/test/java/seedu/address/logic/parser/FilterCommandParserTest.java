@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Section;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noFields_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " HQ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidRank_throwsParseException() {
+        assertParseFailure(parser, " r/corporal", Rank.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        assertParseSuccess(parser, " s/1", new FilterCommand(
+                new PersonFilter(null, new Section("1"), null, Collections.emptySet())));
+        assertParseSuccess(parser, " c/HQ r/CPL t/Driver t/Medic", new FilterCommand(
+                new PersonFilter(new Company("HQ"), null, new Rank("CPL"),
+                        new HashSet<>(Arrays.asList(new Tag("Driver"), new Tag("Medic"))))));
+    }
+}
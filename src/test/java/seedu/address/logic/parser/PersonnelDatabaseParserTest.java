@@ -101,6 +101,40 @@ public class PersonnelDatabaseParserTest {
                 UserType.DEFAULT_ADMIN_USERNAME) instanceof DutySettingsCommand);
         assertTrue(parser.parseCommand(DutySettingsCommand.COMMAND_WORD , UserType.ADMIN,
                 UserType.DEFAULT_ADMIN_USERNAME) instanceof DutySettingsCommand);
+        assertTrue(parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " a/8 tb/2000", UserType.ADMIN,
+                UserType.DEFAULT_ADMIN_USERNAME) instanceof DutySettingsCommand);
+        assertTrue(parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " e/optimal", UserType.ADMIN,
+                UserType.DEFAULT_ADMIN_USERNAME) instanceof DutySettingsCommand);
+        assertTrue(parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " f/500", UserType.ADMIN,
+                UserType.DEFAULT_ADMIN_USERNAME) instanceof DutySettingsCommand);
+        assertTrue(parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " r/2 w/1", UserType.ADMIN,
+                UserType.DEFAULT_ADMIN_USERNAME) instanceof DutySettingsCommand);
+        assertTrue(parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " x/Medic d/Sat d/Sun", UserType.ADMIN,
+                UserType.DEFAULT_ADMIN_USERNAME) instanceof DutySettingsCommand);
+        try {
+            parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " r/-1",
+                    UserType.ADMIN, UserType.DEFAULT_ADMIN_USERNAME);
+            throw new AssertionError("The expected ParseException was not thrown.");
+        } catch (ParseException pe) {
+            assertEquals(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    DutySettingsCommand.MESSAGE_USAGE), pe.getMessage());
+        }
+        try {
+            parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " e/fastest",
+                    UserType.ADMIN, UserType.DEFAULT_ADMIN_USERNAME);
+            throw new AssertionError("The expected ParseException was not thrown.");
+        } catch (ParseException pe) {
+            assertEquals(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    DutySettingsCommand.MESSAGE_USAGE), pe.getMessage());
+        }
+        try {
+            parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " a/0 tb/2000",
+                    UserType.ADMIN, UserType.DEFAULT_ADMIN_USERNAME);
+            throw new AssertionError("The expected ParseException was not thrown.");
+        } catch (ParseException pe) {
+            assertEquals(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    DutySettingsCommand.MESSAGE_USAGE), pe.getMessage());
+        }
         try {
             parser.parseCommand(DutySettingsCommand.COMMAND_WORD + " d/Sunday p/-1 m/-1",
                     UserType.GENERAL, person.getNric().toString());
@@ -243,6 +277,8 @@ public class PersonnelDatabaseParserTest {
                 instanceof ScheduleCommand);
         assertTrue(parser.parseCommand("schedule", UserType.ADMIN, UserType.DEFAULT_ADMIN_USERNAME)
                 instanceof ScheduleCommand);
+        assertEquals(new ScheduleCommand(1234), parser.parseCommand(ScheduleCommand.COMMAND_WORD + " seed/1234",
+                UserType.ADMIN, UserType.DEFAULT_ADMIN_USERNAME));
     }
     @Test
     public void parseCommand_blockDate() throws Exception {
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.PointsCommand;
+
+public class PointsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, PointsCommand.MESSAGE_USAGE);
+
+    private PointsCommandParser parser = new PointsCommandParser();
+
+    @Test
+    public void parse_noArgsOrIndex_returnsPointsCommand() {
+        assertParseSuccess(parser, "", new PointsCommand());
+        assertParseSuccess(parser, " 2", new PointsCommand(INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_views_returnsPointsCommand() {
+        assertParseSuccess(parser, " top/20", PointsCommand.createTop(20));
+        assertParseSuccess(parser, " under/-3", PointsCommand.createUnder(-3));
+        assertParseSuccess(parser, " pct/90", PointsCommand.createPercentile(90));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " top/0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " top/many", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " pct/101", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " a", MESSAGE_INVALID_FORMAT);
+    }
+}
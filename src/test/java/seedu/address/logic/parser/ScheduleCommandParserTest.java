@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ScheduleCommand;
+
+public class ScheduleCommandParserTest {
+
+    private ScheduleCommandParser parser = new ScheduleCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsScheduleCommand() {
+        assertParseSuccess(parser, "", new ScheduleCommand());
+    }
+
+    @Test
+    public void parse_validSeed_returnsScheduleCommand() {
+        assertParseSuccess(parser, " seed/1234", new ScheduleCommand(1234));
+        assertParseSuccess(parser, " seed/-5", new ScheduleCommand(-5));
+    }
+
+    @Test
+    public void parse_cancel_returnsCancelCommand() {
+        assertParseSuccess(parser, " cancel", ScheduleCommand.createCancel());
+        assertParseSuccess(parser, " CANCEL ", ScheduleCommand.createCancel());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " seed/abc",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1234",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+    }
+}
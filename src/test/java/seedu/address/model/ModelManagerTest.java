@@ -11,14 +11,18 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.duty.DutyMonth;
+import seedu.address.model.duty.DutySettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -102,6 +106,15 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonnelDatabaseSnapshot_personnelDatabaseChanged_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyPersonnelDatabase snapshot = modelManager.getPersonnelDatabaseSnapshot();
+        modelManager.addPerson(BOB);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(Arrays.asList(ALICE, BOB), modelManager.getPersonnelDatabaseSnapshot().getPersonList());
+    }
+
     @Test
     public void deletePerson_personIsSelectedAndFirstPersonInFilteredPersonList_selectionCleared() {
         modelManager.addPerson(ALICE);
@@ -149,6 +162,39 @@ public class ModelManagerTest {
         assertEquals(ALICE, modelManager.getSelectedPerson());
     }
 
+    @Test
+    public void scheduleDutyForNextMonth_changesWhileScheduling_draftUnaffected() throws Exception {
+        List<Runnable> queuedSchedules = new ArrayList<>();
+        modelManager.setScheduleExecutors(queuedSchedules::add, Runnable::run);
+        modelManager.addPerson(ALICE);
+        modelManager.getNextDutyMonth().addBlockedDay(ALICE, 1);
+
+        assertFalse(modelManager.scheduleDutyForNextMonth().isDone());
+        modelManager.getNextDutyMonth().addBlockedDay(ALICE, 2);
+        modelManager.getDutySettings().setScheduleAttempts(5);
+        assertEquals(1, queuedSchedules.size());
+        queuedSchedules.get(0).run();
+
+        DutyMonth draft = modelManager.getDummyNextMonth();
+        assertEquals(Collections.singletonList(1), draft.getBlockedDates().get(ALICE));
+        assertEquals(Arrays.asList(1, 2), modelManager.getNextDutyMonth().getBlockedDates().get(ALICE));
+    }
+
+    @Test
+    public void dutySettings_copy_doesNotChangeWithOriginal() {
+        DutySettings dutySettings = new DutySettings();
+        dutySettings.setRestrictedDays("Driver", Collections.singleton(1));
+        DutySettings copy = new DutySettings(dutySettings);
+        assertEquals(dutySettings, copy);
+
+        dutySettings.setPoints(1, 9);
+        dutySettings.setCapacity(1, 1, 9);
+        dutySettings.setScheduleAttempts(5);
+        dutySettings.setRestrictedDays("Driver", Collections.singleton(2));
+        assertFalse(dutySettings.equals(copy));
+        assertEquals(new DutySettings(copy), copy);
+    }
+
     @Test
     public void equals() {
         PersonnelDatabase personnelDatabase = new PersonnelDatabaseBuilder()
@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalRequests.REQUEST1;
+
+import org.junit.Test;
+
+import seedu.address.model.edit.AcceptRequestEdit;
+
+public class PersonnelDatabaseVersionTest {
+
+    @Test
+    public void constructor_onlyStorageChanged_sharesOtherParts() {
+        PersonnelDatabase personnelDatabase = new PersonnelDatabase();
+        personnelDatabase.addPerson(ALICE);
+        PersonnelDatabaseVersion first = new PersonnelDatabaseVersion(personnelDatabase, null);
+
+        personnelDatabase.getDutyCalendar().getDutyStorage().reward(ALICE, 3);
+        PersonnelDatabaseVersion second = new PersonnelDatabaseVersion(personnelDatabase, first);
+
+        assertSame(first.getPersonList(), second.getPersonList());
+        assertSame(first.getDutyCalendar().getCurrentMonth(), second.getDutyCalendar().getCurrentMonth());
+        assertSame(first.getDutyCalendar().getNextMonth(), second.getDutyCalendar().getNextMonth());
+        assertSame(first.getDutyCalendar().getDutyHistory(), second.getDutyCalendar().getDutyHistory());
+        assertNotSame(first.getDutyCalendar().getDutyStorage(), second.getDutyCalendar().getDutyStorage());
+        assertEquals(0, first.getDutyCalendar().getDutyStorage().getPoints(ALICE));
+        assertEquals(3, second.getDutyCalendar().getDutyStorage().getPoints(ALICE));
+    }
+
+    @Test
+    public void constructor_databaseChangedAfterwards_versionUnchanged() {
+        PersonnelDatabase personnelDatabase = new PersonnelDatabase();
+        personnelDatabase.addPerson(ALICE);
+        PersonnelDatabaseVersion version = new PersonnelDatabaseVersion(personnelDatabase, null);
+
+        personnelDatabase.addPerson(BENSON);
+        personnelDatabase.getDutyCalendar().getNextMonth().addBlockedDay(ALICE, 1);
+        personnelDatabase.getDutyCalendar().getDutyStorage().reward(ALICE, 3);
+
+        assertEquals(1, version.getPersonList().size());
+        assertTrue(version.getDutyCalendar().getNextMonth().getBlockedDates().isEmpty());
+        assertEquals(0, version.getDutyCalendar().getDutyStorage().getPoints(ALICE));
+    }
+
+    @Test
+    public void restampedFrom_resetDatabase_sharesUnchangedParts() {
+        PersonnelDatabase personnelDatabase = new PersonnelDatabase();
+        personnelDatabase.addPerson(ALICE);
+        PersonnelDatabaseVersion version = new PersonnelDatabaseVersion(personnelDatabase, null);
+
+        personnelDatabase.getDutyCalendar().getDutyStorage().reward(ALICE, 3);
+        personnelDatabase.resetData(version);
+        PersonnelDatabaseVersion restamped = version.restampedFrom(personnelDatabase);
+        personnelDatabase.getDutyCalendar().getNextMonth().addBlockedDay(ALICE, 1);
+        PersonnelDatabaseVersion next = new PersonnelDatabaseVersion(personnelDatabase, restamped);
+
+        assertEquals(0, personnelDatabase.getDutyCalendar().getDutyStorage().getPoints(ALICE));
+        assertSame(version.getPersonList(), next.getPersonList());
+        assertSame(version.getDutyCalendar().getDutyStorage(), next.getDutyCalendar().getDutyStorage());
+        assertNotSame(version.getDutyCalendar().getNextMonth(), next.getDutyCalendar().getNextMonth());
+    }
+
+    @Test
+    public void constructor_requestAccepted_requestsSharedUntilReplaced() {
+        PersonnelDatabase personnelDatabase = new PersonnelDatabase();
+        personnelDatabase.addPerson(ALICE);
+        personnelDatabase.addRequest(REQUEST1);
+        PersonnelDatabaseVersion first = new PersonnelDatabaseVersion(personnelDatabase, null);
+
+        personnelDatabase.getDutyCalendar().getDutyStorage().reward(ALICE, 3);
+        PersonnelDatabaseVersion second = new PersonnelDatabaseVersion(personnelDatabase, first);
+        assertSame(first.getRequestList(), second.getRequestList());
+
+        AcceptRequestEdit edit = new AcceptRequestEdit(0, BENSON);
+        edit.redo(personnelDatabase);
+        PersonnelDatabaseVersion third = new PersonnelDatabaseVersion(personnelDatabase, second);
+        assertNotSame(second.getRequestList(), third.getRequestList());
+        assertFalse(second.getRequestList().get(0).isAccepterValid());
+        assertEquals(BENSON, third.getRequestList().get(0).getAccepter());
+
+        edit.undo(personnelDatabase);
+        assertFalse(personnelDatabase.getRequestList().get(0).isAccepterValid());
+        assertEquals(BENSON, third.getRequestList().get(0).getAccepter());
+    }
+}
@@ -8,6 +8,8 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -18,6 +20,9 @@ import seedu.address.testutil.PersonnelDatabaseBuilder;
 
 public class VersionedPersonnelDatabaseTest {
 
+    // Enough edits in a row to be given two checkpoints
+    private static final int NUM_OF_EDITS = 45;
+
     private final ReadOnlyPersonnelDatabase personnelDatabaseWithAmy =
             new PersonnelDatabaseBuilder().withPerson(AMY).build();
     private final ReadOnlyPersonnelDatabase personnelDatabaseWithBob =
@@ -212,6 +217,115 @@ public class VersionedPersonnelDatabaseTest {
         assertThrows(VersionedPersonnelDatabase.NoRedoableStateException.class, versionedPersonnelDatabase::redo);
     }
 
+    @Test
+    public void commit_overMaxVersions_oldestStatesDiscarded() {
+        VersionedPersonnelDatabase versionedPersonnelDatabase = prepareLimitedPersonnelDatabaseList(
+                new HistorySettings(2, 0, true), new HistorySpillStub(),
+                personnelDatabaseWithAmy, personnelDatabaseWithBob, personnelDatabaseWithCarl);
+
+        assertPersonnelDatabaseListStatus(versionedPersonnelDatabase,
+                Collections.singletonList(personnelDatabaseWithBob),
+                personnelDatabaseWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_overMaxBytesWithSpill_oldestStatesSpilledAndReadBack() {
+        HistorySpillStub historySpill = new HistorySpillStub();
+        VersionedPersonnelDatabase versionedPersonnelDatabase = prepareLimitedPersonnelDatabaseList(
+                new HistorySettings(0, 1, true), historySpill,
+                personnelDatabaseWithAmy, personnelDatabaseWithBob, personnelDatabaseWithCarl);
+
+        assertEquals(3, historySpill.spilledStates.size());
+        assertPersonnelDatabaseListStatus(versionedPersonnelDatabase,
+                Arrays.asList(emptypersonnelDatabase, personnelDatabaseWithAmy, personnelDatabaseWithBob),
+                personnelDatabaseWithCarl,
+                Collections.emptyList());
+        assertTrue(historySpill.spilledStates.isEmpty());
+    }
+
+    @Test
+    public void commit_overMaxBytesWithoutSpill_oldestStatesDiscarded() {
+        VersionedPersonnelDatabase versionedPersonnelDatabase = prepareLimitedPersonnelDatabaseList(
+                new HistorySettings(0, 1, false), new HistorySpillStub(),
+                personnelDatabaseWithAmy, personnelDatabaseWithBob);
+
+        assertFalse(versionedPersonnelDatabase.canUndo());
+    }
+
+    @Test
+    public void undo_spillUnreadable_throwsNoUndoableStateException() {
+        HistorySpillStub historySpill = new HistorySpillStub();
+        VersionedPersonnelDatabase versionedPersonnelDatabase = prepareLimitedPersonnelDatabaseList(
+                new HistorySettings(0, 1, true), historySpill,
+                personnelDatabaseWithAmy, personnelDatabaseWithBob);
+        historySpill.isReadable = false;
+
+        assertTrue(versionedPersonnelDatabase.canUndo());
+        assertThrows(VersionedPersonnelDatabase.NoUndoableStateException.class, versionedPersonnelDatabase::undo);
+        assertFalse(versionedPersonnelDatabase.canUndo());
+        assertEquals(new PersonnelDatabase(versionedPersonnelDatabase), personnelDatabaseWithBob);
+    }
+
+    @Test
+    public void undoRedo_statesReachedThroughEdits_editsTakenBackAndMadeAgain() {
+        VersionedPersonnelDatabase versionedPersonnelDatabase =
+                new VersionedPersonnelDatabase(personnelDatabaseWithAmy);
+        commitRewardsToAmy(versionedPersonnelDatabase, NUM_OF_EDITS);
+        versionedPersonnelDatabase.addPerson(BOB);
+        versionedPersonnelDatabase.commit();
+
+        // undoing the whole new state restores a checkpoint and makes the edits since it again
+        versionedPersonnelDatabase.undo();
+        assertEquals(personnelDatabaseWithAmy, new PersonnelDatabase(versionedPersonnelDatabase));
+        for (int points = NUM_OF_EDITS; points > 0; points--) {
+            assertEquals(points, getPointsOfAmy(versionedPersonnelDatabase));
+            versionedPersonnelDatabase.undo();
+        }
+        assertEquals(0, getPointsOfAmy(versionedPersonnelDatabase));
+        assertFalse(versionedPersonnelDatabase.canUndo());
+
+        while (versionedPersonnelDatabase.canRedo()) {
+            versionedPersonnelDatabase.redo();
+        }
+        assertEquals(NUM_OF_EDITS, getPointsOfAmy(versionedPersonnelDatabase));
+        assertTrue(versionedPersonnelDatabase.hasPerson(BOB));
+    }
+
+    @Test
+    public void commit_overMaxVersionsWithEdits_statesDiscardedUpToCheckpoint() {
+        VersionedPersonnelDatabase versionedPersonnelDatabase =
+                new VersionedPersonnelDatabase(personnelDatabaseWithAmy);
+        versionedPersonnelDatabase.setHistorySettings(new HistorySettings(10, 0, true));
+        commitRewardsToAmy(versionedPersonnelDatabase, NUM_OF_EDITS);
+
+        // only the states from the last checkpoint onwards are kept
+        while (versionedPersonnelDatabase.canUndo()) {
+            versionedPersonnelDatabase.undo();
+        }
+        assertEquals(40, getPointsOfAmy(versionedPersonnelDatabase));
+    }
+
+    @Test
+    public void commit_overMaxBytesWithEdits_checkpointsSpilledAndEditsUndone() {
+        HistorySpillStub historySpill = new HistorySpillStub();
+        VersionedPersonnelDatabase versionedPersonnelDatabase = prepareLimitedPersonnelDatabaseList(
+                new HistorySettings(0, 1, true), historySpill, personnelDatabaseWithAmy);
+        commitRewardsToAmy(versionedPersonnelDatabase, NUM_OF_EDITS);
+        assertEquals(3, historySpill.spilledStates.size());
+
+        while (versionedPersonnelDatabase.canUndo()) {
+            versionedPersonnelDatabase.undo();
+        }
+        assertEquals(emptypersonnelDatabase, new PersonnelDatabase(versionedPersonnelDatabase));
+
+        // checkpoints passed through edits are left spilled until they are needed
+        while (versionedPersonnelDatabase.canRedo()) {
+            versionedPersonnelDatabase.redo();
+        }
+        assertEquals(NUM_OF_EDITS, getPointsOfAmy(versionedPersonnelDatabase));
+    }
+
     @Test
     public void equals() {
         VersionedPersonnelDatabase versionedPersonnelDatabase =
@@ -300,6 +414,37 @@ public class VersionedPersonnelDatabaseTest {
         return versionedPersonnelDatabase;
     }
 
+    /**
+     * Creates and returns a {@code VersionedPersonnelDatabase} starting empty, kept within {@code historySettings}
+     * and spilling to {@code historySpill}, with the {@code personnelDatabaseStates} committed into it in order.
+     */
+    private VersionedPersonnelDatabase prepareLimitedPersonnelDatabaseList(HistorySettings historySettings,
+            HistorySpill historySpill, ReadOnlyPersonnelDatabase... personnelDatabaseStates) {
+        VersionedPersonnelDatabase versionedPersonnelDatabase = new VersionedPersonnelDatabase(emptypersonnelDatabase);
+        versionedPersonnelDatabase.setHistorySettings(historySettings);
+        versionedPersonnelDatabase.setHistorySpill(historySpill);
+        for (ReadOnlyPersonnelDatabase personnelDatabaseState : personnelDatabaseStates) {
+            versionedPersonnelDatabase.resetData(personnelDatabaseState);
+            versionedPersonnelDatabase.commit();
+        }
+        return versionedPersonnelDatabase;
+    }
+
+    /**
+     * Rewards Amy a point {@code count} times, committing each reward as an edit.
+     */
+    private void commitRewardsToAmy(VersionedPersonnelDatabase versionedPersonnelDatabase, int count) {
+        RewardAmyEdit edit = new RewardAmyEdit();
+        for (int i = 0; i < count; i++) {
+            edit.redo(versionedPersonnelDatabase);
+            versionedPersonnelDatabase.commit(edit);
+        }
+    }
+
+    private int getPointsOfAmy(PersonnelDatabase personnelDatabase) {
+        return personnelDatabase.getDutyCalendar().getDutyStorage().getPoints(AMY);
+    }
+
     /**
      * Shifts the {@code versionedPersonnelDatabase#currentStatePointer} by {@code count} to the left of its list.
      */
@@ -308,4 +453,46 @@ public class VersionedPersonnelDatabaseTest {
             versionedPersonnelDatabase.undo();
         }
     }
+
+    /**
+     * A spill holding copies of the states written to it in memory, which can be made unreadable.
+     */
+    private static class HistorySpillStub implements HistorySpill {
+        private final List<PersonnelDatabase> spilledStates = new ArrayList<>();
+        private boolean isReadable = true;
+
+        @Override
+        public long write(ReadOnlyPersonnelDatabase version) {
+            spilledStates.add(new PersonnelDatabase(version));
+            return spilledStates.size() - 1;
+        }
+
+        @Override
+        public PersonnelDatabase read(long position) throws IOException {
+            if (!isReadable) {
+                throw new IOException("Spill is unreadable");
+            }
+            return spilledStates.get((int) position);
+        }
+
+        @Override
+        public void clear() {
+            spilledStates.clear();
+        }
+    }
+
+    /**
+     * An edit rewarding Amy a point.
+     */
+    private static class RewardAmyEdit implements PersonnelDatabaseEdit {
+        @Override
+        public void undo(PersonnelDatabase personnelDatabase) {
+            personnelDatabase.getDutyCalendar().getDutyStorage().takeBack(1);
+        }
+
+        @Override
+        public void redo(PersonnelDatabase personnelDatabase) {
+            personnelDatabase.getDutyCalendar().getDutyStorage().reward(AMY, 1);
+        }
+    }
 }
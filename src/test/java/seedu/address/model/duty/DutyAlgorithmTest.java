@@ -5,15 +5,21 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class DutyAlgorithmTest {
@@ -175,6 +181,456 @@ public class DutyAlgorithmTest {
             }
         }
     }
+    @Test
+    public void scheduleBlockedDaysTest() {
+        for (int day = 1; day <= dutyMonth3.getNumOfDays(); day += 2) {
+            dutyMonth3.addBlockedDay(TypicalPersons.ALICE, day);
+            dutyMonth3.addBlockedDay(TypicalPersons.BENSON, day);
+        }
+        dutyMonth3.schedule(personList, dutySettings, dutyStorage);
+        for (Duty duty : dutyMonth3.getScheduledDuties()) {
+            if (duty.getDayIndex() % 2 == 1) {
+                assertFalse(duty.contains(TypicalPersons.ALICE));
+                assertFalse(duty.contains(TypicalPersons.BENSON));
+            }
+        }
+    }
+
+    @Test
+    public void schedulerStopsAtLimitTest() {
+        for (SchedulerType schedulerType : SchedulerType.values()) {
+            List<Duty> duties = new ArrayList<>();
+            for (int day = 1; day <= 10; day++) {
+                duties.add(new Duty(2019, 2, day, (day + 4) % 7 + 1, 2, 1));
+            }
+            int[] points = new int[personList.size()];
+
+            // Cancelling on the first duty filled stops the pass there, leaving the rest of the duties open
+            ScheduleMonitor monitor = new ScheduleMonitor();
+            List<ScheduleProgress> reports = new ArrayList<>();
+            monitor.addProgressListener(progress -> {
+                reports.add(progress);
+                monitor.cancel();
+            });
+            ScheduleLimit limit = new ScheduleLimit(monitor, Long.MAX_VALUE, true);
+            schedulerType.createScheduler().schedule(duties, new ScheduleIndex(personList, new HashMap<>()), points,
+                    limit);
+            assertTrue(limit.wasReached());
+            assertEquals(1, reports.size());
+            assertEquals(1, reports.get(0).getFilledDuties());
+            assertEquals(10, reports.get(0).getTotalDuties());
+            assertEquals(1, duties.stream().filter(Duty::isFilled).count());
+            assertEquals(duties.stream().mapToInt(duty -> duty.getPersons().size()).sum(),
+                    Arrays.stream(points).sum());
+
+            // A deadline already passed stops the pass before any duty
+            duties.forEach(duty -> duty.getPersons().clear());
+            ScheduleLimit passed = new ScheduleLimit(new ScheduleMonitor(), System.nanoTime() - 1, false);
+            schedulerType.createScheduler().schedule(duties, new ScheduleIndex(personList, new HashMap<>()),
+                    new int[personList.size()], passed);
+            assertTrue(passed.wasReached());
+            assertTrue(duties.stream().allMatch(duty -> duty.getPersons().isEmpty()));
+        }
+    }
+
+    @Test
+    public void scheduleCancelledWithinSingleAttemptTest() {
+        ScheduleMonitor monitor = new ScheduleMonitor();
+        List<ScheduleProgress> reports = new ArrayList<>();
+        monitor.addProgressListener(progress -> {
+            reports.add(progress);
+            monitor.cancel();
+        });
+        Assert.assertThrows(CancellationException.class, () ->
+                dutyMonth3.schedule(personList, dutySettings, dutyStorage, 1234, monitor));
+
+        // The single attempt stopped after its first duty instead of running to the end
+        assertEquals(1, reports.size());
+        assertTrue(dutyMonth3.getScheduledDuties().isEmpty());
+    }
+
+    @Test
+    public void greedySchedulerLargeUnitTest() {
+        int numOfPersons = 2000;
+        List<Person> persons = new ArrayList<>();
+        HashMap<Person, List<Integer>> blockedDays = new HashMap<>();
+        Random random = new Random(42);
+        int[] points = new int[numOfPersons];
+        for (int id = 0; id < numOfPersons; id++) {
+            Person person = new PersonBuilder().withNric(String.format("S%07dA", id)).withName("Person " + id).build();
+            persons.add(person);
+            blockedDays.put(person, new ArrayList<>());
+            for (int day = 1; day <= 31; day++) {
+                if (random.nextInt(100) < 30) {
+                    blockedDays.get(person).add(day);
+                }
+            }
+            points[id] = random.nextInt(5);
+        }
+        List<Duty> duties = new ArrayList<>();
+        for (int day = 1; day <= 31; day++) {
+            duties.add(new Duty(2019, 2, day, (day + 4) % 7 + 1, 3, day % 4 + 1));
+        }
+        int[] expectedPoints = Arrays.copyOf(points, numOfPersons);
+
+        new GreedyScheduler().schedule(duties, new ScheduleIndex(persons, blockedDays), points);
+
+        // Each duty goes to the free persons with the fewest points, the earliest of them on a tie
+        for (Duty duty : duties) {
+            List<Integer> free = new ArrayList<>();
+            for (int id = 0; id < numOfPersons; id++) {
+                if (!blockedDays.get(persons.get(id)).contains(duty.getDayIndex())) {
+                    free.add(id);
+                }
+            }
+            free.sort((id1, id2) -> expectedPoints[id1] != expectedPoints[id2]
+                    ? Integer.compare(expectedPoints[id1], expectedPoints[id2]) : Integer.compare(id1, id2));
+            List<Person> expectedPersons = new ArrayList<>();
+            for (int id : free.subList(0, duty.getCapacity())) {
+                expectedPersons.add(persons.get(id));
+                expectedPoints[id] += duty.getPoints();
+            }
+            assertEquals(new HashSet<>(expectedPersons), new HashSet<>(duty.getPersons()));
+        }
+        assertTrue(Arrays.equals(expectedPoints, points));
+    }
+
+    @Test
+    public void scheduleMultipleAttemptsTest() {
+        dutySettings.setScheduleAttempts(8);
+        dutyMonth4.schedule(personList, dutySettings, dutyStorage);
+        assertEquals(dutyMonth4.getScheduledDuties().size(), dutyMonth4.getNumOfDays());
+        for (int i = 0; i < dutyMonth4.getNumOfDays(); i++) {
+            Duty duty = dutyMonth4.getScheduledDuties().get(i);
+            assertEquals(duty.getDayIndex(), i + 1);
+            assertTrue(duty.getPersons().size() <= duty.getCapacity());
+        }
+    }
+
+    @Test
+    public void scheduleOptimalSchedulerTest() {
+        DutyMonth greedyMonth = new DutyMonth(2019, 3, 1);
+        DutyMonth optimalMonth = new DutyMonth(2019, 3, 1);
+        for (int day = 1; day <= greedyMonth.getNumOfDays(); day++) {
+            for (int i = 0; i < personList.size(); i += 1 + day % 3) {
+                greedyMonth.addBlockedDay(personList.get(i), day);
+                optimalMonth.addBlockedDay(personList.get(i), day);
+            }
+        }
+        greedyMonth.schedule(personList, dutySettings, dutyStorage);
+        dutySettings.setSchedulerType(SchedulerType.OPTIMAL);
+        optimalMonth.schedule(personList, dutySettings, dutyStorage);
+
+        int greedyFilled = 0;
+        for (Duty duty : greedyMonth.getScheduledDuties()) {
+            greedyFilled += duty.getPersons().size();
+        }
+        int optimalFilled = 0;
+        for (Duty duty : optimalMonth.getScheduledDuties()) {
+            List<Integer> personIndices = new ArrayList<>();
+            for (Person person : duty.getPersons()) {
+                assertFalse(optimalMonth.getBlockedDates().get(person).contains(duty.getDayIndex()));
+                personIndices.add(personList.indexOf(person));
+            }
+            assertEquals(new HashSet<>(personIndices).size(), duty.getPersons().size());
+            assertTrue(duty.getPersons().size() <= duty.getCapacity());
+            optimalFilled += duty.getPersons().size();
+        }
+        assertTrue(optimalFilled >= greedyFilled);
+    }
+
+    @Test
+    public void fairnessOptimizerDeadlinePassedTest() {
+        List<Duty> duties = new ArrayList<>();
+        for (int day = 1; day <= DAYS_IN_WEEK; day++) {
+            duties.add(new Duty(2019, 3, day, day, 2, day));
+        }
+        ScheduleIndex index = new ScheduleIndex(personList, new HashMap<>());
+        int[] points = new int[personList.size()];
+        for (Duty duty : duties) {
+            index.assign(0, duty);
+            points[0] += duty.getPoints();
+        }
+
+        // Stopped by the clock before it could finish, so the seed of its schedule would not remake it
+        FairnessOptimizer optimizer = new FairnessOptimizer(duties, index, points);
+        assertEquals(0, optimizer.optimize(System.nanoTime() - 1));
+        assertTrue(optimizer.isCutShort());
+    }
+
+    @Test
+    public void scheduleWithFairnessBudgetReproducibleTest() {
+        dutySettings.setFairnessTimeBudget(10000);
+        dutyMonth3.schedule(personList, dutySettings, dutyStorage, 1234);
+        DutyMonth again = new DutyMonth(dutyMonth3, false);
+        again.schedule(personList, dutySettings, dutyStorage, 1234);
+
+        // The optimizer ends by itself well within its budget, so the same seed makes the same schedule
+        assertFalse(dutyMonth3.isCutShort());
+        assertFalse(again.isCutShort());
+        for (int i = 0; i < dutyMonth3.getNumOfDays(); i++) {
+            assertEquals(new HashSet<>(dutyMonth3.getScheduledDuties().get(i).getPersons()),
+                    new HashSet<>(again.getScheduledDuties().get(i).getPersons()));
+        }
+    }
+
+    @Test
+    public void fairnessOptimizerTest() {
+        // Alice holds every duty of the first week, and has blocked nothing
+        List<Duty> duties = new ArrayList<>();
+        for (int day = 1; day <= DAYS_IN_WEEK; day++) {
+            duties.add(new Duty(2019, 3, day, day, 2, day));
+        }
+        HashMap<Person, List<Integer>> blockedDays = new HashMap<>();
+        for (int i = 1; i < personList.size(); i++) {
+            blockedDays.put(personList.get(i), new ArrayList<>(List.of(i)));
+        }
+        ScheduleIndex index = new ScheduleIndex(personList, blockedDays);
+        int[] points = new int[personList.size()];
+        for (Duty duty : duties) {
+            index.assign(0, duty);
+            points[0] += duty.getPoints();
+        }
+        long before = sumOfSquares(points);
+
+        FairnessOptimizer optimizer = new FairnessOptimizer(duties, index, points);
+        optimizer.optimize(Long.MAX_VALUE);
+
+        assertFalse(optimizer.isCutShort());
+        assertTrue(sumOfSquares(points) < before);
+        int[] expectedPoints = new int[personList.size()];
+        for (Duty duty : duties) {
+            assertEquals(duty.getPersons().size(), 1);
+            for (Person person : duty.getPersons()) {
+                int id = personList.indexOf(person);
+                assertTrue(index.isAssigned(id, duty.getDayIndex()));
+                assertFalse(index.isBlocked(id, duty.getDayIndex()));
+                expectedPoints[id] += duty.getPoints();
+            }
+        }
+        assertTrue(Arrays.equals(expectedPoints, points));
+    }
+
+    @Test
+    public void scheduleFairnessTimeBudgetTest() {
+        dutySettings.setFairnessTimeBudget(100);
+        dutyMonth3.schedule(personList, dutySettings, dutyStorage);
+        for (Duty duty : dutyMonth3.getScheduledDuties()) {
+            assertEquals(new HashSet<>(duty.getPersons()).size(), duty.getPersons().size());
+            assertTrue(duty.getPersons().size() <= duty.getCapacity());
+        }
+    }
+
+    @Test
+    public void schedulePartitionedTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            persons.add(new PersonBuilder().withNric(String.format("S000000%dA", i))
+                    .withCompany(i % 2 == 0 ? "Alpha" : "Bravo").build());
+        }
+        for (int day = 1; day <= dutyMonth3.getNumOfDays(); day++) {
+            dutySettings.setCapacity(dutyMonth3.getMonthIndex(), day, 2);
+        }
+        dutySettings.setPartitionMode(PartitionMode.COMPANY);
+        dutyMonth3.schedule(persons, dutySettings, dutyStorage, 1234);
+
+        // The capacity of each day is shared out between the partitions, so the roster is as large as unpartitioned
+        assertEquals(PartitionMode.COMPANY, dutyMonth3.getPartitionMode());
+        assertEquals(new HashSet<>(Arrays.asList("Alpha", "Bravo")), dutyMonth3.getPartitionNames());
+        assertEquals(dutyMonth3.getScheduledDuties().size(), dutyMonth3.getNumOfDays());
+        for (Duty duty : dutyMonth3.getScheduledDuties()) {
+            assertEquals(2, duty.getCapacity());
+            assertTrue(duty.isFilled());
+            for (String company : Arrays.asList("Alpha", "Bravo")) {
+                assertEquals(1, duty.getPersons().stream()
+                        .filter(person -> person.getCompany().value.equals(company)).count());
+            }
+        }
+        assertEquals(PartitionMode.COMPANY, new DutyMonth(dutyMonth3, true).getPartitionMode());
+        assertEquals(PartitionMode.NONE, new DutyMonth(dutyMonth3, false).getPartitionMode());
+    }
+
+    @Test
+    public void schedulePartitionedUnevenTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            persons.add(new PersonBuilder().withNric(String.format("S000000%dA", i))
+                    .withCompany(i < 6 ? "Alpha" : String.format("Company%d", i)).build());
+        }
+        dutySettings.setPartitionMode(PartitionMode.COMPANY);
+        dutyMonth3.schedule(persons, dutySettings, dutyStorage, 1234);
+
+        // Every day keeps the capacity set for it, and the places follow the size of each company over the month
+        int[] placesByCompany = new int[2];
+        int totalPlaces = 0;
+        int dayOfWeek = dutyMonth3.getFirstDayOfWeekIndex();
+        for (Duty duty : dutyMonth3.getScheduledDuties()) {
+            assertEquals(dutySettings.getCapacity(dutyMonth3.getMonthIndex(), duty.getDayIndex(), dayOfWeek),
+                    duty.getCapacity());
+            for (Person person : duty.getPersons()) {
+                placesByCompany[person.getCompany().value.equals("Alpha") ? 0 : 1]++;
+            }
+            totalPlaces += duty.getCapacity();
+            dayOfWeek = (dayOfWeek == 7) ? 1 : dayOfWeek + 1;
+        }
+        assertTrue(Math.abs(placesByCompany[0] - totalPlaces * 2 / 3) <= 1);
+        assertEquals(totalPlaces, placesByCompany[0] + placesByCompany[1]);
+    }
+
+    @Test
+    public void swapAcrossPartitionsTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            persons.add(new PersonBuilder().withNric(String.format("S000000%dA", i))
+                    .withCompany(i % 2 == 0 ? "Alpha" : "Bravo").build());
+        }
+        for (int day = 1; day <= dutyMonth3.getNumOfDays(); day++) {
+            dutySettings.setCapacity(dutyMonth3.getMonthIndex(), day, 2);
+        }
+        dutySettings.setPartitionMode(PartitionMode.COMPANY);
+        dutyMonth3.schedule(persons, dutySettings, dutyStorage, 1234);
+        dutyMonth3.confirm();
+
+        // Find an Alpha and a Bravo person on different days, neither on the other's day
+        Duty dayOne = dutyMonth3.getScheduledDuties().get(0);
+        Person alpha = dayOne.getPersons().stream().filter(person -> person.getCompany().value.equals("Alpha"))
+                .findFirst().get();
+        Duty dayTwo = null;
+        Person bravo = null;
+        for (Duty duty : dutyMonth3.getScheduledDuties()) {
+            for (Person person : duty.getPersons()) {
+                if (bravo == null && person.getCompany().value.equals("Bravo") && !dayOne.contains(person)
+                        && !duty.contains(alpha)) {
+                    dayTwo = duty;
+                    bravo = person;
+                }
+            }
+        }
+
+        assertFalse(dutyMonth3.isSamePartition(alpha, bravo));
+        assertFalse(dutyMonth3.swap(alpha, bravo, dayOne.getDayIndex(), dayTwo.getDayIndex(), dutyStorage));
+        assertFalse(dutyMonth3.swap(alpha, dayOne, bravo, dayTwo, dutyStorage));
+        assertTrue(dayOne.contains(alpha) && dayTwo.contains(bravo));
+        assertTrue(dutyStorage.getEvents().isEmpty());
+    }
+
+    @Test
+    public void repairPartitionedTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            persons.add(new PersonBuilder().withNric(String.format("S000000%dA", i))
+                    .withCompany(i % 2 == 0 ? "Alpha" : "Bravo").build());
+        }
+        for (int day = 1; day <= dutyMonth3.getNumOfDays(); day++) {
+            dutySettings.setCapacity(dutyMonth3.getMonthIndex(), day, 4);
+        }
+        dutySettings.setPartitionMode(PartitionMode.COMPANY);
+        dutyMonth3.schedule(persons, dutySettings, dutyStorage, 1234);
+
+        // The month is repaired within the partitions it was scheduled with, even once the settings change
+        dutySettings.setPartitionMode(PartitionMode.NONE);
+        Person departed = persons.get(0);
+        List<Person> remaining = new ArrayList<>(persons);
+        remaining.remove(departed);
+        assertFalse(dutyMonth3.repair(departed, remaining, dutySettings, dutyStorage).isEmpty());
+        for (Duty duty : dutyMonth3.getScheduledDuties()) {
+            assertFalse(duty.contains(departed));
+            assertTrue(duty.getPersons().stream().filter(person -> person.getCompany().value.equals("Alpha"))
+                    .count() <= 2);
+            assertEquals(2, duty.getPersons().stream()
+                    .filter(person -> person.getCompany().value.equals("Bravo")).count());
+        }
+    }
+
+    @Test
+    public void repairTest() {
+        for (int day = 1; day <= dutyMonth3.getNumOfDays(); day++) {
+            dutySettings.setCapacity(dutyMonth3.getMonthIndex(), day, 2);
+        }
+        dutyMonth3.schedule(personList, dutySettings, dutyStorage);
+        Person departed = dutyMonth3.getScheduledDuties().get(0).getPersons().get(0);
+        List<List<Person>> before = new ArrayList<>();
+        for (Duty duty : dutyMonth3.getScheduledDuties()) {
+            before.add(new ArrayList<>(duty.getPersons()));
+        }
+
+        List<Person> remaining = new ArrayList<>(personList);
+        remaining.remove(departed);
+        List<Duty> repaired = dutyMonth3.repair(departed, remaining, dutySettings, dutyStorage);
+
+        assertFalse(repaired.isEmpty());
+        for (int i = 0; i < dutyMonth3.getScheduledDuties().size(); i++) {
+            Duty duty = dutyMonth3.getScheduledDuties().get(i);
+            assertFalse(duty.contains(departed));
+            assertEquals(new HashSet<>(duty.getPersons()).size(), duty.getPersons().size());
+            if (repaired.contains(duty)) {
+                assertEquals(before.get(i).size(), duty.getPersons().size());
+                assertTrue(duty.getPersons().containsAll(remainingOf(before.get(i), departed)));
+            } else {
+                assertEquals(before.get(i), duty.getPersons());
+            }
+        }
+        assertTrue(dutyMonth3.repair(departed, remaining, dutySettings, dutyStorage).isEmpty());
+    }
+
+    @Test
+    public void scheduleConstraintsTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            PersonBuilder builder = new PersonBuilder().withNric(String.format("S00000%02dA", i));
+            persons.add(i < 5 ? builder.withTags("Medic").build() : builder.withTags().build());
+        }
+        for (int day = 1; day <= dutyMonth3.getNumOfDays(); day++) {
+            dutySettings.setCapacity(dutyMonth3.getMonthIndex(), day, 2);
+        }
+        dutySettings.setMinRestDays(2);
+        dutySettings.setMaxWeekendDuties(1);
+        dutySettings.setRestrictedDays("Medic", new HashSet<>(Arrays.asList(1, 7)));
+
+        for (SchedulerType schedulerType : SchedulerType.values()) {
+            dutySettings.setSchedulerType(schedulerType);
+            dutySettings.setFairnessTimeBudget(schedulerType == SchedulerType.GREEDY ? 0 : 200);
+            DutyMonth dutyMonth = new DutyMonth(dutyMonth3, false);
+            dutyMonth.schedule(persons, dutySettings, dutyStorage, 1234);
+
+            for (Person person : persons) {
+                int lastDay = -dutyMonth.getNumOfDays();
+                int weekendDuties = 0;
+                for (Duty duty : dutyMonth.getScheduledDuties()) {
+                    if (!duty.contains(person)) {
+                        continue;
+                    }
+                    boolean isWeekend = duty.getDayOfWeekIndex() == 1 || duty.getDayOfWeekIndex() == 7;
+                    assertTrue(duty.getDayIndex() - lastDay > 2);
+                    assertFalse(isWeekend && person.getTags().contains(new Tag("Medic")));
+                    lastDay = duty.getDayIndex();
+                    weekendDuties += isWeekend ? 1 : 0;
+                }
+                assertTrue(weekendDuties <= 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons in {@code persons} other than {@code departed}.
+     */
+    private static List<Person> remainingOf(List<Person> persons, Person departed) {
+        List<Person> remaining = new ArrayList<>(persons);
+        remaining.remove(departed);
+        return remaining;
+    }
+
+    /**
+     * Returns the sum of squared points, which the fairness optimizer lowers.
+     */
+    private static long sumOfSquares(int[] points) {
+        long sum = 0;
+        for (int p : points) {
+            sum += (long) p * p;
+        }
+        return sum;
+    }
+
     @Test
     public void dutyMonthPrintDutiesTest() {
         String expected = "---- Duty Roster for February 2018  ---- \n";
@@ -237,7 +693,217 @@ public class DutyAlgorithmTest {
             assertEquals(before - points, after);
         }
     }
-}
 
+    @Test
+    public void dutyStorageRemoveAndReplaceTest() {
+        for (Person p : personList) {
+            dutyStorage.addPerson(p);
+            dutyStorage.reward(p, personList.indexOf(p) + 1);
+        }
+
+        Person removed = personList.get(0);
+        dutyStorage.removePerson(removed);
+        assertEquals(0, dutyStorage.getPoints(removed));
+        assertFalse(dutyStorage.getDutyPoints().containsKey(removed));
+        for (int i = 1; i < personList.size(); i++) {
+            assertEquals(i + 1, dutyStorage.getPoints(personList.get(i)));
+        }
+
+        Person original = personList.get(1);
+        Person edited = new PersonBuilder(original).withNric("S0000000Z").build();
+        dutyStorage.replacePerson(original, edited);
+        assertEquals(2, dutyStorage.getPoints(edited));
+        assertEquals(0, dutyStorage.getPoints(original));
+        assertEquals(personList.size() - 1, dutyStorage.getDutyPoints().size());
+
+        DutyStorage copy = new DutyStorage(dutyStorage);
+        copy.penalize(edited, 2);
+        assertEquals(0, copy.getPoints(edited));
+        assertEquals(2, dutyStorage.getPoints(edited));
+    }
+
+    @Test
+    public void dutyStorageUndoUpdateKeepsRewardsTest() {
+        Person person = personList.get(0);
+        Duty duty = new Duty(2019, 4, 1, 4, 1, 2);
+        duty.addPerson(person);
+        dutyStorage.addPerson(person);
+
+        dutyStorage.update(Arrays.asList(duty));
+        dutyStorage.reward(person, 5);
+        assertEquals(7, dutyStorage.getPoints(person));
+        assertEquals(person + "\nPoints : 7\nRank : 1 of 1 | Percentile : 0\n--- RECORDS ---\n"
+                + "Duty : 1 May 2019 | Wednesday | 2 points\nReward: 5 points added\n",
+                dutyStorage.printDetails(person));
+        assertEquals(2, dutyStorage.getEvents().size());
+        assertEquals(new DutyEvent(person, 2019, 4, 1, 2, DutyEvent.Kind.DUTY_SERVED),
+                dutyStorage.getEvents().get(0));
+
+        dutyStorage.undoUpdate();
+        assertEquals(5, dutyStorage.getPoints(person));
+        assertEquals(Arrays.asList("Reward: 5 points added"), dutyStorage.getDutyRecords().get(person));
+        assertEquals(0, dutyStorage.getUndoMark());
+    }
+
+    @Test
+    public void dutyStorageTakeBackTest() {
+        Person first = personList.get(0);
+        Person second = personList.get(1);
+        Duty duty = new Duty(2019, 4, 1, 4, 1, 2);
+        duty.addPerson(first);
+        dutyStorage.addPerson(first);
+        dutyStorage.addPerson(second);
+        dutyStorage.update(Arrays.asList(duty));
+        assertTrue(dutyStorage.reward(first, 3));
+        assertTrue(dutyStorage.penalize(second, 1));
+        assertFalse(dutyStorage.reward(personList.get(2), 3));
+        assertTrue(dutyStorage.hasUpdateToUndo());
+
+        // Taking back the last two rows keeps the update, also in a storage read back from its events
+        DutyStorage readBack = new DutyStorage(dutyStorage.getDutyPoints(), dutyStorage.getEvents(),
+                dutyStorage.getUndoMark());
+        dutyStorage.takeBack(2);
+        readBack.takeBack(2);
+        for (DutyStorage storage : Arrays.asList(dutyStorage, readBack)) {
+            assertEquals(2, storage.getPoints(first));
+            assertEquals(0, storage.getPoints(second));
+            assertEquals(1, storage.getEvents().size());
+            assertTrue(storage.hasUpdateToUndo());
+        }
+        dutyStorage.undoUpdate();
+        assertEquals(0, dutyStorage.getPoints(first));
+        assertFalse(dutyStorage.hasUpdateToUndo());
+    }
+
+    @Test
+    public void dutyStorageSwapUndoRedoTest() {
+        Person first = personList.get(0);
+        Person second = personList.get(1);
+        Duty weekday = new Duty(2019, 4, 1, 4, 1, 2);
+        Duty weekend = new Duty(2019, 4, 4, 7, 1, 4);
+        weekday.addPerson(first);
+        weekend.addPerson(second);
+        dutyStorage.update(Arrays.asList(weekday, weekend));
+        dutyStorage.reward(first, 1);
+
+        dutyStorage.swap(first, weekday, second, weekend);
+        assertEquals(5, dutyStorage.getPoints(first));
+        assertEquals(2, dutyStorage.getPoints(second));
+        assertTrue(dutyStorage.printDetails(first).contains("Swap : 4 May 2019 | Saturday | +4 points"));
+        assertEquals(7, dutyStorage.getEvents().size());
+
+        // Undo the swap, the reward and the update, then redo them all
+        assertTrue(dutyStorage.undo());
+        assertEquals(3, dutyStorage.getPoints(first));
+        assertTrue(dutyStorage.undo());
+        assertTrue(dutyStorage.undo());
+        assertFalse(dutyStorage.undo());
+        assertEquals(0, dutyStorage.getPoints(first));
+        assertEquals(0, dutyStorage.getPoints(second));
+        assertTrue(dutyStorage.getEvents().isEmpty());
 
+        while (dutyStorage.redo()) {
+            // Redo every operation undone
+        }
+        assertEquals(5, dutyStorage.getPoints(first));
+        assertEquals(2, dutyStorage.getPoints(second));
+        assertEquals(7, dutyStorage.getEvents().size());
+
+        // Undoing the update drops the swap but keeps the reward, which can still be undone by itself
+        dutyStorage.undoUpdate();
+        assertEquals(1, dutyStorage.getPoints(first));
+        assertEquals(0, dutyStorage.getPoints(second));
+        assertEquals(1, dutyStorage.getEvents().size());
+        assertFalse(dutyStorage.canRedo());
+        assertTrue(dutyStorage.undo());
+        assertEquals(0, dutyStorage.getPoints(first));
+    }
+
+    @Test
+    public void dutyStorageUndoBoundedAndSharedTest() {
+        Person first = personList.get(0);
+        dutyStorage.addPerson(first);
+        for (int i = 0; i < 120; i++) {
+            dutyStorage.reward(first, 1);
+        }
+
+        // Copies share the operations done, and undoing in one leaves the other alone
+        DutyStorage copy = new DutyStorage(dutyStorage);
+        long lastOperationId = dutyStorage.getLastOperationId();
+        assertEquals(lastOperationId, copy.getLastOperationId());
+        assertFalse(copy.undo(lastOperationId + 1));
+        assertTrue(copy.undo(lastOperationId));
+        assertEquals(120, dutyStorage.getPoints(first));
+        assertEquals(119, copy.getPoints(first));
+        assertTrue(copy.redo(lastOperationId));
+        assertEquals(lastOperationId, copy.getLastOperationId());
+
+        // Only the last fifty operations can be undone
+        int undone = 0;
+        while (copy.undo()) {
+            undone++;
+        }
+        assertEquals(50, undone);
+        assertEquals(70, copy.getPoints(first));
+        assertEquals(120, dutyStorage.getPoints(first));
+        assertEquals(DutyStorage.NO_OPERATION, copy.getLastOperationId());
+
+        // Operations done after the dropped ones can be undone again
+        copy.reward(first, 5);
+        assertTrue(copy.undo());
+        assertEquals(70, copy.getPoints(first));
+    }
 
+    @Test
+    public void swapPersonAlreadyOnDutyTest() {
+        Person first = personList.get(0);
+        Person second = personList.get(1);
+        DutyMonth dutyMonth = new DutyMonth(2019, 4, 2);
+        dutyMonth.schedule(Arrays.asList(first, second), new DutySettings(), dutyStorage);
+        dutyMonth.confirm();
+        dutyStorage.update(dutyMonth.getScheduledDuties());
+        Duty dayOne = dutyMonth.getScheduledDuties().get(0);
+        Duty dayTwo = dutyMonth.getScheduledDuties().get(1);
+        int firstPoints = dutyStorage.getPoints(first);
+        int secondPoints = dutyStorage.getPoints(second);
+        int numOfEvents = dutyStorage.getEvents().size();
+
+        // Both persons are on both days, so neither can take over the other's duty
+        assertTrue(dayOne.contains(first) && dayOne.contains(second));
+        assertFalse(dutyMonth.swap(first, second, 1, 2, dutyStorage));
+        assertFalse(dutyMonth.swap(first, dayOne, second, dayTwo, dutyStorage));
+        assertEquals(firstPoints, dutyStorage.getPoints(first));
+        assertEquals(secondPoints, dutyStorage.getPoints(second));
+        assertEquals(numOfEvents, dutyStorage.getEvents().size());
+        assertTrue(dayOne.contains(first) && dayTwo.contains(second));
+    }
+
+    @Test
+    public void dutyStorageLeaderboardTest() {
+        for (int i = 0; i < personList.size(); i++) {
+            dutyStorage.addPerson(personList.get(i));
+            dutyStorage.reward(personList.get(i), i / 2);
+        }
+        Person most = personList.get(personList.size() - 1);
+        Person least = personList.get(0);
+
+        assertEquals(most, dutyStorage.getTopPoints(1).get(0));
+        assertEquals(1, dutyStorage.getRank(most));
+        assertEquals(dutyStorage.getRank(personList.get(0)), dutyStorage.getRank(personList.get(1)));
+        assertEquals(Arrays.asList(personList.get(0), personList.get(1)), dutyStorage.getPersonsUnder(1));
+        assertEquals(0, dutyStorage.getPercentile(least));
+        assertEquals(personList.size(), dutyStorage.getPersonsFromPercentile(0).size());
+        assertTrue(dutyStorage.getPersonsFromPercentile(100).contains(most));
+
+        dutyStorage.penalize(most, 100);
+        assertEquals(personList.size(), dutyStorage.getRank(most));
+        assertEquals(most, dutyStorage.getPersonsUnder(0).get(0));
+        dutyStorage.takeBack(1);
+        assertEquals(1, dutyStorage.getRank(most));
+
+        dutyStorage.removePerson(most);
+        assertEquals(0, dutyStorage.getRank(most));
+        assertEquals(personList.size() - 1, dutyStorage.getTopPoints(personList.size()).size());
+        assertTrue(dutyStorage.printTopPoints(1).startsWith("--- TOP 1 BY POINTS ----\n1. "));
+    }
+}
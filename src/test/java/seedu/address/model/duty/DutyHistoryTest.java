@@ -0,0 +1,114 @@
+package seedu.address.model.duty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class DutyHistoryTest {
+
+    @Test
+    public void archive_monthsOverYears_sumsLastMonths() {
+        DutyHistory dutyHistory = new DutyHistory();
+        for (int year = 2015; year < 2020; year++) {
+            for (int monthIndex = 0; monthIndex < 12; monthIndex++) {
+                dutyHistory.archive(confirmedMonth(year, monthIndex, duty(year, monthIndex, 1, 2, ALICE, BENSON),
+                        duty(year, monthIndex, 2, 3, ALICE)));
+            }
+        }
+
+        assertEquals(24, dutyHistory.getDutiesServed(ALICE, 2019, 11, 12));
+        assertEquals(60, dutyHistory.getPointsEarned(ALICE, 2019, 11, 12));
+        assertEquals(24, dutyHistory.getPointsEarned(BENSON, 2019, 11, 12));
+        assertEquals(4, dutyHistory.getDutiesServed(ALICE, 2015, 1, 12));
+        assertEquals(0, dutyHistory.getDutiesServed(ALICE, 2021, 0, 12));
+        assertEquals(0, dutyHistory.getDutiesServed(new PersonBuilder().withNric("S1234567Z").build(),
+                2019, 11, 12));
+        assertTrue(dutyHistory.isArchived(2017, 6));
+        assertFalse(dutyHistory.isArchived(2020, 0));
+    }
+
+    @Test
+    public void archive_sameMonthAgain_replacesMonth() {
+        DutyHistory dutyHistory = new DutyHistory();
+        dutyHistory.archive(confirmedMonth(2019, 3, duty(2019, 3, 1, 2, ALICE)));
+        dutyHistory.archive(confirmedMonth(2019, 3, duty(2019, 3, 1, 5, BENSON)));
+
+        assertEquals(0, dutyHistory.getPointsEarned(ALICE, 2019, 3, 1));
+        assertEquals(5, dutyHistory.getPointsEarned(BENSON, 2019, 3, 1));
+        assertEquals(1, dutyHistory.getArchivedMonths().size());
+    }
+
+    @Test
+    public void replacePerson_newNric_keepsHistory() {
+        DutyHistory dutyHistory = new DutyHistory();
+        dutyHistory.archive(confirmedMonth(2019, 3, duty(2019, 3, 1, 2, ALICE)));
+        DutyHistory copy = new DutyHistory(dutyHistory);
+        Person editedAlice = new PersonBuilder(ALICE).withNric("S7654321A").build();
+        dutyHistory.replacePerson(ALICE, editedAlice);
+
+        assertEquals(2, dutyHistory.getPointsEarned(editedAlice, 2019, 3, 1));
+        assertEquals(0, dutyHistory.getPointsEarned(ALICE, 2019, 3, 1));
+        assertEquals(2, copy.getPointsEarned(ALICE, 2019, 3, 1));
+    }
+
+    @Test
+    public void replacePerson_nricWithHistory_mergesHistories() {
+        DutyHistory dutyHistory = new DutyHistory();
+        dutyHistory.archive(confirmedMonth(2019, 3, duty(2019, 3, 1, 2, ALICE), duty(2019, 3, 2, 3, BENSON)));
+        DutyHistory copy = new DutyHistory(dutyHistory);
+        Person editedAlice = new PersonBuilder(ALICE).withNric(BENSON.getNric().toString()).build();
+        dutyHistory.replacePerson(ALICE, editedAlice);
+
+        assertEquals(5, dutyHistory.getPointsEarned(editedAlice, 2019, 3, 1));
+        assertEquals(0, dutyHistory.getPointsEarned(ALICE, 2019, 3, 1));
+        assertEquals(2, copy.getPointsEarned(ALICE, 2019, 3, 1));
+
+        // The merged history reads back the same
+        DutyHistory readBack = new DutyHistory(dutyHistory.getNrics(), dutyHistory.getArchivedMonths());
+        assertEquals(dutyHistory, readBack);
+        assertEquals(5, readBack.getPointsEarned(editedAlice, 2019, 3, 1));
+        assertEquals(0, readBack.getPointsEarned(ALICE, 2019, 3, 1));
+    }
+
+    @Test
+    public void constructor_savedHistory_returnsSameHistory() {
+        DutyHistory dutyHistory = new DutyHistory();
+        dutyHistory.archive(confirmedMonth(2019, 3, duty(2019, 3, 1, 2, ALICE, BENSON)));
+
+        assertEquals(dutyHistory, new DutyHistory(dutyHistory.getNrics(), dutyHistory.getArchivedMonths()));
+        ArchivedDutyMonth unknownPerson = new ArchivedDutyMonth(2019, 3, new int[] {1}, new int[] {2},
+                new int[] {1}, new int[] {1});
+        Assert.assertThrows(IllegalArgumentException.class, () -> new DutyHistory(
+                Collections.singletonList(ALICE.getNric().toString()), Collections.singletonList(unknownPerson)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ArchivedDutyMonth(2019, 3, new int[] {1},
+                new int[] {2}, new int[] {2}, new int[] {0}));
+    }
+
+    /**
+     * Returns a duty worth {@code points} held by {@code persons}.
+     */
+    private static Duty duty(int year, int monthIndex, int dayIndex, int points, Person... persons) {
+        Duty duty = new Duty(year, monthIndex, dayIndex, 1, persons.length, points);
+        for (Person person : persons) {
+            duty.addPerson(person);
+        }
+        return duty;
+    }
+
+    private static DutyMonth confirmedMonth(int year, int monthIndex, Duty... duties) {
+        return new DutyMonth(true, false, year, monthIndex, 1, Arrays.asList(duties), new HashMap<>(), 0,
+                PartitionMode.NONE);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.duty;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class DutyLedgerTest {
+
+    private static final int DATE = DutyLedger.toDate(2019, 3, 1);
+
+    @Test
+    public void append_bothCopies_keepOwnRows() {
+        DutyLedger ledger = ledgerOf(1, 2, 3);
+        DutyLedger copy = new DutyLedger(ledger);
+
+        ledger.append(0, DATE, 4, DutyEvent.Kind.REWARD);
+        copy.append(0, DATE, 5, DutyEvent.Kind.PENALTY);
+
+        assertEquals(4, ledger.size());
+        assertEquals(4, ledger.getPoints(3));
+        assertEquals(DutyEvent.Kind.REWARD, ledger.getKind(3));
+        assertEquals(4, copy.size());
+        assertEquals(5, copy.getPoints(3));
+        assertEquals(DutyEvent.Kind.PENALTY, copy.getKind(3));
+    }
+
+    @Test
+    public void append_pastCapacity_copyUnchanged() {
+        DutyLedger ledger = new DutyLedger();
+        DutyLedger copy = new DutyLedger(ledger);
+        for (int i = 0; i < 200; i++) {
+            ledger.append(i, DATE, i, DutyEvent.Kind.REWARD);
+        }
+
+        assertEquals(200, ledger.size());
+        assertEquals(199, ledger.getPoints(199));
+        assertEquals(0, copy.size());
+    }
+
+    @Test
+    public void moveAndTruncate_afterCopy_copyUnchanged() {
+        DutyLedger ledger = ledgerOf(1, 2, 3);
+        DutyLedger copy = new DutyLedger(ledger);
+
+        ledger.move(2, 0);
+        ledger.truncate(1);
+        ledger.append(0, DATE, 7, DutyEvent.Kind.REWARD);
+
+        assertEquals(2, ledger.size());
+        assertEquals(3, ledger.getPoints(0));
+        assertEquals(7, ledger.getPoints(1));
+        assertEquals(3, copy.size());
+        assertEquals(1, copy.getPoints(0));
+        assertEquals(2, copy.getPoints(1));
+        assertEquals(3, copy.getPoints(2));
+    }
+
+    @Test
+    public void truncate_unshared_appendsInPlace() {
+        DutyLedger ledger = ledgerOf(1, 2, 3);
+        ledger.truncate(1);
+        ledger.append(0, DATE, 9, DutyEvent.Kind.REWARD);
+
+        assertEquals(2, ledger.size());
+        assertEquals(1, ledger.getPoints(0));
+        assertEquals(9, ledger.getPoints(1));
+    }
+
+    /**
+     * Returns a ledger of rewards of {@code points}, in order.
+     */
+    private static DutyLedger ledgerOf(int... points) {
+        DutyLedger ledger = new DutyLedger();
+        for (int point : points) {
+            ledger.append(0, DATE, point, DutyEvent.Kind.REWARD);
+        }
+        return ledger;
+    }
+}
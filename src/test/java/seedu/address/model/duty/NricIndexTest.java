@@ -0,0 +1,61 @@
+package seedu.address.model.duty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.Test;
+
+public class NricIndexTest {
+
+    private static final int NUM_OF_NRICS = 1000;
+
+    @Test
+    public void putAndGet() {
+        NricIndex index = new NricIndex();
+        for (int i = 0; i < NUM_OF_NRICS; i++) {
+            index.put(nric(i), i);
+        }
+        assertEquals(NUM_OF_NRICS, index.size());
+        for (int i = 0; i < NUM_OF_NRICS; i++) {
+            assertEquals(i, index.get(nric(i)));
+        }
+        assertEquals(NricIndex.NOT_FOUND, index.get("S9999999Z"));
+
+        index.put(nric(0), 42);
+        assertEquals(42, index.get(nric(0)));
+        assertEquals(NUM_OF_NRICS, index.size());
+    }
+
+    @Test
+    public void remove_keepsOtherEntries() {
+        NricIndex index = new NricIndex();
+        for (int i = 0; i < NUM_OF_NRICS; i++) {
+            index.put(nric(i), i);
+        }
+        for (int i = 0; i < NUM_OF_NRICS; i += 2) {
+            index.remove(nric(i));
+        }
+        index.remove("S9999999Z");
+
+        assertEquals(NUM_OF_NRICS / 2, index.size());
+        for (int i = 0; i < NUM_OF_NRICS; i++) {
+            assertEquals(i % 2 == 0 ? NricIndex.NOT_FOUND : i, index.get(nric(i)));
+        }
+    }
+
+    @Test
+    public void copy_isIndependent() {
+        NricIndex index = new NricIndex();
+        index.put(nric(1), 1);
+        NricIndex copy = new NricIndex(index);
+        copy.remove(nric(1));
+        copy.put(nric(2), 2);
+
+        assertEquals(1, index.get(nric(1)));
+        assertEquals(NricIndex.NOT_FOUND, index.get(nric(2)));
+        assertEquals(NricIndex.NOT_FOUND, copy.get(nric(1)));
+    }
+
+    private static String nric(int i) {
+        return String.format("S%07dA", i);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.duty;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class PointsIndexTest {
+
+    private static final int NUM_OF_PERSONS = 200;
+    private static final int NUM_OF_CHANGES = 2000;
+    private static final int POINTS_RANGE = 40;
+
+    @Test
+    public void queries_matchSortedPoints() {
+        Random random = new Random(7);
+        PointsIndex index = new PointsIndex();
+        int[] points = new int[NUM_OF_PERSONS];
+        boolean[] isPresent = new boolean[NUM_OF_PERSONS];
+
+        for (int change = 0; change < NUM_OF_CHANGES; change++) {
+            int id = random.nextInt(NUM_OF_PERSONS);
+            if (random.nextInt(10) == 0) {
+                index.remove(id);
+                isPresent[id] = false;
+            } else {
+                points[id] = random.nextInt(POINTS_RANGE) - POINTS_RANGE / 4;
+                index.set(id, points[id]);
+                isPresent[id] = true;
+            }
+        }
+
+        // Ids of the persons in the index, most points first with ties by larger id first
+        Integer[] sorted = IntStream.range(0, NUM_OF_PERSONS).filter(id -> isPresent[id]).boxed()
+                .sorted((a, b) -> points[a] != points[b] ? points[b] - points[a] : b - a)
+                .toArray(Integer[]::new);
+        assertEquals(sorted.length, index.size());
+        assertArrayEquals(Arrays.stream(sorted).limit(20).mapToInt(Integer::intValue).toArray(), index.getTop(20));
+
+        for (int threshold = -POINTS_RANGE; threshold <= POINTS_RANGE; threshold++) {
+            int limit = threshold;
+            assertEquals(Arrays.stream(sorted).filter(id -> points[id] < limit).count(), index.countBelow(threshold));
+            assertEquals(Arrays.stream(sorted).filter(id -> points[id] > limit).count(), index.countAbove(threshold));
+            assertEquals(index.countBelow(threshold), index.getBelow(threshold).length);
+        }
+        for (int k = 0; k < sorted.length; k++) {
+            assertEquals(points[sorted[sorted.length - 1 - k]], index.getPointsAt(k));
+        }
+    }
+}
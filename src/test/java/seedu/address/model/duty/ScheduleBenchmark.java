@@ -0,0 +1,85 @@
+package seedu.address.model.duty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times scheduling on a large unit where every person has blocked some days of the month, both for the whole of
+ * {@link DutyMonth#schedule} and for the {@link GreedyScheduler} pass alone.
+ * This is not run with the tests. Run it from the test classpath with
+ * {@code java seedu.address.model.duty.ScheduleBenchmark [persons] [percentage of days blocked] [manpower]}.
+ */
+public class ScheduleBenchmark {
+
+    private static final int DEFAULT_NUM_OF_PERSONS = 10000;
+    private static final int DEFAULT_BLOCKED_PERCENTAGE = 30;
+    private static final int DEFAULT_CAPACITY = 3;
+    private static final int WARMUP_RUNS = 10;
+    private static final int TIMED_RUNS = 21;
+    private static final long BLOCKED_DAYS_SEED = 42;
+
+    /**
+     * Runs the benchmark and prints the median and fastest times.
+     */
+    public static void main(String[] args) {
+        int numOfPersons = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUM_OF_PERSONS;
+        int blockedPercentage = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BLOCKED_PERCENTAGE;
+        int capacity = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CAPACITY;
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < numOfPersons; i++) {
+            persons.add(new PersonBuilder().withNric(String.format("S%07dA", i)).withName("Person " + i).build());
+        }
+        DutyMonth template = new DutyMonth(2019, 2, 2);
+        Random random = new Random(BLOCKED_DAYS_SEED);
+        for (Person person : persons) {
+            for (int day = 1; day <= template.getNumOfDays(); day++) {
+                if (random.nextInt(100) < blockedPercentage) {
+                    template.addBlockedDay(person, day);
+                }
+            }
+        }
+        DutySettings dutySettings = new DutySettings();
+        for (int day = 1; day <= template.getNumOfDays(); day++) {
+            dutySettings.setCapacity(template.getMonthIndex(), day, capacity);
+        }
+
+        long[] scheduleTimes = new long[TIMED_RUNS];
+        long[] schedulerTimes = new long[TIMED_RUNS];
+        for (int run = 0; run < WARMUP_RUNS + TIMED_RUNS; run++) {
+            DutyMonth dutyMonth = new DutyMonth(template, true);
+            long start = System.nanoTime();
+            dutyMonth.schedule(persons, dutySettings, new DutyStorage());
+            long scheduleTime = System.nanoTime() - start;
+
+            ScheduleIndex index = new ScheduleIndex(persons, template.getBlockedDates());
+            List<Duty> duties = new ArrayList<>();
+            for (int day = 1; day <= template.getNumOfDays(); day++) {
+                duties.add(new Duty(2019, 2, day, (day + 1) % 7 + 1, capacity, 1));
+            }
+            start = System.nanoTime();
+            new GreedyScheduler().schedule(duties, index, new int[numOfPersons]);
+            long schedulerTime = System.nanoTime() - start;
+
+            if (run >= WARMUP_RUNS) {
+                scheduleTimes[run - WARMUP_RUNS] = scheduleTime;
+                schedulerTimes[run - WARMUP_RUNS] = schedulerTime;
+            }
+        }
+
+        System.out.println(String.format("%d persons, %d%% of days blocked, manpower %d",
+                numOfPersons, blockedPercentage, capacity));
+        System.out.println("schedule:    " + printTimes(scheduleTimes));
+        System.out.println("greedy pass: " + printTimes(schedulerTimes));
+    }
+
+    private static String printTimes(long[] times) {
+        Arrays.sort(times);
+        return String.format("median %.3f ms, min %.3f ms", times[times.length / 2] / 1e6, times[0] / 1e6);
+    }
+}
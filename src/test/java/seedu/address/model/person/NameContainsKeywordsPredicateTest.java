@@ -55,6 +55,14 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("ali*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keyword with a typo
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alcie~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
     @Test
@@ -67,6 +75,10 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
 
+        // Prefix and typo keywords too far from the name
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("lice*", "Alcei~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
         // Keywords match company, rank and phone, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Älpha", "PTE", "123456"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("123456")
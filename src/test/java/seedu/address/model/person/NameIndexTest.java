@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private static final Person TAN_AH_KOW = new PersonBuilder().withNric("S1111111A").withName("Tan Ah Kow").build();
+    private static final Person TANG_WEI = new PersonBuilder().withNric("S2222222B").withName("Tang Wei").build();
+    private static final Person JOHN_LIM = new PersonBuilder().withNric("S3333333C").withName("John Lim").build();
+
+    @Test
+    public void find_keywords_matchesWholeWordsPrefixesAndTypos() {
+        NameIndex index = new NameIndex();
+        index.add(TAN_AH_KOW);
+        index.add(TANG_WEI);
+        index.add(JOHN_LIM);
+
+        assertEquals(Collections.singleton(TAN_AH_KOW), index.find(Collections.singletonList("TAN")));
+        assertEquals(new HashSet<>(Arrays.asList(TAN_AH_KOW, TANG_WEI)), index.find(Collections.singletonList("tan*")));
+        assertEquals(Collections.singleton(JOHN_LIM), index.find(Collections.singletonList("jonh~")));
+        assertEquals(Collections.singleton(JOHN_LIM), index.find(Collections.singletonList("jon~")));
+        assertEquals(Collections.emptySet(), index.find(Collections.singletonList("jonh")));
+        assertEquals(Collections.emptySet(), index.find(Arrays.asList("*", "~", "lima*")));
+    }
+
+    @Test
+    public void find_afterRemoveAndCopy_followsPersons() {
+        NameIndex index = new NameIndex();
+        index.add(TAN_AH_KOW);
+        index.add(TANG_WEI);
+        assertEquals(Collections.singleton(TANG_WEI), index.find(Collections.singletonList("tamg~")));
+
+        NameIndex copy = new NameIndex(index);
+        index.remove(TANG_WEI);
+        assertEquals(Collections.emptySet(), index.find(Collections.singletonList("tamg~")));
+        assertEquals(Collections.singleton(TAN_AH_KOW), index.find(Collections.singletonList("tan*")));
+        assertEquals(Collections.singleton(TANG_WEI), copy.find(Collections.singletonList("tamg~")));
+    }
+
+    @Test
+    public void isWithinOneEdit() {
+        assertTrue(NameIndex.isWithinOneEdit("meier", "meier"));
+        assertTrue(NameIndex.isWithinOneEdit("meier", "meyer"));
+        assertTrue(NameIndex.isWithinOneEdit("meier", "meir"));
+        assertTrue(NameIndex.isWithinOneEdit("meier", "meiers"));
+        assertTrue(NameIndex.isWithinOneEdit("meier", "meire"));
+        assertFalse(NameIndex.isWithinOneEdit("meier", "mei"));
+        assertFalse(NameIndex.isWithinOneEdit("meier", "eimer"));
+        assertFalse(NameIndex.isWithinOneEdit("abx", "xab"));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -11,14 +12,18 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -51,6 +56,46 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findByNric_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsNric(ALICE.getNric().value));
+        assertEquals(ALICE, uniquePersonList.findByNric(ALICE.getNric().value));
+        assertEquals(null, uniquePersonList.findByNric(BOB.getNric().value));
+    }
+
+    @Test
+    public void findByNric_afterEditAndRemove_followsList() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withNric(VALID_NRIC_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.containsNric(ALICE.getNric().value));
+        assertEquals(editedAlice, uniquePersonList.findByNric(VALID_NRIC_BOB));
+
+        uniquePersonList.remove(editedAlice);
+        assertFalse(uniquePersonList.containsNric(VALID_NRIC_BOB));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertEquals(ALICE, uniquePersonList.findByNric(ALICE.getNric().value));
+    }
+
+    @Test
+    public void filter_afterEdit_followsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        PersonFilter husbands = new PersonFilter(null, null, null,
+                Collections.singleton(new Tag(VALID_TAG_HUSBAND)));
+        assertEquals(Collections.singleton(BOB), uniquePersonList.filter(husbands));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(new HashSet<>(Arrays.asList(editedAlice, BOB)), uniquePersonList.filter(husbands));
+        assertEquals(Collections.singleton(editedAlice), uniquePersonList.filter(new PersonFilter(
+                ALICE.getCompany(), ALICE.getSection(), null, Collections.singleton(new Tag(VALID_TAG_HUSBAND)))));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Collections.singleton(editedAlice), uniquePersonList.filter(husbands));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +222,35 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsOwnList() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceNric = new PersonBuilder(BOB).withNric(ALICE.getNric().value).build();
+        try {
+            uniquePersonList.setPersons(Arrays.asList(BOB, ALICE, bobWithAliceNric));
+        } catch (DuplicatePersonException e) {
+            UniquePersonList expectedUniquePersonList = new UniquePersonList();
+            expectedUniquePersonList.add(ALICE);
+            assertEquals(expectedUniquePersonList, uniquePersonList);
+            assertEquals(ALICE, uniquePersonList.findByNric(ALICE.getNric().value));
+            return;
+        }
+        fail("Expected DuplicatePersonException");
+    }
+
+    @Test
+    public void setPersons_list_firesSingleChange() {
+        uniquePersonList.add(ALICE);
+        int[] changes = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes[0]++;
+            }
+        });
+        uniquePersonList.setPersons(Arrays.asList(BOB, ALICE));
+        assertEquals(1, changes[0]);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.duty.Duty;
+import seedu.address.model.duty.DutyEvent;
+import seedu.address.model.duty.DutyStorage;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Assert;
+
+public class JsonAdaptedDutyStorageTest {
+
+    private static final ObservableList<Person> PERSON_LIST = FXCollections.observableArrayList(ALICE, BENSON);
+
+    @Test
+    public void toModelType_savedStorage_returnsSameStorage() throws Exception {
+        DutyStorage dutyStorage = new DutyStorage();
+        dutyStorage.addPerson(ALICE);
+        dutyStorage.addPerson(BENSON);
+        Duty duty = new Duty(2019, 4, 1, 4, 2, 2);
+        duty.addPerson(ALICE);
+        duty.addPerson(BENSON);
+        dutyStorage.update(Arrays.asList(duty));
+        dutyStorage.penalize(BENSON, 1);
+
+        DutyStorage loaded = new JsonAdaptedDutyStorage(dutyStorage).toModelType(PERSON_LIST);
+        assertEquals(dutyStorage.getDutyPoints(), loaded.getDutyPoints());
+        assertEquals(dutyStorage.getEvents(), loaded.getEvents());
+        assertEquals(dutyStorage.getUndoMark(), loaded.getUndoMark());
+    }
+
+    @Test
+    public void toModelType_legacyRecords_readsEvents() throws Exception {
+        JsonAdaptedDutyStoragePerson alice = new JsonAdaptedDutyStoragePerson(ALICE.getNric().toString(), 9,
+                Arrays.asList("Duty : 1 May 2019 | Wednesday | 2 points\n", "Reward: 4 points added",
+                        "Duty : 2 June 2019 | Sunday | 3 points\n"),
+                Arrays.asList("Duty : 1 May 2019 | Wednesday | 2 points\n", "Reward: 4 points added"));
+        JsonAdaptedDutyStorage adapted = new JsonAdaptedDutyStorage(Collections.singletonList(alice), null, 0);
+
+        DutyStorage loaded = adapted.toModelType(PERSON_LIST);
+        assertEquals(9, loaded.getPoints(ALICE));
+        assertEquals(3, loaded.getEvents().size());
+        assertEquals(new DutyEvent(ALICE, 2019, 5, 2, 3, DutyEvent.Kind.DUTY_SERVED), loaded.getEvents().get(2));
+        assertEquals(2, loaded.getUndoMark());
+
+        loaded.undoUpdate();
+        assertEquals(6, loaded.getPoints(ALICE));
+    }
+
+    @Test
+    public void toModelType_invalidKind_throwsIllegalValueException() {
+        JsonAdaptedDutyEvent event = new JsonAdaptedDutyEvent(ALICE.getNric().toString(), 2019, 4, 1, 2, "BONUS");
+        JsonAdaptedDutyStorage adapted = new JsonAdaptedDutyStorage(Collections.emptyList(),
+                Collections.singletonList(event), 0);
+        Assert.assertThrows(IllegalValueException.class, () -> adapted.toModelType(PERSON_LIST));
+    }
+}
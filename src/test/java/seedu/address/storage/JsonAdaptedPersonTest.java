@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,6 +17,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Company;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.testutil.Assert;
 
@@ -46,6 +49,23 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_equalFieldsReadSeparately_fieldsShared() throws Exception {
+        // Jackson reads every field of every person into a string of its own
+        Person first = new JsonAdaptedPerson(VALID_NRIC, new String(VALID_COMPANY), new String(VALID_SECTION),
+                new String(VALID_RANK), VALID_NAME, VALID_PHONE,
+                Collections.singletonList(new JsonAdaptedTag(new String("injured"))), VALID_PASSWORD,
+                UserType.GENERAL).toModelType();
+        Person second = new JsonAdaptedPerson("S1234567D", new String(VALID_COMPANY), new String(VALID_SECTION),
+                new String(VALID_RANK), VALID_NAME, VALID_PHONE,
+                Collections.singletonList(new JsonAdaptedTag(new String("injured"))), VALID_PASSWORD,
+                UserType.GENERAL).toModelType();
+        assertSame(first.getCompany(), second.getCompany());
+        assertSame(first.getSection(), second.getSection());
+        assertSame(first.getRank(), second.getRank());
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
     @Test
     public void toModelType_invalidNric_throwsIllegalValueException() {
         JsonAdaptedPerson person =
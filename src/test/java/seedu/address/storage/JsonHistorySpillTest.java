@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabase;
+
+import org.junit.Test;
+
+import seedu.address.model.PersonnelDatabase;
+
+public class JsonHistorySpillTest {
+
+    @Test
+    public void read_versionsWritten_sameVersions() throws Exception {
+        JsonHistorySpill historySpill = new JsonHistorySpill();
+        PersonnelDatabase original = getTypicalPersonnelDatabase();
+        PersonnelDatabase changed = new PersonnelDatabase(original);
+        changed.removePerson(ALICE);
+        changed.getDutyCalendar().getNextMonth().confirm();
+
+        long originalPosition = historySpill.write(original);
+        long changedPosition = historySpill.write(changed);
+
+        PersonnelDatabase readChanged = historySpill.read(changedPosition);
+        assertEquals(changed, readChanged);
+        assertTrue(readChanged.getDutyCalendar().getNextMonth().isConfirmed());
+        assertEquals(original, historySpill.read(originalPosition));
+    }
+
+    @Test
+    public void write_afterClear_startsOver() throws Exception {
+        JsonHistorySpill historySpill = new JsonHistorySpill();
+        historySpill.write(getTypicalPersonnelDatabase());
+        historySpill.clear();
+
+        PersonnelDatabase empty = new PersonnelDatabase();
+        assertEquals(0, historySpill.write(empty));
+        assertEquals(empty, historySpill.read(0));
+    }
+
+    @Test
+    public void write_afterClose_startsNewFile() throws Exception {
+        JsonHistorySpill historySpill = new JsonHistorySpill();
+        historySpill.close();
+        historySpill.write(getTypicalPersonnelDatabase());
+        historySpill.close();
+
+        PersonnelDatabase empty = new PersonnelDatabase();
+        assertEquals(0, historySpill.write(empty));
+        assertEquals(empty, historySpill.read(0));
+        historySpill.close();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabase;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.duty.DutyEvent;
+import seedu.address.model.edit.AddPersonEdit;
+import seedu.address.model.edit.AdjustPointsEdit;
+
+public class JsonPersonnelDatabaseJournalTest {
+
+    private static final long CHECKSUM = 42;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void replay_editsAppended_editsMadeAgain() throws Exception {
+        Path filePath = getJournalFilePath();
+        JsonPersonnelDatabaseJournal journal = new JsonPersonnelDatabaseJournal(filePath);
+        journal.start(CHECKSUM);
+        assertTrue(journal.append(Arrays.asList(new AddPersonEdit(HOON), new AddPersonEdit(IDA))));
+
+        PersonnelDatabase expected = getTypicalPersonnelDatabase();
+        expected.addPerson(HOON);
+        expected.addPerson(IDA);
+        PersonnelDatabase replayed = getTypicalPersonnelDatabase();
+        JsonPersonnelDatabaseJournal reopened = new JsonPersonnelDatabaseJournal(filePath);
+        reopened.replay(replayed, CHECKSUM);
+        assertEquals(expected, replayed);
+        assertTrue(reopened.hasEdits());
+    }
+
+    @Test
+    public void replay_pointsAdjusted_pointsGivenOnOriginalDate() throws Exception {
+        Path filePath = getJournalFilePath();
+        JsonPersonnelDatabaseJournal journal = new JsonPersonnelDatabaseJournal(filePath);
+        journal.start(CHECKSUM);
+        journal.append(Arrays.asList(new AddPersonEdit(HOON), new AdjustPointsEdit(Collections.singletonList(HOON),
+                5, DutyEvent.Kind.REWARD, LocalDate.of(2019, 5, 1))));
+
+        PersonnelDatabase replayed = getTypicalPersonnelDatabase();
+        new JsonPersonnelDatabaseJournal(filePath).replay(replayed, CHECKSUM);
+        assertEquals(Collections.singletonList(new DutyEvent(HOON, 2019, 4, 1, 5, DutyEvent.Kind.REWARD)),
+                replayed.getDutyCalendar().getDutyStorage().getEvents().stream()
+                        .filter(event -> event.getPerson().equals(HOON)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void replay_otherChecksum_editsIgnored() throws Exception {
+        Path filePath = getJournalFilePath();
+        JsonPersonnelDatabaseJournal journal = new JsonPersonnelDatabaseJournal(filePath);
+        journal.start(CHECKSUM);
+        journal.append(Collections.singletonList(new AddPersonEdit(HOON)));
+
+        PersonnelDatabase replayed = getTypicalPersonnelDatabase();
+        JsonPersonnelDatabaseJournal reopened = new JsonPersonnelDatabaseJournal(filePath);
+        reopened.replay(replayed, CHECKSUM + 1);
+        assertEquals(getTypicalPersonnelDatabase(), replayed);
+        assertFalse(reopened.hasEdits());
+    }
+
+    @Test
+    public void replay_tornLastEdit_lastEditDropped() throws Exception {
+        Path filePath = getJournalFilePath();
+        JsonPersonnelDatabaseJournal journal = new JsonPersonnelDatabaseJournal(filePath);
+        journal.start(CHECKSUM);
+        journal.append(Collections.singletonList(new AddPersonEdit(HOON)));
+        journal.append(Collections.singletonList(new AddPersonEdit(IDA)));
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.setLength(file.length() - 10);
+        }
+
+        PersonnelDatabase expected = getTypicalPersonnelDatabase();
+        expected.addPerson(HOON);
+        PersonnelDatabase replayed = getTypicalPersonnelDatabase();
+        JsonPersonnelDatabaseJournal reopened = new JsonPersonnelDatabaseJournal(filePath);
+        reopened.replay(replayed, CHECKSUM);
+        assertEquals(expected, replayed);
+
+        // the journal carries on after the last whole edit
+        assertTrue(reopened.append(Collections.singletonList(new AddPersonEdit(IDA))));
+        expected.addPerson(IDA);
+        replayed = getTypicalPersonnelDatabase();
+        new JsonPersonnelDatabaseJournal(filePath).replay(replayed, CHECKSUM);
+        assertEquals(expected, replayed);
+    }
+
+    @Test
+    public void append_noRoomOrNotStarted_returnsFalse() throws Exception {
+        JsonPersonnelDatabaseJournal journal = new JsonPersonnelDatabaseJournal(getJournalFilePath(), 1);
+        assertFalse(journal.append(Collections.singletonList(new AddPersonEdit(HOON))));
+
+        journal.start(CHECKSUM);
+        assertFalse(journal.append(Arrays.asList(new AddPersonEdit(HOON), new AddPersonEdit(IDA))));
+        assertFalse(journal.hasEdits());
+        assertTrue(journal.append(Collections.singletonList(new AddPersonEdit(HOON))));
+        assertFalse(journal.append(Collections.singletonList(new AddPersonEdit(IDA))));
+    }
+
+    private Path getJournalFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempPersonnelDatabase.json.journal");
+    }
+}
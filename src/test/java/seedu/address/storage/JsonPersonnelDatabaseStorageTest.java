@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
@@ -10,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabase;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +21,7 @@ import org.junit.rules.TemporaryFolder;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.PersonnelDatabase;
 import seedu.address.model.ReadOnlyPersonnelDatabase;
+import seedu.address.model.edit.AddPersonEdit;
 
 public class JsonPersonnelDatabaseStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
@@ -101,6 +104,42 @@ public class JsonPersonnelDatabaseStorageTest {
 
     }
 
+    @Test
+    public void readPersonnelDatabase_editsJournaled_editsMadeOnData() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempPersonnelDatabase.json");
+        Path journalFilePath = testFolder.getRoot().toPath().resolve("TempPersonnelDatabase.json.journal");
+        PersonnelDatabase original = getTypicalPersonnelDatabase();
+        JsonPersonnelDatabaseStorage jsonPersonnelDatabaseStorage =
+                new JsonPersonnelDatabaseStorage(filePath, new JsonPersonnelDatabaseJournal(journalFilePath));
+
+        // Journal an edit instead of saving the data file
+        jsonPersonnelDatabaseStorage.savePersonnelDatabase(original);
+        original.addPerson(HOON);
+        assertTrue(jsonPersonnelDatabaseStorage.journalPersonnelDatabaseEdits(
+                Collections.singletonList(new AddPersonEdit(HOON))));
+        assertTrue(jsonPersonnelDatabaseStorage.hasJournaledPersonnelDatabaseEdits());
+        ReadOnlyPersonnelDatabase readBack = new JsonPersonnelDatabaseStorage(filePath,
+                new JsonPersonnelDatabaseJournal(journalFilePath)).readPersonnelDatabase().get();
+        assertEquals(original, new PersonnelDatabase(readBack));
+
+        // Saving the data file starts the journal afresh
+        original.addPerson(IDA);
+        jsonPersonnelDatabaseStorage.savePersonnelDatabase(original);
+        assertFalse(jsonPersonnelDatabaseStorage.hasJournaledPersonnelDatabaseEdits());
+        readBack = new JsonPersonnelDatabaseStorage(filePath,
+                new JsonPersonnelDatabaseJournal(journalFilePath)).readPersonnelDatabase().get();
+        assertEquals(original, new PersonnelDatabase(readBack));
+    }
+
+    @Test
+    public void journalPersonnelDatabaseEdits_noJournal_returnsFalse() throws Exception {
+        JsonPersonnelDatabaseStorage jsonPersonnelDatabaseStorage =
+                new JsonPersonnelDatabaseStorage(testFolder.getRoot().toPath().resolve("TempPersonnelDatabase.json"));
+        assertFalse(jsonPersonnelDatabaseStorage.journalPersonnelDatabaseEdits(
+                Collections.singletonList(new AddPersonEdit(HOON))));
+        assertFalse(jsonPersonnelDatabaseStorage.hasJournaledPersonnelDatabaseEdits());
+    }
+
     @Test
     public void savePersonnelDatabase_nullPersonnelDatabase_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
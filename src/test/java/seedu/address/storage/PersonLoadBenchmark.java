@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.commons.core.UserType;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Password;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Rank;
+import seedu.address.model.person.Section;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the heap kept and the time taken to load persons from the fields read from a file, once through
+ * {@link JsonAdaptedPerson#toModelType}, which shares equal companies, sections, ranks and tags, and once building
+ * a new instance of each of them for every person, checking each field first as loading did before.
+ * Every field is a fresh string, as Jackson reads them from a file.
+ * This is not run with the tests. Run it from the test classpath with
+ * {@code java seedu.address.storage.PersonLoadBenchmark [persons]}.
+ */
+public class PersonLoadBenchmark {
+
+    private static final int DEFAULT_NUM_OF_PERSONS = 50000;
+    private static final String[] COMPANIES = {"Alpha", "Bravo", "Charlie", "Delta", "Echo", "HQ", "Support"};
+    private static final String[] RANKS = {"REC", "PTE", "LCP", "CPL", "3SG", "2SG", "1SG", "2LT", "LTA", "CPT"};
+    private static final String[] TAGS = {"Driver", "Medic", "Signaller", "Storeman", "Clerk", "Injured", "Leave"};
+    private static final int NUM_OF_SECTIONS = 4;
+    private static final int WARMUP_RUNS = 5;
+    private static final long SEED = 42;
+
+    /**
+     * Runs the benchmark and prints the heap kept and time taken by each way of loading.
+     */
+    public static void main(String[] args) throws Exception {
+        int numOfPersons = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUM_OF_PERSONS;
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            loadShared(readRecords(numOfPersons));
+            loadCopies(readRecords(numOfPersons));
+        }
+
+        List<String[]> records = readRecords(numOfPersons);
+        long baseline = usedHeap();
+        long start = System.nanoTime();
+        List<Person> copies = loadCopies(records);
+        long copiesTime = System.nanoTime() - start;
+        long copiesHeap = usedHeap() - baseline;
+        System.out.println(String.format("%d persons", copies.size()));
+        copies = null;
+
+        records = readRecords(numOfPersons);
+        baseline = usedHeap();
+        start = System.nanoTime();
+        List<Person> shared = loadShared(records);
+        long sharedTime = System.nanoTime() - start;
+        long sharedHeap = usedHeap() - baseline;
+        records = null;
+
+        System.out.println(String.format("new instances:    %.1f MB kept, %.1f ms",
+                copiesHeap / 1e6, copiesTime / 1e6));
+        System.out.println(String.format("shared instances: %.1f MB kept, %.1f ms",
+                sharedHeap / 1e6, sharedTime / 1e6));
+        System.out.println(shared.size() == numOfPersons ? "" : "persons lost");
+    }
+
+    /**
+     * Returns the fields of {@code numOfPersons} persons spread over a few companies, sections, ranks and tags,
+     * each field a fresh string.
+     */
+    private static List<String[]> readRecords(int numOfPersons) {
+        Random random = new Random(SEED);
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < numOfPersons; i++) {
+            String nric = String.format("S%07dA", i);
+            records.add(new String[] {nric, copyOf(COMPANIES[random.nextInt(COMPANIES.length)]),
+                Integer.toString(random.nextInt(NUM_OF_SECTIONS) + 1), copyOf(RANKS[random.nextInt(RANKS.length)]),
+                "Person " + i, String.format("9%07d", i), copyOf(TAGS[random.nextInt(TAGS.length)]),
+                Integer.toString(nric.hashCode())});
+        }
+        return records;
+    }
+
+    /**
+     * Loads {@code records} through {@code JsonAdaptedPerson}, which shares equal fields between persons.
+     */
+    private static List<Person> loadShared(List<String[]> records) throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (String[] record : records) {
+            persons.add(new JsonAdaptedPerson(record[0], record[1], record[2], record[3], record[4], record[5],
+                    Collections.singletonList(new JsonAdaptedTag(record[6])), record[7], UserType.GENERAL)
+                    .toModelType());
+        }
+        return persons;
+    }
+
+    /**
+     * Loads {@code records} with a new instance of every field, checking each field as {@code toModelType} does.
+     */
+    private static List<Person> loadCopies(List<String[]> records) {
+        List<Person> persons = new ArrayList<>();
+        for (String[] record : records) {
+            if (!Nric.isValidNric(record[0]) || !Company.isValidCompany(record[1])
+                    || !Section.isValidSection(record[2]) || !Rank.isValidRank(record[3])
+                    || !Name.isValidName(record[4]) || !Phone.isValidPhone(record[5])
+                    || !Tag.isValidTagName(record[6])) {
+                throw new IllegalArgumentException("Invalid record");
+            }
+            persons.add(new Person(new Nric(record[0]), new Company(record[1]), new Section(record[2]),
+                    new Rank(record[3]), new Name(record[4]), new Phone(record[5]),
+                    Collections.singleton(new Tag(record[6])), Password.hashlessPassword(record[7]),
+                    UserType.GENERAL));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the heap in use after collecting garbage.
+     */
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String copyOf(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersonnelDatabase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.PersonnelDatabase;
+import seedu.address.model.ReadOnlyPersonnelDatabase;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.edit.AddPersonEdit;
+
+public class PersonnelDatabaseSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<Runnable> queuedWrites = new ArrayList<>();
+    private CountingPersonnelDatabaseStorage personnelDatabaseStorage;
+    private PersonnelDatabaseSaver saver;
+
+    @Before
+    public void setUp() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempPersonnelDatabase.json");
+        personnelDatabaseStorage = new CountingPersonnelDatabaseStorage(filePath,
+                new JsonPersonnelDatabaseJournal(filePath.resolveSibling("TempPersonnelDatabase.json.journal")));
+        saver = new PersonnelDatabaseSaver(new StorageManager(personnelDatabaseStorage,
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("TempPrefs.json"))));
+        saver.setExecutors(queuedWrites::add, Runnable::run);
+    }
+
+    @Test
+    public void save_changesWhileWriteQueued_savedTogether() throws Exception {
+        PersonnelDatabase personnelDatabase = getTypicalPersonnelDatabase();
+        saver.save(new PersonnelDatabase(personnelDatabase), new UserPrefs(), Optional.empty());
+        personnelDatabase.addPerson(HOON);
+        saver.save(new PersonnelDatabase(personnelDatabase), new UserPrefs(), Optional.empty());
+        personnelDatabase.addPerson(IDA);
+        saver.save(new PersonnelDatabase(personnelDatabase), new UserPrefs(), Optional.empty());
+        assertEquals(1, queuedWrites.size());
+        assertTrue(saver.isDirty());
+
+        runQueuedWrites();
+        assertEquals(1, personnelDatabaseStorage.numOfSaves);
+        assertFalse(saver.isDirty());
+        assertEquals(personnelDatabase, readBack());
+    }
+
+    @Test
+    public void save_changesThroughEdits_editsJournaled() throws Exception {
+        PersonnelDatabase personnelDatabase = getTypicalPersonnelDatabase();
+        saver.save(new PersonnelDatabase(personnelDatabase), new UserPrefs(), Optional.empty());
+        runQueuedWrites();
+
+        personnelDatabase.addPerson(HOON);
+        saver.save(new PersonnelDatabase(personnelDatabase), new UserPrefs(),
+                Optional.of(Collections.singletonList(new AddPersonEdit(HOON))));
+        personnelDatabase.addPerson(IDA);
+        saver.save(new PersonnelDatabase(personnelDatabase), new UserPrefs(),
+                Optional.of(Collections.singletonList(new AddPersonEdit(IDA))));
+        runQueuedWrites();
+        assertEquals(1, personnelDatabaseStorage.numOfSaves);
+        assertTrue(personnelDatabaseStorage.hasJournaledPersonnelDatabaseEdits());
+        assertEquals(personnelDatabase, readBack());
+    }
+
+    @Test
+    public void save_writeFails_failureReportedAndChangesKept() throws Exception {
+        PersonnelDatabase personnelDatabase = getTypicalPersonnelDatabase();
+        personnelDatabaseStorage.isFailing = true;
+        saver.save(personnelDatabase, new UserPrefs(), Optional.empty());
+        runQueuedWrites();
+        assertEquals(DUMMY_IO_EXCEPTION, saver.saveFailureProperty().getValue());
+        assertTrue(saver.isDirty());
+
+        personnelDatabaseStorage.isFailing = false;
+        saver.retry();
+        runQueuedWrites();
+        assertNull(saver.saveFailureProperty().getValue());
+        assertFalse(saver.isDirty());
+        assertEquals(personnelDatabase, readBack());
+    }
+
+    @Test
+    public void flush_changesNotWritten_savedInCallingThread() throws Exception {
+        PersonnelDatabase personnelDatabase = getTypicalPersonnelDatabase();
+        saver.save(personnelDatabase, new UserPrefs(), Optional.empty());
+        saver.flush();
+        assertFalse(saver.isDirty());
+        assertEquals(personnelDatabase, readBack());
+
+        // The queued write finds nothing left to save
+        runQueuedWrites();
+        assertEquals(1, personnelDatabaseStorage.numOfSaves);
+    }
+
+    private void runQueuedWrites() {
+        List<Runnable> writes = new ArrayList<>(queuedWrites);
+        queuedWrites.clear();
+        writes.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns the personnel database read back from the data file and journal.
+     */
+    private PersonnelDatabase readBack() throws Exception {
+        Path filePath = personnelDatabaseStorage.getPersonnelDatabaseFilePath();
+        ReadOnlyPersonnelDatabase readBack = new JsonPersonnelDatabaseStorage(filePath,
+                new JsonPersonnelDatabaseJournal(filePath.resolveSibling("TempPersonnelDatabase.json.journal")))
+                .readPersonnelDatabase().get();
+        return new PersonnelDatabase(readBack);
+    }
+
+    /**
+     * A stub class counting the saves of the data file, which throws an {@code IOException} on save if failing.
+     */
+    private static class CountingPersonnelDatabaseStorage extends JsonPersonnelDatabaseStorage {
+        private int numOfSaves;
+        private boolean isFailing;
+
+        private CountingPersonnelDatabaseStorage(Path filePath, JsonPersonnelDatabaseJournal journal) {
+            super(filePath, journal);
+        }
+
+        @Override
+        public void savePersonnelDatabase(ReadOnlyPersonnelDatabase personnelDatabase,
+                                          Path filePath) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            numOfSaves++;
+            super.savePersonnelDatabase(personnelDatabase, filePath);
+        }
+    }
+}